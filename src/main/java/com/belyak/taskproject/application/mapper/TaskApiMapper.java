@@ -1,22 +1,91 @@
 package com.belyak.taskproject.application.mapper;
 
+import com.belyak.taskproject.common.util.CursorCodec;
+import com.belyak.taskproject.domain.model.CursorPage;
+import com.belyak.taskproject.domain.model.SearchPage;
 import com.belyak.taskproject.domain.model.Task;
-import com.belyak.taskproject.infrastructure.persistence.projections.TaskInfoProjection;
+import com.belyak.taskproject.domain.model.TaskBatchItem;
+import com.belyak.taskproject.domain.model.TaskEvent;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskSearchHit;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TeamDashboard;
+import com.belyak.taskproject.web.dto.response.BatchCreateTasksResponse;
+import com.belyak.taskproject.web.dto.response.CategoryResponse;
 import com.belyak.taskproject.web.dto.response.CreateTaskResponse;
+import com.belyak.taskproject.web.dto.response.CursorPageResponse;
+import com.belyak.taskproject.web.dto.response.TaskEventResponse;
 import com.belyak.taskproject.web.dto.response.TaskResponse;
+import com.belyak.taskproject.web.dto.response.TaskSearchResultResponse;
+import com.belyak.taskproject.web.dto.response.TeamDashboardResponse;
+import com.belyak.taskproject.web.dto.response.UserResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.time.Instant;
 import java.util.List;
 
 @Mapper(componentModel = "spring", uses = {CategoryApiMapper.class, TagApiMapper.class, UserApiMapper.class})
 public interface TaskApiMapper {
 
-    TaskResponse toResponse(TaskInfoProjection projection);
+    @Mapping(target = "category", expression = "java(toCategoryResponse(view))")
+    @Mapping(target = "assignee", expression = "java(toAssigneeResponse(view))")
+    TaskResponse toResponse(TaskView view);
 
-    List<TaskResponse> toResponseList(List<TaskInfoProjection> projections);
+    List<TaskResponse> toResponseList(List<TaskView> views);
+
+    default CategoryResponse toCategoryResponse(TaskView view) {
+        if (view.categoryId() == null) return null;
+
+        return new CategoryResponse(view.categoryId(), view.categoryName());
+    }
+
+    default UserResponse toAssigneeResponse(TaskView view) {
+        if (view.assigneeId() == null) return null;
+
+        return new UserResponse(view.assigneeId(), view.assigneeName(), view.assigneeEmail());
+    }
+
+    default CursorPageResponse<TaskResponse> toPageResponse(CursorPage<TaskView> page) {
+        return CursorPageResponse.<TaskResponse>builder()
+                .items(toResponseList(page.items()))
+                .nextCursor(CursorCodec.encode(page.nextCursor()))
+                .hasNext(page.hasNext())
+                .build();
+    }
+
+    TaskSearchResultResponse toSearchResultResponse(TaskSearchHit hit);
+
+    List<TaskSearchResultResponse> toSearchResultResponseList(List<TaskSearchHit> hits);
+
+    default CursorPageResponse<TaskSearchResultResponse> toSearchPageResponse(SearchPage<TaskSearchHit> page) {
+        return CursorPageResponse.<TaskSearchResultResponse>builder()
+                .items(toSearchResultResponseList(page.items()))
+                .nextCursor(CursorCodec.encodeSearch(page.nextCursor()))
+                .hasNext(page.hasNext())
+                .build();
+    }
+
+    TeamDashboardResponse toDashboardResponse(TeamDashboard dashboard, Instant asOf);
+
+    TaskEventResponse toEventResponse(TaskEvent event);
 
     @Mapping(target = "assigneeId", source = "assigneeId")
     @Mapping(target = "categoryId", source = "categoryId")
     CreateTaskResponse toCreateResponse(Task task);
+
+    default BatchCreateTasksResponse toBatchResponse(List<TaskBatchItem> items) {
+        List<BatchCreateTasksResponse.ItemResult> results = items.stream()
+                .map(item -> new BatchCreateTasksResponse.ItemResult(
+                        item.index(),
+                        item.isCreated() ? toCreateResponse(item.task()) : null,
+                        item.error()))
+                .toList();
+        int created = (int) items.stream().filter(TaskBatchItem::isCreated).count();
+
+        return BatchCreateTasksResponse.builder()
+                .created(created)
+                .rejected(items.size() - created)
+                .items(results)
+                .build();
+    }
 }
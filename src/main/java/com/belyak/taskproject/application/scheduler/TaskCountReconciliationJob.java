@@ -0,0 +1,31 @@
+package com.belyak.taskproject.application.scheduler;
+
+import com.belyak.taskproject.domain.port.repository.TaskCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Corrects the maintained category and tag task counts in case a write path missed them.
+ * Any correction points at such a path, hence the warning.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskCountReconciliationJob {
+
+    private final TaskCountRepository taskCountRepository;
+
+    @Transactional
+    @Scheduled(cron = "${app.scheduling.task-count-reconciliation-cron:0 30 3 * * *}")
+    public void reconcileTaskCounts() {
+        log.info("Starting scheduled task count reconciliation...");
+        int corrected = taskCountRepository.reconcile();
+        if (corrected > 0) {
+            log.warn("Corrected {} drifted task counts", corrected);
+        }
+        log.info("Scheduled task count reconciliation finished.");
+    }
+}
@@ -7,6 +7,10 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Permanently deletes soft-deleted teams. Off unless {@code app.scheduling.team-cleanup-cron} is set,
+ * since enabling scheduling must not start destroying data.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -15,7 +19,7 @@ public class TeamCleanupJob {
     private final TeamService teamService;
 
     @Transactional
-    @Scheduled(cron = "${app.scheduling.team-cleanup-cron:0 0 3 * * *}")
+    @Scheduled(cron = "${app.scheduling.team-cleanup-cron:-}")
     public void permanentlyDeleteOldTeams() {
         log.info("Starting scheduled team cleanup...");
         teamService.cleanupDeletedTeams();
@@ -4,8 +4,10 @@ import com.belyak.taskproject.domain.exception.CategoryAlreadyExistsException;
 import com.belyak.taskproject.domain.model.Category;
 import com.belyak.taskproject.domain.model.TaskStatus;
 import com.belyak.taskproject.domain.port.repository.CategoryRepository;
+import com.belyak.taskproject.domain.port.repository.TeamRepository;
 import com.belyak.taskproject.domain.port.service.CategoryService;
 import com.belyak.taskproject.infrastructure.persistence.projections.CategoryInfoWithTaskCountProjection;
+import com.belyak.taskproject.infrastructure.security.access.MembershipCache;
 import com.belyak.taskproject.domain.policy.CategoryDeletionRule;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +22,9 @@ import java.util.UUID;
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final TeamRepository teamRepository;
     private final List<CategoryDeletionRule> deletionRules;
+    private final MembershipCache membershipCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -36,7 +40,11 @@ public class CategoryServiceImpl implements CategoryService {
                     "Category with name '%s' already exists.".formatted(name));
         }
         Category newCategory = Category.createNew(name);
-        return categoryRepository.createCategory(teamId, newCategory);
+        Category savedCategory = categoryRepository.createCategory(teamId, newCategory);
+        membershipCache.registerCategory(teamId, savedCategory.getId());
+        teamRepository.incrementBoardVersion(teamId);
+
+        return savedCategory;
     }
 
     @Override
@@ -47,6 +55,8 @@ public class CategoryServiceImpl implements CategoryService {
 
         deletionRules.forEach(rule -> rule.validate(category));
 
+        categoryRepository.findTeamIdById(categoryId).ifPresent(teamRepository::incrementBoardVersion);
         categoryRepository.deleteById(categoryId);
+        membershipCache.evictCategory(categoryId);
     }
 }
@@ -8,6 +8,7 @@ import com.belyak.taskproject.domain.port.repository.TagRepository;
 import com.belyak.taskproject.domain.port.repository.TeamRepository;
 import com.belyak.taskproject.domain.port.service.TagService;
 import com.belyak.taskproject.infrastructure.persistence.projections.TagInfoWithTaskCountProjection;
+import com.belyak.taskproject.infrastructure.security.access.MembershipCache;
 import com.belyak.taskproject.domain.policy.TagDeletionRule;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,7 @@ public class TagServiceImpl implements TagService {
     private final TagRepository tagRepository;
     private final TeamRepository teamRepository;
     private final List<TagDeletionRule> deletionRules;
+    private final MembershipCache membershipCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -60,7 +62,11 @@ public class TagServiceImpl implements TagService {
                 .map(item -> Tag.createNew(item.name(), item.color()))
                 .toList();
 
-        return tagRepository.createTags(teamId, tagsToCreate);
+        List<Tag> createdTags = tagRepository.createTags(teamId, tagsToCreate);
+        membershipCache.registerTags(teamId, createdTags.stream().map(Tag::getId).toList());
+        teamRepository.incrementBoardVersion(teamId);
+
+        return createdTags;
     }
 
     @Override
@@ -71,6 +77,8 @@ public class TagServiceImpl implements TagService {
 
         deletionRules.forEach(rule -> rule.validate(tag));
 
+        tagRepository.findTeamIdById(tagId).ifPresent(teamRepository::incrementBoardVersion);
         tagRepository.deleteById(tagId);
+        membershipCache.evictTag(tagId);
     }
 }
@@ -1,43 +1,131 @@
 package com.belyak.taskproject.application.service;
 
+import com.belyak.taskproject.domain.exception.InvalidSearchQueryException;
+import com.belyak.taskproject.domain.exception.VersionMismatchException;
+import com.belyak.taskproject.domain.model.CursorPage;
+import com.belyak.taskproject.domain.model.SearchPage;
 import com.belyak.taskproject.domain.model.Task;
+import com.belyak.taskproject.domain.model.TaskBatchItem;
+import com.belyak.taskproject.domain.model.TaskCountDelta;
+import com.belyak.taskproject.domain.model.TaskCursor;
+import com.belyak.taskproject.domain.model.TaskEvent;
+import com.belyak.taskproject.domain.model.TaskEventType;
+import com.belyak.taskproject.domain.model.TaskFilter;
+import com.belyak.taskproject.domain.model.TaskSearchCursor;
 import com.belyak.taskproject.domain.model.TaskStatus;
+import com.belyak.taskproject.domain.port.repository.CategoryRepository;
+import com.belyak.taskproject.domain.port.repository.TagRepository;
+import com.belyak.taskproject.domain.port.repository.TaskCountRepository;
 import com.belyak.taskproject.domain.port.repository.TaskRepository;
 import com.belyak.taskproject.domain.port.repository.TeamRepository;
 import com.belyak.taskproject.domain.port.service.TaskService;
-import com.belyak.taskproject.infrastructure.persistence.projections.TaskInfoProjection;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskSearchHit;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TeamDashboard;
+import com.belyak.taskproject.infrastructure.security.access.MembershipCache;
 import com.belyak.taskproject.web.dto.request.CreateTaskRequest;
 import com.belyak.taskproject.web.dto.request.UpdateTaskRequest;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.security.access.AccessDeniedException;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    private static final int DASHBOARD_TOP_TAGS = 5;
+
     private final TaskRepository taskRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
     private final TeamRepository teamRepository;
+    private final TaskCountRepository taskCountRepository;
+    private final MembershipCache membershipCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskInfoProjection> findTeamTasks(UUID teamId, TaskStatus taskStatus) {
-        return taskRepository.findAllByTeamIdAndStatus(teamId, taskStatus);
+    public CursorPage<TaskView> findTeamTasks(UUID teamId, TaskFilter filter, TaskCursor after, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
+        // One extra row tells whether a next page exists
+        List<TaskView> rows = taskRepository.findPage(teamId, filter, after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<TaskView> items = rows.subList(0, pageSize);
+        TaskView last = items.getLast();
+
+        return new CursorPage<>(items, new TaskCursor(last.createdAt(), last.id()));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public TaskInfoProjection getTaskDetails(UUID teamId, UUID taskId) {
+    public TaskView getTaskDetails(UUID teamId, UUID taskId) {
         return taskRepository.findDetailsById(taskId)
                 .orElseThrow(() -> new EntityNotFoundException("Task with id '%s' not found".formatted(taskId)));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public SearchPage<TaskSearchHit> searchTasks(UUID teamId, String query, TaskSearchCursor after, int limit) {
+        String text = query == null ? "" : query.strip();
+        if (text.isEmpty()) {
+            throw new InvalidSearchQueryException("Search query must not be blank");
+        }
+        if (text.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException("Search query must be at most %d characters".formatted(MAX_SEARCH_QUERY_LENGTH));
+        }
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
+        // One extra row tells whether a next page exists
+        List<TaskSearchHit> rows = taskRepository.search(teamId, text, after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new SearchPage<>(rows, null);
+        }
+
+        List<TaskSearchHit> items = rows.subList(0, pageSize);
+        TaskSearchHit last = items.getLast();
+
+        return new SearchPage<>(items, new TaskSearchCursor(last.rank(), last.task().id()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getBoardVersion(UUID teamId) {
+        return teamRepository.findBoardVersion(teamId)
+                .orElseThrow(() -> new EntityNotFoundException("Team with id '%s' not found".formatted(teamId)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TeamDashboard getDashboard(UUID teamId, Instant asOf) {
+        return taskRepository.getDashboard(teamId, asOf, DASHBOARD_TOP_TAGS);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTeamTasks(UUID teamId, Consumer<TaskView> sink) {
+        taskRepository.forEachByTeamId(teamId, sink);
+    }
+
     @Override
     @Transactional
     public Task createTask(UUID teamId, CreateTaskRequest request) {
@@ -55,13 +143,76 @@ public class TaskServiceImpl implements TaskService {
                 request.tagIds()
         );
 
-        return taskRepository.save(newTask);
+        Task savedTask = taskRepository.save(newTask);
+        taskCountRepository.apply(TaskCountDelta.added(savedTask));
+        teamRepository.incrementBoardVersion(teamId);
+        publish(TaskEventType.CREATED, teamId, savedTask.getId());
+
+        return savedTask;
+    }
+
+    @Override
+    @Transactional
+    public List<TaskBatchItem> createTasks(UUID teamId, List<CreateTaskRequest> requests) {
+        // One lookup per kind of reference for the whole batch
+        Set<UUID> knownCategoryIds = categoryRepository.findExistingCategoryIds(teamId, requests.stream()
+                .map(CreateTaskRequest::categoryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        Set<UUID> knownTagIds = tagRepository.findExistingTagIds(teamId, requests.stream()
+                .filter(request -> request.tagIds() != null)
+                .flatMap(request -> request.tagIds().stream())
+                .collect(Collectors.toSet()));
+
+        TaskBatchItem[] results = new TaskBatchItem[requests.size()];
+        List<Task> accepted = new ArrayList<>(requests.size());
+        List<Integer> acceptedIndexes = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateTaskRequest request = requests.get(i);
+            String error = findReferenceError(teamId, request, knownCategoryIds, knownTagIds);
+            if (error != null) {
+                results[i] = TaskBatchItem.rejected(i, error);
+                continue;
+            }
+
+            try {
+                accepted.add(Task.createNew(
+                        teamId,
+                        request.title(),
+                        request.description(),
+                        request.status(),
+                        request.priority(),
+                        request.dueDate(),
+                        request.categoryId(),
+                        request.assigneeId(),
+                        request.tagIds()
+                ));
+                acceptedIndexes.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = TaskBatchItem.rejected(i, e.getMessage());
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            List<Task> created = taskRepository.createAll(accepted);
+            taskCountRepository.apply(TaskCountDelta.added(created));
+            for (int j = 0; j < created.size(); j++) {
+                int index = acceptedIndexes.get(j);
+                results[index] = TaskBatchItem.created(index, created.get(j));
+                publish(TaskEventType.CREATED, teamId, created.get(j).getId());
+            }
+            teamRepository.incrementBoardVersion(teamId);
+        }
+
+        return Arrays.asList(results);
     }
 
     @Override
     @Transactional
-    public Task updateTask(UUID teamId, UUID taskId, UpdateTaskRequest request) {
+    public Task updateTask(UUID teamId, UUID taskId, UpdateTaskRequest request, Long expectedVersion) {
         Task task = getTaskOrThrow(teamId, taskId);
+        task.ensureVersion(expectedVersion);
 
         Task updatedTask = task.updateDetails(
                 request.title(),
@@ -73,37 +224,59 @@ public class TaskServiceImpl implements TaskService {
                 request.tagIds()
         );
 
-        return taskRepository.save(updatedTask);
+        Task savedTask = taskRepository.save(updatedTask);
+        taskCountRepository.apply(TaskCountDelta.changed(task, savedTask));
+        teamRepository.incrementBoardVersion(teamId);
+        publish(TaskEventType.UPDATED, teamId, taskId);
+
+        return savedTask;
     }
 
     @Override
     @Transactional
-    public void updateStatus(UUID teamId, UUID taskId, TaskStatus newStatus) {
-        Task task = getTaskOrThrow(teamId, taskId);
-        Task updatedTask = task.changeStatus(newStatus);
-        taskRepository.save(updatedTask);
+    public void updateStatus(UUID teamId, UUID taskId, TaskStatus newStatus, Long expectedVersion) {
+        if (newStatus == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        // Reads the current status under a row lock; rolled back with the rest if the update is rejected
+        taskCountRepository.moveStatus(teamId, taskId, newStatus);
+        if (!taskRepository.updateStatus(teamId, taskId, newStatus, expectedVersion)) {
+            throw updateRejected(teamId, taskId, expectedVersion);
+        }
+        teamRepository.incrementBoardVersion(teamId);
+        publish(TaskEventType.STATUS_CHANGED, teamId, taskId);
     }
 
     @Override
     @Transactional
-    public void assignTask(UUID teamId, UUID taskId, UUID assigneeId) {
-        Task task = getTaskOrThrow(teamId, taskId);
-        if (assigneeId != null) {
-            validateAssignee(teamId, assigneeId);
-            task = task.assign(assigneeId);
-        } else {
-            task = task.unassign();
-        }
+    public void assignTask(UUID teamId, UUID taskId, UUID assigneeId, Long expectedVersion) {
+        validateAssignee(teamId, assigneeId);
 
-        taskRepository.save(task);
+        if (!taskRepository.updateAssignee(teamId, taskId, assigneeId, expectedVersion)) {
+            throw updateRejected(teamId, taskId, expectedVersion);
+        }
+        teamRepository.incrementBoardVersion(teamId);
+        publish(TaskEventType.ASSIGNED, teamId, taskId);
     }
 
     @Override
-    public void deleteTask(UUID teamId, UUID taskId) {
-        if (!taskRepository.existsById(taskId)) {
-            throw new EntityNotFoundException("Task with id '%s' not found".formatted(taskId));
-        }
+    @Transactional
+    public void deleteTask(UUID teamId, UUID taskId, Long expectedVersion) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new EntityNotFoundException("Task with id '%s' not found".formatted(taskId)));
+        task.ensureVersion(expectedVersion);
+
         taskRepository.deleteById(taskId);
+        taskCountRepository.apply(TaskCountDelta.removed(task));
+        teamRepository.incrementBoardVersion(task.getTeamId());
+        publish(TaskEventType.DELETED, task.getTeamId(), taskId);
+    }
+
+    /**
+     * Subscribers only receive the event once the surrounding transaction commits.
+     */
+    private void publish(TaskEventType type, UUID teamId, UUID taskId) {
+        eventPublisher.publishEvent(TaskEvent.of(type, teamId, taskId));
     }
 
     private Task getTaskOrThrow(UUID teamId, UUID taskId) {
@@ -116,8 +289,37 @@ public class TaskServiceImpl implements TaskService {
         return task;
     }
 
+    /**
+     * Explains a targeted update that matched no row; only runs on the failure path.
+     * Throws itself when the task is missing or in another team, otherwise the version was stale.
+     */
+    private RuntimeException updateRejected(UUID teamId, UUID taskId, Long expectedVersion) {
+        Task task = getTaskOrThrow(teamId, taskId);
+
+        return new VersionMismatchException("Task '%s' is at version %d, not %d"
+                .formatted(taskId, task.getVersion(), expectedVersion));
+    }
+
+    private String findReferenceError(UUID teamId, CreateTaskRequest request,
+                                      Set<UUID> knownCategoryIds, Set<UUID> knownTagIds) {
+        if (!knownCategoryIds.contains(request.categoryId())) {
+            return "Category '%s' not found in team".formatted(request.categoryId());
+        }
+        if (request.tagIds() != null) {
+            for (UUID tagId : request.tagIds()) {
+                if (!knownTagIds.contains(tagId)) {
+                    return "Tag '%s' not found in team".formatted(tagId);
+                }
+            }
+        }
+        if (request.assigneeId() != null && !membershipCache.isMember(teamId, request.assigneeId())) {
+            return "Assignee must be a member of the team";
+        }
+        return null;
+    }
+
     private void validateAssignee(UUID teamId, UUID assigneeId) {
-        if (assigneeId != null && !teamRepository.isMember(teamId, assigneeId)) {
+        if (assigneeId != null && !membershipCache.isMember(teamId, assigneeId)) {
             throw new IllegalArgumentException("Assignee must be a member of the team");
         }
     }
@@ -3,12 +3,16 @@ package com.belyak.taskproject.application.service;
 import com.belyak.taskproject.application.mapper.TeamApiMapper;
 import com.belyak.taskproject.common.util.CodeGeneratorUtils;
 import com.belyak.taskproject.common.util.UniqueCodeGenerator;
+import com.belyak.taskproject.domain.model.MembershipRevokedEvent;
 import com.belyak.taskproject.domain.model.Team;
 import com.belyak.taskproject.domain.model.TeamStatus;
 import com.belyak.taskproject.domain.port.repository.TeamRepository;
+import com.belyak.taskproject.domain.port.repository.UserRepository;
 import com.belyak.taskproject.domain.port.service.TeamService;
 import com.belyak.taskproject.infrastructure.persistence.projections.TeamDetailsProjection;
 import com.belyak.taskproject.infrastructure.persistence.projections.TeamSummaryProjection;
+import com.belyak.taskproject.infrastructure.security.access.MembershipCache;
+import com.belyak.taskproject.infrastructure.security.jwt.PrincipalCache;
 import com.belyak.taskproject.web.dto.request.CreateTeamRequest;
 import com.belyak.taskproject.web.dto.request.JoinTeamRequest;
 import com.belyak.taskproject.web.dto.response.TeamDetailsResponse;
@@ -16,6 +20,7 @@ import com.belyak.taskproject.web.dto.response.TeamResponse;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -36,6 +41,10 @@ public class TeamServiceImpl implements TeamService {
     private final PasswordEncoder passwordEncoder;
     private final UniqueCodeGenerator uniqueCodeGenerator;
     private final TeamApiMapper teamApiMapper;
+    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final MembershipCache membershipCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -53,8 +62,10 @@ public class TeamServiceImpl implements TeamService {
         String encodedPassword = passwordEncoder.encode(request.password());
 
         Team newTeam = Team.createNew(request.name(), ownerId, joinCode, encodedPassword);
+        Team savedTeam = teamRepository.save(newTeam);
 
-        return teamRepository.save(newTeam);
+        onMembershipChanged(savedTeam.getId(), ownerId);
+        return savedTeam;
     }
 
     @Override
@@ -69,11 +80,13 @@ public class TeamServiceImpl implements TeamService {
 
         team.addMember(userId);
         Team savedTeam = teamRepository.save(team);
+        onMembershipChanged(team.getId(), userId);
 
         return teamApiMapper.toResponse(savedTeam);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Team findById(UUID teamId) {
         return teamRepository.findById(teamId)
                 .orElseThrow(() -> new EntityNotFoundException("Team with '%sid' not found: ".formatted(teamId)));
@@ -90,15 +103,18 @@ public class TeamServiceImpl implements TeamService {
 
     @Override
     @Transactional
-    public void kickMember(UUID teamId, UUID memberId, UUID initiatorId) {
+    public void kickMember(UUID teamId, UUID memberId, UUID initiatorId, Long expectedVersion) {
         Team team = findById(teamId);
 
         if (!team.getOwnerId().equals(initiatorId)) {
             throw new AccessDeniedException("Only owner can kick members");
         }
+        team.ensureVersion(expectedVersion);
 
         team.removeMember(memberId);
         teamRepository.save(team);
+        onMembershipChanged(teamId, memberId);
+        eventPublisher.publishEvent(new MembershipRevokedEvent(teamId, memberId));
     }
 
     @Override
@@ -108,5 +124,18 @@ public class TeamServiceImpl implements TeamService {
 
         int deletedCount = teamRepository.deleteByStatusAndDeletedAtBefore(TeamStatus.DELETED, retentionLimit);
         log.info("Cleaned up {} old teams", deletedCount);
+
+        if (deletedCount > 0) {
+            membershipCache.evictAll();
+        }
+    }
+
+    /**
+     * Invalidates the cached member set of the team and the membership claims embedded in the user's existing tokens.
+     */
+    private void onMembershipChanged(UUID teamId, UUID userId) {
+        membershipCache.evictTeam(teamId);
+        userRepository.incrementMembershipVersion(userId);
+        principalCache.evictById(userId);
     }
 }
@@ -1,8 +1,10 @@
 package com.belyak.taskproject.application.service;
 
 import com.belyak.taskproject.domain.model.User;
+import com.belyak.taskproject.domain.port.repository.TeamRepository;
 import com.belyak.taskproject.domain.port.repository.UserRepository;
 import com.belyak.taskproject.domain.port.service.UserService;
+import com.belyak.taskproject.infrastructure.security.jwt.PrincipalCache;
 import com.belyak.taskproject.web.dto.request.UpdateUserRequest;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,8 @@ import java.util.UUID;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -30,7 +34,11 @@ public class UserServiceImpl implements UserService {
         User user = findUserById(userId);
 
         User updatedUser = user.updateProfile(request.name());
+        User savedUser = userRepository.save(updatedUser);
+        // Boards show assignee names
+        teamRepository.incrementBoardVersionsShowingUser(userId);
 
-        return userRepository.save(updatedUser);
+        principalCache.evict(savedUser.getEmail());
+        return savedUser;
     }
 }
@@ -0,0 +1,114 @@
+package com.belyak.taskproject.common.util;
+
+import com.belyak.taskproject.domain.exception.InvalidCursorException;
+import com.belyak.taskproject.domain.model.TaskCursor;
+import com.belyak.taskproject.domain.model.TaskSearchCursor;
+import lombok.experimental.UtilityClass;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+@UtilityClass
+public class CursorCodec {
+
+    private static final int CURSOR_BYTES = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+    private static final int SEARCH_CURSOR_BYTES = Float.BYTES + 2 * Long.BYTES;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Encodes the cursor as an opaque URL-safe token.
+     * <p>
+     * Layout: epoch seconds, nanos, id (most and least significant bits), Base64url without padding.
+     *
+     * @param cursor the cursor, may be {@code null}
+     * @return the token, or {@code null} for a {@code null} cursor
+     */
+    public static String encode(TaskCursor cursor) {
+        if (cursor == null) return null;
+
+        ByteBuffer buffer = ByteBuffer.allocate(CURSOR_BYTES)
+                .putLong(cursor.createdAt().getEpochSecond())
+                .putInt(cursor.createdAt().getNano())
+                .putLong(cursor.id().getMostSignificantBits())
+                .putLong(cursor.id().getLeastSignificantBits());
+
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode(TaskCursor)}.
+     *
+     * @param token the token, may be {@code null} or blank for the first page
+     * @return the cursor, or {@code null} for a {@code null} or blank token
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static TaskCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        ByteBuffer buffer = decodeBytes(token, CURSOR_BYTES);
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        return new TaskCursor(Instant.ofEpochSecond(seconds, nanos), new UUID(buffer.getLong(), buffer.getLong()));
+    }
+
+    /**
+     * Encodes a search cursor as an opaque URL-safe token.
+     * <p>
+     * Layout: rank as IEEE 754 bits, id (most and least significant bits), Base64url without padding.
+     *
+     * @param cursor the cursor, may be {@code null}
+     * @return the token, or {@code null} for a {@code null} cursor
+     */
+    public static String encodeSearch(TaskSearchCursor cursor) {
+        if (cursor == null) return null;
+
+        ByteBuffer buffer = ByteBuffer.allocate(SEARCH_CURSOR_BYTES)
+                .putFloat(cursor.rank())
+                .putLong(cursor.id().getMostSignificantBits())
+                .putLong(cursor.id().getLeastSignificantBits());
+
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a token produced by {@link #encodeSearch(TaskSearchCursor)}.
+     *
+     * @param token the token, may be {@code null} or blank for the first page
+     * @return the cursor, or {@code null} for a {@code null} or blank token
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static TaskSearchCursor decodeSearch(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        ByteBuffer buffer = decodeBytes(token, SEARCH_CURSOR_BYTES);
+        float rank = buffer.getFloat();
+        if (!Float.isFinite(rank)) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        return new TaskSearchCursor(rank, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+
+    private static ByteBuffer decodeBytes(String token, int expectedLength) {
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(token);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        if (bytes.length != expectedLength) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        return ByteBuffer.wrap(bytes);
+    }
+}
@@ -0,0 +1,61 @@
+package com.belyak.taskproject.common.util;
+
+import com.belyak.taskproject.domain.exception.VersionMismatchException;
+import lombok.experimental.UtilityClass;
+import org.springframework.http.CacheControl;
+
+import java.time.Instant;
+
+@UtilityClass
+public class EntityTags {
+
+    private static final String ANY = "*";
+
+    /**
+     * Formats an entity version as a strong entity tag, e.g. {@code "3"}.
+     */
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Formats an entity version that is only valid at {@code asOf}, to the minute, e.g. {@code "3-29136180"}.
+     */
+    public static String of(long version, Instant asOf) {
+        return "\"" + version + "-" + asOf.getEpochSecond() / 60 + "\"";
+    }
+
+    /**
+     * Lets clients keep a tagged response but makes them revalidate it on every use,
+     * instead of the {@code no-store} that Spring Security sends by default.
+     */
+    public static CacheControl revalidate() {
+        return CacheControl.noCache().cachePrivate();
+    }
+
+    /**
+     * Reads the version a write is conditional on from an {@code If-Match} header.
+     * <p>
+     * Only single tags produced by {@link #of(long)} are recognized. Anything else, including weak tags,
+     * can never match a strong comparison, so it fails the precondition right away.
+     *
+     * @param ifMatch the header value, may be {@code null}
+     * @return the expected version, or {@code null} when the header is absent, blank or {@code *}
+     * @throws VersionMismatchException if the header holds no version tag
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) return null;
+
+        String tag = ifMatch.strip();
+        if (tag.equals(ANY)) return null;
+
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            throw new VersionMismatchException("If-Match does not hold a version tag: " + ifMatch);
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new VersionMismatchException("If-Match does not hold a version tag: " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.belyak.taskproject.common.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered UUIDs, version 7 (RFC 9562).
+ * <p>
+ * Layout: 48-bit Unix epoch milliseconds, version, 12-bit counter, variant, 62 random bits.
+ * The counter restarts every millisecond and carries into the timestamp when exhausted,
+ * so ids from this JVM are strictly increasing in PostgreSQL's {@code uuid} ordering.
+ */
+@UtilityClass
+public class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /** Last issued {@code timestamp << COUNTER_BITS | counter}. */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    public static UUID next() {
+        return next(System::currentTimeMillis);
+    }
+
+    static UUID next(LongSupplier clock) {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        long timeAndCounter = LAST.updateAndGet(last -> Math.max(now, last + 1));
+
+        long msb = (timeAndCounter >>> COUNTER_BITS) << 16
+                   | VERSION
+                   | (timeAndCounter & ((1L << COUNTER_BITS) - 1));
+        long lsb = VARIANT | (RANDOM.nextLong() & RANDOM_MASK);
+
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Milliseconds since the Unix epoch encoded in a version 7 UUID.
+     */
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
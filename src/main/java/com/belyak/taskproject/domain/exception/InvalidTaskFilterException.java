@@ -0,0 +1,7 @@
+package com.belyak.taskproject.domain.exception;
+
+public class InvalidTaskFilterException extends RuntimeException {
+    public InvalidTaskFilterException(String message) {
+        super(message);
+    }
+}
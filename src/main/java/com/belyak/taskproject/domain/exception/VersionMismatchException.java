@@ -0,0 +1,7 @@
+package com.belyak.taskproject.domain.exception;
+
+public class VersionMismatchException extends RuntimeException {
+    public VersionMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.belyak.taskproject.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list. {@code nextCursor} is {@code null} on the last page.
+ */
+public record CursorPage<T>(List<T> items, TaskCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.belyak.taskproject.domain.model;
+
+import java.util.UUID;
+
+/**
+ * A user lost access to a team. Published inside the writing transaction and only delivered once it commits.
+ */
+public record MembershipRevokedEvent(UUID teamId, UUID userId) {
+}
@@ -0,0 +1,13 @@
+package com.belyak.taskproject.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of ranked search results. {@code nextCursor} is {@code null} on the last page.
+ */
+public record SearchPage<T>(List<T> items, TaskSearchCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
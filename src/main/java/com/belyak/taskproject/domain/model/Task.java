@@ -1,5 +1,6 @@
 package com.belyak.taskproject.domain.model;
 
+import com.belyak.taskproject.domain.exception.VersionMismatchException;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,6 +28,7 @@ public class Task {
     private final UUID assigneeId;
     private final UUID categoryId;
     private final Set<UUID> tagIds;
+    private final Long version;
 
     public static Task createNew(UUID teamId, String title, String description,
                                  TaskStatus status, TaskPriority priority, Instant dueDate,
@@ -64,19 +66,13 @@ public class Task {
                 .build();
     }
 
-    public Task changeStatus(TaskStatus newStatus) {
-        if (newStatus == null) {
-            throw new IllegalArgumentException("Status cannot be null");
+    /**
+     * Fails unless the task is still at the version the caller last read; {@code null} skips the check.
+     */
+    public void ensureVersion(Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(version)) {
+            throw new VersionMismatchException("Task '%s' is at version %d, not %d".formatted(id, version, expectedVersion));
         }
-        return this.toBuilder().status(newStatus).build();
-    }
-
-    public Task assign(UUID newAssigneeId) {
-        return this.toBuilder().assigneeId(newAssigneeId).build();
-    }
-
-    public Task unassign() {
-        return this.toBuilder().assigneeId(null).build();
     }
 
     private static void validateTitle(String title) {
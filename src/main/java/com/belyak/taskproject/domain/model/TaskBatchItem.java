@@ -0,0 +1,19 @@
+package com.belyak.taskproject.domain.model;
+
+/**
+ * Outcome of one item of a bulk task creation: either the created task or the reason it was rejected.
+ */
+public record TaskBatchItem(int index, Task task, String error) {
+
+    public static TaskBatchItem created(int index, Task task) {
+        return new TaskBatchItem(index, task, null);
+    }
+
+    public static TaskBatchItem rejected(int index, String error) {
+        return new TaskBatchItem(index, null, error);
+    }
+
+    public boolean isCreated() {
+        return task != null;
+    }
+}
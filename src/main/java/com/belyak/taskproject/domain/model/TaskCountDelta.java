@@ -0,0 +1,71 @@
+package com.belyak.taskproject.domain.model;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Change that task writes make to the maintained task counts per {@code (category, status)} and
+ * {@code (tag, status)}. A task counts once towards its category and once towards each of its tags,
+ * under its current status. Only non-zero changes are kept.
+ */
+public record TaskCountDelta(Map<Key, Integer> categories, Map<Key, Integer> tags) {
+
+    public record Key(UUID id, TaskStatus status) {
+    }
+
+    public TaskCountDelta {
+        categories = Map.copyOf(categories);
+        tags = Map.copyOf(tags);
+    }
+
+    public static TaskCountDelta added(Task task) {
+        return added(List.of(task));
+    }
+
+    public static TaskCountDelta added(Collection<Task> tasks) {
+        Builder builder = new Builder();
+        tasks.forEach(task -> builder.count(task, 1));
+        return builder.build();
+    }
+
+    public static TaskCountDelta removed(Task task) {
+        return new Builder().count(task, -1).build();
+    }
+
+    /**
+     * Moves the counts of the task from its state {@code before} to its state {@code after}; empty when
+     * neither category, tags nor status changed.
+     */
+    public static TaskCountDelta changed(Task before, Task after) {
+        return new Builder().count(before, -1).count(after, 1).build();
+    }
+
+    public boolean isEmpty() {
+        return categories.isEmpty() && tags.isEmpty();
+    }
+
+    private static final class Builder {
+
+        private final Map<Key, Integer> categories = new HashMap<>();
+        private final Map<Key, Integer> tags = new HashMap<>();
+
+        Builder count(Task task, int sign) {
+            if (task.getCategoryId() != null) {
+                categories.merge(new Key(task.getCategoryId(), task.getStatus()), sign, Integer::sum);
+            }
+            Set<UUID> tagIds = task.getTagIds() != null ? task.getTagIds() : Set.of();
+            tagIds.forEach(tagId -> tags.merge(new Key(tagId, task.getStatus()), sign, Integer::sum));
+            return this;
+        }
+
+        TaskCountDelta build() {
+            categories.values().removeIf(count -> count == 0);
+            tags.values().removeIf(count -> count == 0);
+            return new TaskCountDelta(categories, tags);
+        }
+    }
+}
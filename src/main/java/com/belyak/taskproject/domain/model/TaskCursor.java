@@ -0,0 +1,17 @@
+package com.belyak.taskproject.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keyset position in a task list ordered by {@code (createdAt DESC, id DESC)}:
+ * the sort key of the last task returned. The next page starts strictly after it.
+ */
+public record TaskCursor(Instant createdAt, UUID id) {
+
+    public TaskCursor {
+        Objects.requireNonNull(createdAt, "createdAt");
+        Objects.requireNonNull(id, "id");
+    }
+}
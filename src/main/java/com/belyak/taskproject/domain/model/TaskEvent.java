@@ -0,0 +1,14 @@
+package com.belyak.taskproject.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A change to a task of a team. Published inside the writing transaction and only delivered once it commits.
+ */
+public record TaskEvent(TaskEventType type, UUID teamId, UUID taskId, Instant occurredAt) {
+
+    public static TaskEvent of(TaskEventType type, UUID teamId, UUID taskId) {
+        return new TaskEvent(type, teamId, taskId, Instant.now());
+    }
+}
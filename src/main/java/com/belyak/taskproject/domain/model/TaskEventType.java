@@ -0,0 +1,9 @@
+package com.belyak.taskproject.domain.model;
+
+public enum TaskEventType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    ASSIGNED,
+    DELETED
+}
@@ -0,0 +1,64 @@
+package com.belyak.taskproject.domain.model;
+
+import com.belyak.taskproject.domain.exception.InvalidTaskFilterException;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Criteria of a task list. All given criteria must hold; an empty set or {@code null} does not restrict.
+ *
+ * @param statuses   any of these statuses
+ * @param priorities any of these priorities
+ * @param tagIds     tags of the task, matched according to {@code tagMatch}
+ * @param dueFrom    due date at or after this instant
+ * @param dueTo      due date strictly before this instant
+ * @param text       full-text query over title and description, in web search syntax
+ */
+@Builder
+public record TaskFilter(
+        Set<TaskStatus> statuses,
+        Set<TaskPriority> priorities,
+        UUID assigneeId,
+        UUID categoryId,
+        Set<UUID> tagIds,
+        TagMatch tagMatch,
+        Instant dueFrom,
+        Instant dueTo,
+        String text
+) {
+
+    public static final int MAX_TAGS = 20;
+    public static final int MAX_TEXT_LENGTH = 200;
+
+    public enum TagMatch {
+        /** The task has at least one of the tags. */
+        ANY,
+        /** The task has every one of the tags. */
+        ALL
+    }
+
+    public TaskFilter {
+        statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+        priorities = priorities == null ? Set.of() : Set.copyOf(priorities);
+        tagIds = tagIds == null ? Set.of() : Set.copyOf(tagIds);
+        tagMatch = tagMatch == null ? TagMatch.ANY : tagMatch;
+        text = text == null || text.isBlank() ? null : text.strip();
+
+        if (tagIds.size() > MAX_TAGS) {
+            throw new InvalidTaskFilterException("At most %d tags can be filtered by".formatted(MAX_TAGS));
+        }
+        if (text != null && text.length() > MAX_TEXT_LENGTH) {
+            throw new InvalidTaskFilterException("Text filter must be at most %d characters".formatted(MAX_TEXT_LENGTH));
+        }
+        if (dueFrom != null && dueTo != null && !dueFrom.isBefore(dueTo)) {
+            throw new InvalidTaskFilterException("dueFrom must be before dueTo");
+        }
+    }
+
+    public static TaskFilter byStatus(TaskStatus status) {
+        return TaskFilter.builder().statuses(Set.of(status)).build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.belyak.taskproject.domain.model;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keyset position in search results ordered by {@code (rank DESC, id DESC)}:
+ * the rank and id of the last hit returned. The next page starts strictly after it.
+ */
+public record TaskSearchCursor(float rank, UUID id) {
+
+    public TaskSearchCursor {
+        Objects.requireNonNull(id, "id");
+    }
+}
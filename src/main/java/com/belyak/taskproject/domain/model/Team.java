@@ -1,5 +1,6 @@
 package com.belyak.taskproject.domain.model;
 
+import com.belyak.taskproject.domain.exception.VersionMismatchException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -23,6 +24,7 @@ public class Team {
     private final TeamStatus status;
     private final UUID ownerId;
     private final Set<UUID> memberIds;
+    private final Long version;
 
     public static Team createNew(String name, UUID ownerId, String joinCode, String encodedPassword) {
         validateName(name);
@@ -37,7 +39,8 @@ public class Team {
                 encodedPassword,
                 TeamStatus.ACTIVE,
                 ownerId,
-                initialMembers
+                initialMembers,
+                null
         );
     }
 
@@ -58,6 +61,15 @@ public class Team {
         this.memberIds.remove(memberId);
     }
 
+    /**
+     * Fails unless the team is still at the version the caller last read; {@code null} skips the check.
+     */
+    public void ensureVersion(Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(version)) {
+            throw new VersionMismatchException("Team '%s' is at version %d, not %d".formatted(id, version, expectedVersion));
+        }
+    }
+
     public boolean isPasswordMatch(String rawPassword, PasswordEncoder encoder) {
         return encoder.matches(rawPassword, this.password);
     }
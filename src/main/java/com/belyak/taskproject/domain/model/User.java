@@ -18,6 +18,7 @@ public class User {
     private final String email;
     private final String password; // hashed
     private final Role role;
+    private final long membershipVersion; // bumped on every team membership change
 
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
 
@@ -6,6 +6,7 @@ import com.belyak.taskproject.infrastructure.persistence.projections.CategoryInf
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface CategoryRepository {
@@ -19,6 +20,10 @@ public interface CategoryRepository {
 
     Optional<Category> findById(UUID categoryId);
 
+    Optional<UUID> findTeamIdById(UUID categoryId);
+
+    Set<UUID> findExistingCategoryIds(UUID teamId, Set<UUID> categoryIds);
+
     // --- READ: PROJECTIONS ---
 
     List<CategoryInfoWithTaskCountProjection> findAllByTeamId(UUID teamId, TaskStatus status);
@@ -20,8 +20,12 @@ public interface TagRepository {
 
     Optional<Tag> findById(UUID tagId);
 
+    Optional<UUID> findTeamIdById(UUID tagId);
+
     Set<String> findExistingTagNames(UUID teamId, Set<String> names);
 
+    Set<UUID> findExistingTagIds(UUID teamId, Set<UUID> tagIds);
+
     // --- READ: PROJECTIONS ---
 
     List<TagInfoWithTaskCountProjection> findAllByTeamId(UUID teamId, TaskStatus status);
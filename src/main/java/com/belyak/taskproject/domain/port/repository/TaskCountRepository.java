@@ -0,0 +1,32 @@
+package com.belyak.taskproject.domain.port.repository;
+
+import com.belyak.taskproject.domain.model.TaskCountDelta;
+import com.belyak.taskproject.domain.model.TaskStatus;
+
+import java.util.UUID;
+
+/**
+ * Maintained task counts per {@code (category, status)} and {@code (tag, status)}, read by the category
+ * and tag sidebars. Writes must run in the transaction that changes the tasks.
+ */
+public interface TaskCountRepository {
+    // --- WRITE ---
+
+    /**
+     * Adds the delta to the stored counts; does nothing for an empty delta.
+     */
+    void apply(TaskCountDelta delta);
+
+    /**
+     * Moves the counts of the task from its current status to {@code status}, locking the task row first.
+     * Call before the status itself is updated.
+     */
+    void moveStatus(UUID teamId, UUID taskId, TaskStatus status);
+
+    /**
+     * Recounts every counter from the tasks and corrects the ones that drifted, without blocking task writes.
+     * Concurrent runs are serialized, so none corrects a drift another has already fixed.
+     * Returns the number of corrected counters.
+     */
+    int reconcile();
+}
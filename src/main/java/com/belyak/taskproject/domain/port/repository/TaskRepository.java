@@ -1,29 +1,79 @@
 package com.belyak.taskproject.domain.port.repository;
 
 import com.belyak.taskproject.domain.model.Task;
+import com.belyak.taskproject.domain.model.TaskCursor;
+import com.belyak.taskproject.domain.model.TaskFilter;
+import com.belyak.taskproject.domain.model.TaskSearchCursor;
 import com.belyak.taskproject.domain.model.TaskStatus;
-import com.belyak.taskproject.infrastructure.persistence.projections.TaskInfoProjection;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskSearchHit;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TeamDashboard;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface TaskRepository {
 
     // --- WRITE ---
     Task save(Task task);
 
+    /**
+     * Inserts new tasks in JDBC batches and returns them in the same order.
+     */
+    List<Task> createAll(List<Task> tasks);
+
     void deleteById(UUID taskId);
 
+    /**
+     * Sets the status and bumps the version with a single UPDATE, without loading the task.
+     *
+     * @param expectedVersion version the task must still have, or {@code null} to update unconditionally
+     * @return {@code false} when no task with this id belongs to the team or its version differs
+     */
+    boolean updateStatus(UUID teamId, UUID taskId, TaskStatus status, Long expectedVersion);
+
+    /**
+     * Sets or clears the assignee and bumps the version with a single UPDATE, without loading the task.
+     *
+     * @param expectedVersion version the task must still have, or {@code null} to update unconditionally
+     * @return {@code false} when no task with this id belongs to the team or its version differs
+     */
+    boolean updateAssignee(UUID teamId, UUID taskId, UUID assigneeId, Long expectedVersion);
+
     // --- READ: DOMAIN ---
 
     Optional<Task> findById(UUID taskId);
 
     // --- READ: PROJECTIONS ---
 
-    List<TaskInfoProjection> findAllByTeamIdAndStatus(UUID teamId, TaskStatus status);
+    /**
+     * Returns up to {@code limit} tasks of the team matching the filter, ordered by {@code (createdAt DESC, id DESC)},
+     * starting strictly after {@code after}, or from the newest task when {@code after} is {@code null}.
+     */
+    List<TaskView> findPage(UUID teamId, TaskFilter filter, TaskCursor after, int limit);
+
+    Optional<TaskView> findDetailsById(UUID taskId);
+
+    /**
+     * Passes every task of the team, newest first, to {@code action} without holding the whole list in memory.
+     */
+    void forEachByTeamId(UUID teamId, Consumer<TaskView> action);
+
+    /**
+     * Returns up to {@code limit} tasks of the team matching the web-search style {@code query}
+     * (words, {@code "phrases"}, {@code or}, {@code -excluded}), ordered by {@code (rank DESC, id DESC)},
+     * starting strictly after {@code after}, or from the best match when {@code after} is {@code null}.
+     */
+    List<TaskSearchHit> search(UUID teamId, String query, TaskSearchCursor after, int limit);
 
-    Optional<TaskInfoProjection> findDetailsById(UUID taskId);
+    /**
+     * Counts the tasks of the team by status, priority and assignee, with overdue meaning due before {@code now},
+     * and picks the {@code topTags} tags with the most open tasks. Runs a single statement.
+     */
+    TeamDashboard getDashboard(UUID teamId, Instant now, int topTags);
 
     // --- CHECKS & VALIDATION ---
 
@@ -8,6 +8,7 @@ import com.belyak.taskproject.infrastructure.persistence.projections.TeamSummary
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface TeamRepository {
@@ -17,24 +18,40 @@ public interface TeamRepository {
 
     int deleteByStatusAndDeletedAtBefore(TeamStatus status, Instant deletedAt);
 
+    /**
+     * Marks the task board of the team as changed. Call inside the writing transaction,
+     * so readers see the new version together with the new data.
+     */
+    void incrementBoardVersion(UUID teamId);
+
+    /**
+     * Marks every board showing the user as changed, e.g. after the user was renamed: those of the user's teams
+     * and those of teams where the user is still an assignee without being a member anymore.
+     */
+    void incrementBoardVersionsShowingUser(UUID userId);
+
     // --- READ: DOMAIN ---
 
     Optional<Team> findById(UUID teamId);
 
     Optional<Team> findByJoinCode(String joinCode);
 
+    Optional<Long> findBoardVersion(UUID teamId);
+
     // --- READ: PROJECTIONS ---
 
     List<TeamSummaryProjection> getAllByMemberId(UUID memberId);
 
     Optional<TeamDetailsProjection> getTeamDetailsById(UUID teamId);
 
+    Set<UUID> findTeamIdsByMemberId(UUID memberId);
+
+    Set<UUID> findMemberIds(UUID teamId);
+
     // --- CHECKS & VALIDATION ---
 
     boolean existsByJoinCode(String joinCode);
 
-    boolean isMember(UUID teamId, UUID userId);
-
     boolean isOwner(UUID teamId, UUID userId);
 
     boolean existsById(UUID teamId);
@@ -14,4 +14,6 @@ public interface UserRepository {
     Optional<User> findById(UUID userId);
 
     User save(User user);
+
+    void incrementMembershipVersion(UUID userId);
 }
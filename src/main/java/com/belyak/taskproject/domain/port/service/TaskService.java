@@ -1,14 +1,24 @@
 package com.belyak.taskproject.domain.port.service;
 
+import com.belyak.taskproject.domain.model.CursorPage;
+import com.belyak.taskproject.domain.model.SearchPage;
 import com.belyak.taskproject.domain.model.Task;
+import com.belyak.taskproject.domain.model.TaskBatchItem;
+import com.belyak.taskproject.domain.model.TaskCursor;
+import com.belyak.taskproject.domain.model.TaskFilter;
+import com.belyak.taskproject.domain.model.TaskSearchCursor;
 import com.belyak.taskproject.domain.model.TaskStatus;
-import com.belyak.taskproject.infrastructure.persistence.projections.TaskInfoProjection;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskSearchHit;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TeamDashboard;
 import com.belyak.taskproject.web.dto.request.CreateTaskRequest;
 import com.belyak.taskproject.web.dto.request.UpdateTaskRequest;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface TaskService {
 
@@ -16,17 +26,43 @@ public interface TaskService {
 
     Task createTask(UUID teamId, CreateTaskRequest request);
 
-    Task updateTask(UUID teamId, UUID taskId, UpdateTaskRequest request) throws org.springframework.security.access.AccessDeniedException, java.nio.file.AccessDeniedException;
+    /**
+     * Creates every valid task of the batch; items with unknown references are rejected individually.
+     */
+    List<TaskBatchItem> createTasks(UUID teamId, List<CreateTaskRequest> requests);
 
-    void updateStatus(UUID teamId, UUID taskId, TaskStatus newStatus) throws org.springframework.security.access.AccessDeniedException, java.nio.file.AccessDeniedException;
+    // Writes below take the version from If-Match; null skips the check, a stale one fails with VersionMismatchException
 
-    void assignTask(UUID teamId, UUID taskId, UUID assigneeId) throws AccessDeniedException, java.nio.file.AccessDeniedException;
+    Task updateTask(UUID teamId, UUID taskId, UpdateTaskRequest request, Long expectedVersion) throws org.springframework.security.access.AccessDeniedException, java.nio.file.AccessDeniedException;
 
-    void deleteTask(UUID teamId, UUID taskId);
+    void updateStatus(UUID teamId, UUID taskId, TaskStatus newStatus, Long expectedVersion) throws org.springframework.security.access.AccessDeniedException, java.nio.file.AccessDeniedException;
+
+    void assignTask(UUID teamId, UUID taskId, UUID assigneeId, Long expectedVersion) throws AccessDeniedException, java.nio.file.AccessDeniedException;
+
+    void deleteTask(UUID teamId, UUID taskId, Long expectedVersion);
 
     // --- READ ---
 
-    List<TaskInfoProjection> findTeamTasks(UUID teamId, TaskStatus taskStatus);
+    CursorPage<TaskView> findTeamTasks(UUID teamId, TaskFilter filter, TaskCursor after, int limit);
+
+    TaskView getTaskDetails(UUID teamId, UUID taskId);
+
+    /**
+     * Full-text search over titles and descriptions of the team's tasks, best match first.
+     *
+     * @throws com.belyak.taskproject.domain.exception.InvalidSearchQueryException if the query is blank or too long
+     */
+    SearchPage<TaskSearchHit> searchTasks(UUID teamId, String query, TaskSearchCursor after, int limit);
+
+    /**
+     * Version of the team's task board; changes with every write to its tasks, tags or categories.
+     */
+    long getBoardVersion(UUID teamId);
+
+    /**
+     * Task counts of the team board, overdue meaning due before {@code asOf}, and its most used tags.
+     */
+    TeamDashboard getDashboard(UUID teamId, Instant asOf);
 
-    TaskInfoProjection getTaskDetails(UUID teamId, UUID taskId);
+    void exportTeamTasks(UUID teamId, Consumer<TaskView> sink);
 }
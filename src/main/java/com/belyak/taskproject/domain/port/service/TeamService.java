@@ -18,7 +18,7 @@ public interface TeamService {
 
     TeamResponse joinTeam(JoinTeamRequest request, UUID userId);
 
-    void kickMember(UUID teamId, UUID memberId, UUID initiatorId) throws AccessDeniedException, java.nio.file.AccessDeniedException;
+    void kickMember(UUID teamId, UUID memberId, UUID initiatorId, Long expectedVersion) throws AccessDeniedException, java.nio.file.AccessDeniedException;
 
     void cleanupDeletedTeams();
 
@@ -0,0 +1,43 @@
+package com.belyak.taskproject.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+@UtilityClass
+public class CacheLoading {
+
+    /**
+     * Returns the cached value or loads it on the calling thread, without holding a map lock while loading.
+     * <p>
+     * {@code Cache.get(key, loader)} runs the loader inside {@code ConcurrentHashMap.compute}; on Java 21 a virtual
+     * thread blocked on the database in there stays pinned to its carrier, and a few of them stall the server.
+     * Here only an empty future is stored under the lock. Concurrent callers for the same key park on it, and an
+     * entry invalidated while loading is dropped with it, as with a synchronous load. A {@code null} result
+     * or a failure is not cached.
+     */
+    public static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> placeholder = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> placeholder);
+
+        if (future != placeholder) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            V value = loader.apply(key);
+            placeholder.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            placeholder.completeExceptionally(e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.belyak.taskproject.infrastructure.cache;
+
+import com.belyak.taskproject.domain.model.TaskFilter;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Serialized pages and dashboards of team task boards, keyed by the query and the board version of the team.
+ * <p>
+ * Every write to a board bumps its version, so entries of older versions are simply never asked for again
+ * and age out; there is nothing to invalidate, also for writes made on another instance.
+ * Concurrent misses on the same key wait for a single load. The total size of the cached bodies is bounded
+ * by {@code application.task-board-cache.max-size}.
+ */
+@Component
+public class TaskBoardCache {
+
+    private final AsyncCache<BoardKey, byte[]> pages;
+
+    public TaskBoardCache(TaskBoardCacheProperties properties) {
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((BoardKey key, byte[] body) -> body.length)
+                .expireAfterAccess(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+    }
+
+    public byte[] get(BoardKey key, Supplier<byte[]> loader) {
+        return CacheLoading.getOrLoad(pages, key, k -> loader.get());
+    }
+
+    public Cache<BoardKey, byte[]> pagesCache() {
+        return pages.synchronous();
+    }
+
+    public sealed interface BoardKey permits Key, DashboardKey {
+        long boardVersion();
+    }
+
+    /**
+     * @param cursor the cursor token as sent by the client, {@code null} for the first page
+     */
+    public record Key(UUID teamId, TaskFilter filter, String cursor, int limit, long boardVersion) implements BoardKey {
+    }
+
+    /**
+     * Overdue counts also change as time passes, so a dashboard is kept per minute it was computed for.
+     */
+    public record DashboardKey(UUID teamId, long boardVersion, Instant asOf) implements BoardKey {
+    }
+}
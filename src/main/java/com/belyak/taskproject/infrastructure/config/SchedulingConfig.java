@@ -0,0 +1,13 @@
+package com.belyak.taskproject.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the jobs in {@code application.scheduler}; their cron expressions live under {@code app.scheduling}.
+ * A job whose cron is {@code "-"} is not scheduled; the destructive team cleanup defaults to that.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,284 @@
+package com.belyak.taskproject.infrastructure.events;
+
+import com.belyak.taskproject.domain.model.MembershipRevokedEvent;
+import com.belyak.taskproject.domain.model.TaskEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Pushes task events to the Server-Sent Events subscribers of each team.
+ * <p>
+ * Events go out after the publishing transaction commits, with ids that only ever increase. Every team keeps
+ * its last {@code replay-size} events, so a client reconnecting with {@code Last-Event-ID} gets what it missed.
+ * When that id is older than what is kept, comes from a previous run or is unknown, the client gets a
+ * {@code resync} event instead and should reload the board.
+ * <p>
+ * Each subscriber has a queue of {@code subscriber-buffer-size} events drained by its own virtual thread, so
+ * a slow client never blocks the committing thread; one that falls further behind has its backlog replaced by
+ * {@code resync}. Idle streams hold neither a Tomcat worker nor a platform thread, and get a comment every
+ * {@code heartbeat} so proxies keep them open. The streams of a user removed from the team are completed.
+ * <p>
+ * Subscribers only see events written through this instance.
+ */
+@Slf4j
+@Component
+public class TeamEventBroker {
+
+    static final String READY = "ready";
+    static final String RESYNC = "resync";
+
+    // Ids start from the boot time, so any id handed out by a previous run is older than everything kept now
+    private final AtomicLong lastId = new AtomicLong(System.currentTimeMillis() << 20);
+
+    private final TeamEventProperties properties;
+    private final Cache<UUID, Channel> channels;
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("team-events-", 0).factory());
+
+    public TeamEventBroker(TeamEventProperties properties) {
+        this.properties = properties;
+        // Subscribers touch their channel on every heartbeat, so only channels nobody listens to expire
+        this.channels = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getRetention())
+                .executor(Runnable::run)
+                .removalListener((UUID teamId, Channel channel, RemovalCause cause) -> {
+                    if (channel != null) {
+                        channel.close();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * @param lastEventId the {@code Last-Event-ID} header of a reconnecting client, {@code null} on a first connect
+     * @param payload     turns a task event into the data sent to the client
+     */
+    public SseEmitter subscribe(UUID teamId, UUID userId, String lastEventId, Function<TaskEvent, ?> payload) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        subscribe(teamId, userId, lastEventId, payload, emitter);
+        return emitter;
+    }
+
+    void subscribe(UUID teamId, UUID userId, String lastEventId, Function<TaskEvent, ?> payload, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(teamId, userId, payload, emitter);
+        Long resumeAfter = parseEventId(lastEventId);
+
+        while (!channels.get(teamId, id -> new Channel(teamId)).attach(subscriber, resumeAfter)) {
+            // Lost a race with the expiry of the channel, the next lookup creates a new one
+            Thread.onSpinWait();
+        }
+
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscriber.start();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        Channel channel = channels.getIfPresent(event.teamId());
+        if (channel != null) {
+            channel.publish(event);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipRevoked(MembershipRevokedEvent event) {
+        Channel channel = channels.getIfPresent(event.teamId());
+        if (channel != null) {
+            channel.disconnect(event.userId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.invalidateAll();
+        senders.shutdownNow();
+    }
+
+    private static Long parseEventId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * @param data the {@link TaskEvent}, mapped per subscriber when sent, or the content of a control event
+     */
+    private record Event(long id, String name, Object data) {
+    }
+
+    /**
+     * Recent events and subscribers of one team. Ids are assigned under the lock, so every subscriber
+     * sees the events of its team in id order.
+     */
+    private final class Channel {
+
+        private final UUID teamId;
+        private final Deque<Event> recent = new ArrayDeque<>();
+        private final Set<Subscriber> subscribers = new HashSet<>();
+        // Events up to this id are not kept: published before the channel existed, or dropped from the replay buffer
+        private long forgottenUpTo;
+        private long latestId;
+        private boolean closed;
+
+        Channel(UUID teamId) {
+            this.teamId = teamId;
+            this.forgottenUpTo = lastId.get();
+            this.latestId = forgottenUpTo;
+        }
+
+        synchronized void publish(TaskEvent taskEvent) {
+            Event event = new Event(lastId.incrementAndGet(), taskEvent.type().name(), taskEvent);
+            latestId = event.id();
+
+            recent.addLast(event);
+            if (recent.size() > properties.getReplaySize()) {
+                forgottenUpTo = recent.removeFirst().id();
+            }
+            subscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+
+        synchronized boolean attach(Subscriber subscriber, Long resumeAfter) {
+            if (closed) {
+                return false;
+            }
+            subscribers.add(subscriber);
+            subscriber.channel = this;
+
+            if (resumeAfter == null) {
+                subscriber.offer(control(READY));
+            } else if (resumeAfter < forgottenUpTo || resumeAfter > latestId) {
+                subscriber.offer(control(RESYNC));
+            } else {
+                recent.stream()
+                        .filter(event -> event.id() > resumeAfter)
+                        .forEach(subscriber::offer);
+            }
+            return true;
+        }
+
+        synchronized void detach(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+        }
+
+        synchronized Event control(String name) {
+            return new Event(latestId, name, Map.of("teamId", teamId));
+        }
+
+        void close() {
+            List<Subscriber> closing;
+            synchronized (this) {
+                closed = true;
+                closing = List.copyOf(subscribers);
+                subscribers.clear();
+            }
+            closing.forEach(subscriber -> subscriber.emitter.complete());
+        }
+
+        void disconnect(UUID userId) {
+            List<Subscriber> closing;
+            synchronized (this) {
+                closing = subscribers.stream()
+                        .filter(subscriber -> subscriber.userId.equals(userId))
+                        .toList();
+                closing.forEach(subscribers::remove);
+            }
+            closing.forEach(subscriber -> subscriber.emitter.complete());
+        }
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final UUID teamId;
+        private final UUID userId;
+        private final Function<TaskEvent, ?> payload;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Event> queue;
+        private volatile Channel channel;
+        private volatile Future<?> sender;
+
+        Subscriber(UUID teamId, UUID userId, Function<TaskEvent, ?> payload, SseEmitter emitter) {
+            this.teamId = teamId;
+            this.userId = userId;
+            this.payload = payload;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(properties.getSubscriberBufferSize());
+        }
+
+        /**
+         * Called under the channel lock, never blocks.
+         */
+        void offer(Event event) {
+            if (!queue.offer(event)) {
+                queue.clear();
+                queue.offer(new Event(event.id(), RESYNC, Map.of("teamId", teamId)));
+            }
+        }
+
+        void start() {
+            sender = senders.submit(this);
+        }
+
+        void close() {
+            channel.detach(this);
+            if (sender != null) {
+                sender.cancel(true);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    Event event = queue.poll(properties.getHeartbeat().toMillis(), TimeUnit.MILLISECONDS);
+                    if (event == null) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                        channels.getIfPresent(teamId);
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(event.id()))
+                                .name(event.name())
+                                .data(event.data() instanceof TaskEvent taskEvent ? payload.apply(taskEvent) : event.data(),
+                                        MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the stream already completed; the emitter callbacks clean up
+                log.debug("Stopped streaming events of team {}: {}", teamId, e.getMessage());
+                channel.detach(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.belyak.taskproject.infrastructure.events;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "application.team-events")
+public class TeamEventProperties {
+    private int subscriberBufferSize = 256;
+    private int replaySize = 1000;
+    private Duration heartbeat = Duration.ofSeconds(15);
+    private Duration timeout = Duration.ofMinutes(30);
+    private Duration retention = Duration.ofMinutes(5);
+}
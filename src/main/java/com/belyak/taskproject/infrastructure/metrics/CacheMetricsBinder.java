@@ -0,0 +1,33 @@
+package com.belyak.taskproject.infrastructure.metrics;
+
+import com.belyak.taskproject.infrastructure.cache.TaskBoardCache;
+import com.belyak.taskproject.infrastructure.security.access.MembershipCache;
+import com.belyak.taskproject.infrastructure.security.jwt.PrincipalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exports the statistics the in-process caches record: {@code cache.gets} by {@code result} (hit or miss),
+ * {@code cache.puts}, {@code cache.evictions}, {@code cache.size} and, for the weighted task board cache,
+ * {@code cache.eviction.weight}, each tagged with the {@code cache} name.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetricsBinder implements MeterBinder {
+
+    private final PrincipalCache principalCache;
+    private final MembershipCache membershipCache;
+    private final TaskBoardCache taskBoardCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, principalCache.nativeCache(), "principals");
+        CaffeineCacheMetrics.monitor(registry, membershipCache.teamMembersCache(), "team-members");
+        CaffeineCacheMetrics.monitor(registry, membershipCache.tagTeamsCache(), "tag-teams");
+        CaffeineCacheMetrics.monitor(registry, membershipCache.categoryTeamsCache(), "category-teams");
+        CaffeineCacheMetrics.monitor(registry, taskBoardCache.pagesCache(), "task-boards");
+    }
+}
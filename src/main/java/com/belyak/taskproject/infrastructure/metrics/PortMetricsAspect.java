@@ -0,0 +1,93 @@
+package com.belyak.taskproject.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every call through a repository or service port: {@code app.repository} and {@code app.service},
+ * tagged with the {@code port} interface, the {@code operation} (method name), the {@code outcome}
+ * ({@code success} or {@code error}) and the {@code exception} class. The timers also carry the call counts.
+ * <p>
+ * Tags only ever come from code, never from arguments, so ids cannot end up in metric names. Runs outside the
+ * transaction advice, so service timings include the commit. Each timer is registered once and then reused,
+ * keeping registry lookups and tag allocation off the call path.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PortMetricsAspect {
+
+    private static final String PORT_PACKAGE = "com.belyak.taskproject.domain.port.";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.belyak.taskproject.domain.port.repository..*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("app.repository", joinPoint);
+    }
+
+    @Around("execution(* com.belyak.taskproject.domain.port.service..*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("app.service", joinPoint);
+    }
+
+    private Object time(String metric, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Class<?> exception = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass();
+            throw e;
+        } finally {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            sample.stop(timers.computeIfAbsent(new TimerKey(metric, method, exception),
+                    key -> register(key, joinPoint.getTarget())));
+        }
+    }
+
+    private Timer register(TimerKey key, Object target) {
+        return Timer.builder(key.metric())
+                .tag("port", portName(key.method(), target))
+                .tag("operation", key.method().getName())
+                .tag("outcome", key.exception() == null ? "success" : "error")
+                .tag("exception", key.exception() == null ? "none" : key.exception().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    /**
+     * The port interface the method belongs to; with class-based proxies the signature names the adapter.
+     */
+    private static String portName(Method method, Object target) {
+        return Arrays.stream(AopUtils.getTargetClass(target).getInterfaces())
+                .filter(type -> type.getName().startsWith(PORT_PACKAGE))
+                .filter(type -> Arrays.stream(type.getMethods()).anyMatch(candidate ->
+                        candidate.getName().equals(method.getName())
+                        && Arrays.equals(candidate.getParameterTypes(), method.getParameterTypes())))
+                .map(Class::getSimpleName)
+                .findFirst()
+                .orElse(method.getDeclaringClass().getSimpleName());
+    }
+
+    /**
+     * @param exception class of the exception thrown, {@code null} for a successful call
+     */
+    private record TimerKey(String metric, Method method, Class<?> exception) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.belyak.taskproject.infrastructure.persistence.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fair semaphore with one permit per pooled connection, taken before a connection is borrowed from the pool.
+ * <p>
+ * With virtual threads every request can reach the pool at once. Here they park cheaply in arrival order, at
+ * most {@code max-waiting} of them; beyond that, or after {@code acquire-timeout}, the borrower is refused
+ * straight away instead of piling up inside the pool.
+ * <p>
+ * Metrics: {@code db.connection.limiter.wait} (time to get a permit), {@code db.connection.limiter.waiting},
+ * {@code db.connection.limiter.available} and {@code db.connection.limiter.rejected} by {@code reason}.
+ */
+public class ConnectionLimiter {
+
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final int maxWaiting;
+    private final long acquireTimeoutNanos;
+
+    private final Timer waitTimer;
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    public ConnectionLimiter(int connections, ConnectionLimiterProperties properties, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(connections, true);
+        this.maxWaiting = properties.getMaxWaiting();
+        this.acquireTimeoutNanos = properties.getAcquireTimeout().toNanos();
+
+        this.waitTimer = Timer.builder("db.connection.limiter.wait")
+                .description("Time spent waiting for a database connection permit")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.queueFull = rejectedCounter(meterRegistry, "queue_full");
+        this.timedOut = rejectedCounter(meterRegistry, "timeout");
+        Gauge.builder("db.connection.limiter.waiting", waiting, AtomicInteger::get)
+                .description("Threads waiting for a database connection permit")
+                .register(meterRegistry);
+        Gauge.builder("db.connection.limiter.available", permits, Semaphore::availablePermits)
+                .description("Database connection permits not in use")
+                .register(meterRegistry);
+    }
+
+    public void acquire() throws SQLTransientConnectionException {
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            queueFull.increment();
+            throw new SQLTransientConnectionException(
+                    "More than %d threads are already waiting for a database connection".formatted(maxWaiting));
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                timedOut.increment();
+                throw new SQLTransientConnectionException(
+                        "No database connection became available within %d ms"
+                                .formatted(TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        } finally {
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("db.connection.limiter.rejected")
+                .description("Connection requests refused by the limiter")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
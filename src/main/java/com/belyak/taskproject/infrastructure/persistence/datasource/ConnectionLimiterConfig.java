@@ -0,0 +1,51 @@
+package com.belyak.taskproject.infrastructure.persistence.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Puts a {@link ConnectionLimiter} sized to the Hikari pool in front of the data source when requests run on
+ * virtual threads ({@code spring.threads.virtual.enabled=true}). Platform threads are already bounded by the
+ * Tomcat pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConnectionLimiterConfig {
+
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            ObjectProvider<ConnectionLimiterProperties> properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConnectionLimitingPostProcessor(properties, meterRegistry);
+    }
+
+    /**
+     * Runs before other data source wrappers, which would hide the Hikari pool.
+     */
+    private record ConnectionLimitingPostProcessor(ObjectProvider<ConnectionLimiterProperties> properties,
+                                                   ObjectProvider<MeterRegistry> meterRegistry)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                ConnectionLimiter limiter = new ConnectionLimiter(
+                        hikari.getMaximumPoolSize(), properties.getObject(), meterRegistry.getObject());
+                return new ConnectionLimitingDataSource(hikari, limiter);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
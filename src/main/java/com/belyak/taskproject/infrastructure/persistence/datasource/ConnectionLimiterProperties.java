@@ -0,0 +1,15 @@
+package com.belyak.taskproject.infrastructure.persistence.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "application.connection-limiter")
+public class ConnectionLimiterProperties {
+    private int maxWaiting = 2000;
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+}
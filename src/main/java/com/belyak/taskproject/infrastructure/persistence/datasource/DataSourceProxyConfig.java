@@ -0,0 +1,57 @@
+package com.belyak.taskproject.infrastructure.persistence.datasource;
+
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Wraps the data source in a datasource-proxy that reports every statement to the {@link QueryExecutionListener}
+ * beans, such as the {@link SlowQueryLogger}; left unwrapped when there are none.
+ * Applied after {@link ConnectionLimiterConfig}, so statement timings never include waiting for a connection.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "application.slow-query-log", name = "enabled", matchIfMissing = true)
+    SlowQueryLogger slowQueryLogger(SlowQueryLogProperties properties) {
+        return new SlowQueryLogger(properties);
+    }
+
+    @Bean
+    static BeanPostProcessor queryListeningDataSourcePostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        return new QueryListeningPostProcessor(listeners);
+    }
+
+    private record QueryListeningPostProcessor(ObjectProvider<QueryExecutionListener> listeners)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                List<QueryExecutionListener> active = listeners.orderedStream().toList();
+                if (active.isEmpty()) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, dataSource);
+                active.forEach(builder::listener);
+                return builder.build();
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
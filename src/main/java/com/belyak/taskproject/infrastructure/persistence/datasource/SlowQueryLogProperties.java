@@ -0,0 +1,16 @@
+package com.belyak.taskproject.infrastructure.persistence.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "application.slow-query-log")
+public class SlowQueryLogProperties {
+    private boolean enabled = true;
+    private Duration threshold = Duration.ofMillis(500);
+    private double bindSampleRate = 0.01;
+}
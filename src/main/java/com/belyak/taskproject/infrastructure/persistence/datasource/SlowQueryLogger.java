@@ -0,0 +1,87 @@
+package com.belyak.taskproject.infrastructure.persistence.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Logs statements that took at least {@code application.slow-query-log.threshold}, as a WARN of this class.
+ * <p>
+ * Statements below the threshold cost one comparison. The bind values of a slow statement are only formatted for
+ * a {@code bind-sample-rate} fraction of them, since they can hold personal data; at most
+ * {@value #MAX_LOGGED_BATCH_ENTRIES} entries of a batch and {@value #MAX_VALUE_LENGTH} characters per value.
+ */
+@Slf4j
+public class SlowQueryLogger implements QueryExecutionListener {
+
+    private static final int MAX_LOGGED_BATCH_ENTRIES = 5;
+    private static final int MAX_VALUE_LENGTH = 100;
+
+    private final long thresholdMillis;
+    private final double bindSampleRate;
+    private final DoubleSupplier random;
+
+    public SlowQueryLogger(SlowQueryLogProperties properties) {
+        this(properties, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    SlowQueryLogger(SlowQueryLogProperties properties, DoubleSupplier random) {
+        this.thresholdMillis = properties.getThreshold().toMillis();
+        this.bindSampleRate = properties.getBindSampleRate();
+        this.random = random;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        if (elapsed < thresholdMillis || !log.isWarnEnabled()) {
+            return;
+        }
+
+        String sql = queryInfoList.size() == 1
+                ? queryInfoList.getFirst().getQuery()
+                : queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        int batchSize = execInfo.isBatch() ? execInfo.getBatchSize() : 1;
+
+        if (random.getAsDouble() < bindSampleRate) {
+            log.warn("Slow query: {} ms, batch of {}, {}: {} binds {}",
+                    elapsed, batchSize, outcome(execInfo), sql, binds(queryInfoList));
+        } else {
+            log.warn("Slow query: {} ms, batch of {}, {}: {}", elapsed, batchSize, outcome(execInfo), sql);
+        }
+    }
+
+    private static String outcome(ExecutionInfo execInfo) {
+        return execInfo.isSuccess() ? "succeeded" : "failed";
+    }
+
+    private static String binds(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream()
+                .flatMap(query -> query.getParametersList().stream())
+                .limit(MAX_LOGGED_BATCH_ENTRIES)
+                .map(parameters -> parameters.stream()
+                        .map(SlowQueryLogger::bind)
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(" "));
+    }
+
+    private static String bind(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+            return args[0] + "=null";
+        }
+        String value = String.valueOf(args.length > 1 ? args[1] : null);
+        return args[0] + "=" + (value.length() > MAX_VALUE_LENGTH ? value.substring(0, MAX_VALUE_LENGTH) + "…" : value);
+    }
+}
@@ -1,5 +1,6 @@
 package com.belyak.taskproject.infrastructure.persistence.entity;
 
+import com.belyak.taskproject.infrastructure.persistence.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -19,7 +20,7 @@ import java.util.UUID;
 public class CategoryEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     @Column(name = "name", nullable = false)
@@ -2,6 +2,7 @@ package com.belyak.taskproject.infrastructure.persistence.entity;
 
 import com.belyak.taskproject.domain.model.TaskPriority;
 import com.belyak.taskproject.domain.model.TaskStatus;
+import com.belyak.taskproject.infrastructure.persistence.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -20,7 +21,7 @@ import java.util.UUID;
 public class TaskEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     @Column(nullable = false)
@@ -60,4 +61,8 @@ public class TaskEntity extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id", nullable = false)
     private TeamEntity team;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
 }
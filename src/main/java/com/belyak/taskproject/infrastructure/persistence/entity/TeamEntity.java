@@ -1,6 +1,7 @@
 package com.belyak.taskproject.infrastructure.persistence.entity;
 
 import com.belyak.taskproject.domain.model.TeamStatus;
+import com.belyak.taskproject.infrastructure.persistence.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -19,7 +20,7 @@ import java.util.UUID;
 public class TeamEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     private String name;
@@ -37,6 +38,14 @@ public class TeamEntity extends BaseEntity {
     @Column(name = "deleted_at")
     private Instant deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // Only changed by bulk UPDATEs, so flushing a loaded team never writes back a stale value
+    @Column(name = "board_version", nullable = false, updatable = false)
+    private long boardVersion;
+
     @Builder.Default
     @ManyToMany
     @JoinTable(
@@ -1,6 +1,7 @@
 package com.belyak.taskproject.infrastructure.persistence.entity;
 
 import com.belyak.taskproject.domain.model.Role;
+import com.belyak.taskproject.infrastructure.persistence.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,7 +17,7 @@ import java.util.*;
 public class UserEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     @Column(name = "email", nullable = false, unique = true)
@@ -32,6 +33,9 @@ public class UserEntity extends BaseEntity {
     @Column(name = "role", nullable = false)
     private Role role;
 
+    @Column(name = "membership_version", nullable = false)
+    private long membershipVersion;
+
     @Builder.Default
     @OneToMany(mappedBy = "owner", fetch = FetchType.LAZY)
     private List<TeamEntity> ownedTeams = new ArrayList<>();
@@ -0,0 +1,11 @@
+package com.belyak.taskproject.infrastructure.persistence.projections;
+
+public interface DashboardRowProjection {
+    String getDimension();
+    String getGroupKey();
+    String getLabel();
+    String getColor();
+    Long getTasks();
+    Long getOpenTasks();
+    Long getOverdueTasks();
+}
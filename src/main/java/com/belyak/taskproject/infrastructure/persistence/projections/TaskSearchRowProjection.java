@@ -0,0 +1,10 @@
+package com.belyak.taskproject.infrastructure.persistence.projections;
+
+import java.util.UUID;
+
+public interface TaskSearchRowProjection {
+    UUID getId();
+    Float getRank();
+    String getTitleHighlight();
+    String getDescriptionHighlight();
+}
@@ -11,5 +11,6 @@ public interface TeamDetailsProjection {
     TeamStatus getStatus();
     UserInfoProjection getOwner();
     Set<UserInfoProjection> getMembers();
+    long getVersion();
 }
 
@@ -0,0 +1,6 @@
+package com.belyak.taskproject.infrastructure.persistence.readmodel;
+
+import java.util.UUID;
+
+public record TagView(UUID id, String name, String color) {
+}
@@ -0,0 +1,8 @@
+package com.belyak.taskproject.infrastructure.persistence.readmodel;
+
+/**
+ * A task matching a full-text search, with its rank and HTML-escaped snippets of title and description
+ * in which the matched words are wrapped in {@code <mark>} tags.
+ */
+public record TaskSearchHit(TaskView task, float rank, String titleHighlight, String descriptionHighlight) {
+}
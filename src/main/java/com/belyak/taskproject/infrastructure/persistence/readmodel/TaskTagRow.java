@@ -0,0 +1,13 @@
+package com.belyak.taskproject.infrastructure.persistence.readmodel;
+
+import java.util.UUID;
+
+/**
+ * One row of the batch tag query: a tag together with the id of the task it is attached to.
+ */
+public record TaskTagRow(UUID taskId, UUID tagId, String name, String color) {
+
+    public TagView toTagView() {
+        return new TagView(tagId, name, color);
+    }
+}
@@ -0,0 +1,46 @@
+package com.belyak.taskproject.infrastructure.persistence.readmodel;
+
+import com.belyak.taskproject.domain.model.TaskPriority;
+import com.belyak.taskproject.domain.model.TaskStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Flat read model of a task: scalar columns of the task, its category and assignee, plus its tags.
+ * <p>
+ * The tag-less constructor is the target of the JPQL constructor expression; tags are loaded
+ * by a separate batch query and attached with {@link #withTags(List)}.
+ */
+public record TaskView(
+        UUID id,
+        String title,
+        String description,
+        TaskStatus status,
+        TaskPriority priority,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant dueDate,
+        long version,
+        UUID categoryId,
+        String categoryName,
+        UUID assigneeId,
+        String assigneeName,
+        String assigneeEmail,
+        List<TagView> tags
+) {
+
+    public TaskView(UUID id, String title, String description, TaskStatus status, TaskPriority priority,
+                    Instant createdAt, Instant updatedAt, Instant dueDate, long version,
+                    UUID categoryId, String categoryName,
+                    UUID assigneeId, String assigneeName, String assigneeEmail) {
+        this(id, title, description, status, priority, createdAt, updatedAt, dueDate, version,
+                categoryId, categoryName, assigneeId, assigneeName, assigneeEmail, List.of());
+    }
+
+    public TaskView withTags(List<TagView> tags) {
+        return new TaskView(id, title, description, status, priority, createdAt, updatedAt, dueDate, version,
+                categoryId, categoryName, assigneeId, assigneeName, assigneeEmail, List.copyOf(tags));
+    }
+}
@@ -0,0 +1,35 @@
+package com.belyak.taskproject.infrastructure.persistence.readmodel;
+
+import com.belyak.taskproject.domain.model.TaskPriority;
+import com.belyak.taskproject.domain.model.TaskStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Task counts of a team board at one instant. A task is open while it is DRAFT, TODO or IN_PROGRESS,
+ * and overdue while it is open past its due date.
+ *
+ * @param tasksByStatus   every status, including those without tasks
+ * @param tasksByPriority every priority, including those without tasks
+ * @param workload        assignees with open tasks, the busiest first, ties by name and id
+ * @param topTags         tags with the most open tasks first
+ */
+public record TeamDashboard(long totalTasks,
+                            long openTasks,
+                            long overdueTasks,
+                            Map<TaskStatus, Long> tasksByStatus,
+                            Map<TaskPriority, Long> tasksByPriority,
+                            List<AssigneeWorkload> workload,
+                            List<TagUsage> topTags) {
+
+    /**
+     * @param assigneeId {@code null} for the unassigned tasks
+     */
+    public record AssigneeWorkload(UUID assigneeId, String name, long openTasks, long overdueTasks) {
+    }
+
+    public record TagUsage(UUID tagId, String name, String color, long openTasks, long totalTasks) {
+    }
+}
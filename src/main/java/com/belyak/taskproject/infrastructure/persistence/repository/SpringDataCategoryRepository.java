@@ -1,27 +1,86 @@
 package com.belyak.taskproject.infrastructure.persistence.repository;
 
-import com.belyak.taskproject.domain.model.TaskStatus;
 import com.belyak.taskproject.infrastructure.persistence.entity.CategoryEntity;
 import com.belyak.taskproject.infrastructure.persistence.projections.CategoryInfoWithTaskCountProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface SpringDataCategoryRepository extends JpaRepository<CategoryEntity, UUID> {
 
-    @Query("SELECT c.id as id, c.name as name, COUNT(t) as taskCount " +
-           "FROM CategoryEntity c " +
-           "LEFT JOIN c.tasks t ON t.status = :status " +
-           "WHERE c.team.id = :teamId " +
-           "GROUP BY c.id, c.name")
+    @Query(value = "SELECT c.id AS id, c.name AS name, COALESCE(n.task_count, 0) AS \"taskCount\" " +
+                   "FROM categories c " +
+                   "LEFT JOIN category_task_counts n ON n.category_id = c.id AND n.status = :status " +
+                   "WHERE c.team_id = :teamId",
+           nativeQuery = true)
     List<CategoryInfoWithTaskCountProjection> findCategoriesByTeamIdAndStatus(
             @Param("teamId") UUID teamId,
-            @Param("status") TaskStatus status);
+            @Param("status") String status);
+
+    /**
+     * Adds {@code deltas[i]} to the count of {@code (categoryIds[i], statuses[i])}. Rows are locked in key order,
+     * so concurrent writers cannot deadlock on them.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO category_task_counts (category_id, status, task_count) " +
+                   "SELECT * FROM unnest(CAST(:categoryIds AS uuid[]), CAST(:statuses AS varchar[]), CAST(:deltas AS int[])) " +
+                   "ORDER BY 1, 2 " +
+                   "ON CONFLICT (category_id, status) " +
+                   "DO UPDATE SET task_count = category_task_counts.task_count + EXCLUDED.task_count",
+           nativeQuery = true)
+    int addTaskCounts(@Param("categoryIds") UUID[] categoryIds,
+                      @Param("statuses") String[] statuses,
+                      @Param("deltas") Integer[] deltas);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "WITH task AS (" +
+                   "  SELECT category_id, status FROM tasks " +
+                   "  WHERE id = :taskId AND team_id = :teamId AND status <> :status FOR UPDATE) " +
+                   "INSERT INTO category_task_counts (category_id, status, task_count) " +
+                   "SELECT category_id, status, -1 FROM task " +
+                   "UNION ALL SELECT category_id, :status, 1 FROM task " +
+                   "ORDER BY 1, 2 " +
+                   "ON CONFLICT (category_id, status) " +
+                   "DO UPDATE SET task_count = category_task_counts.task_count + EXCLUDED.task_count",
+           nativeQuery = true)
+    int moveTaskCounts(@Param("teamId") UUID teamId, @Param("taskId") UUID taskId, @Param("status") String status);
+
+    /**
+     * Takes the transaction-scoped lock that serializes reconciliations of the category and tag task counts.
+     * A second run waits for the first to commit, so its recount already sees the corrected values.
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('task_count_reconciliation'))", nativeQuery = true)
+    int lockTaskCountReconciliation();
+
+    /**
+     * Adds the difference between the recounted and the stored value, both read from the same snapshot,
+     * so writes committed meanwhile stay counted. Concurrent runs would both add the same difference:
+     * call under {@link #lockTaskCountReconciliation()}.
+     */
+    @Modifying
+    @Query(value = "WITH actual AS (" +
+                   "  SELECT category_id, status, count(*) AS task_count FROM tasks GROUP BY category_id, status), " +
+                   "drift AS (" +
+                   "  SELECT COALESCE(a.category_id, n.category_id) AS category_id, COALESCE(a.status, n.status) AS status, " +
+                   "         COALESCE(a.task_count, 0) - COALESCE(n.task_count, 0) AS delta " +
+                   "  FROM actual a " +
+                   "  FULL JOIN category_task_counts n ON n.category_id = a.category_id AND n.status = a.status) " +
+                   "INSERT INTO category_task_counts (category_id, status, task_count) " +
+                   "SELECT category_id, status, delta FROM drift WHERE delta <> 0 " +
+                   "ORDER BY 1, 2 " +
+                   "ON CONFLICT (category_id, status) " +
+                   "DO UPDATE SET task_count = category_task_counts.task_count + EXCLUDED.task_count",
+           nativeQuery = true)
+    int reconcileTaskCounts();
 
     @Query("SELECT COUNT(c) > 0 " +
            "FROM CategoryEntity c " +
@@ -30,5 +89,11 @@ public interface SpringDataCategoryRepository extends JpaRepository<CategoryEnti
            "WHERE c.id = :categoryId AND (team.owner.id = :userId OR member.id = :userId)")
     boolean canAccess(@Param("categoryId") UUID categoryId, @Param("userId") UUID userId);
 
+    @Query("SELECT c.team.id FROM CategoryEntity c WHERE c.id = :categoryId")
+    Optional<UUID> findTeamIdById(@Param("categoryId") UUID categoryId);
+
+    @Query("SELECT c.id FROM CategoryEntity c WHERE c.team.id = :teamId AND c.id IN :ids")
+    Set<UUID> findIdsByTeamIdAndIdIn(@Param("teamId") UUID teamId, @Param("ids") Collection<UUID> ids);
+
     boolean existsByTeamIdAndNameIgnoreCase(UUID teamId, String name);
 }
@@ -1,29 +1,80 @@
 package com.belyak.taskproject.infrastructure.persistence.repository;
 
-import com.belyak.taskproject.domain.model.TaskStatus;
 import com.belyak.taskproject.infrastructure.persistence.entity.TagEntity;
 import com.belyak.taskproject.infrastructure.persistence.projections.TagInfoWithTaskCountProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface SpringDataTagRepository extends JpaRepository<TagEntity, UUID> {
 
-    @Query("SELECT t.id as id, t.name as name, t.color as color, COUNT(task) as taskCount " +
-           "FROM TagEntity t " +
-           "LEFT JOIN t.tasks task on task.status = :status " +
-           "WHERE t.team.id = :teamId " +
-           "GROUP BY t.id, t.name, t.color")
+    @Query(value = "SELECT t.id AS id, t.name AS name, t.color AS color, COALESCE(n.task_count, 0) AS \"taskCount\" " +
+                   "FROM tags t " +
+                   "LEFT JOIN tag_task_counts n ON n.tag_id = t.id AND n.status = :status " +
+                   "WHERE t.team_id = :teamId",
+           nativeQuery = true)
     List<TagInfoWithTaskCountProjection> findTagsByTeamIdAndStatus(
             @Param("teamId") UUID teamId,
-            @Param("status") TaskStatus status);
+            @Param("status") String status);
+
+    /**
+     * Adds {@code deltas[i]} to the count of {@code (tagIds[i], statuses[i])}. Rows are locked in key order,
+     * so concurrent writers cannot deadlock on them.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO tag_task_counts (tag_id, status, task_count) " +
+                   "SELECT * FROM unnest(CAST(:tagIds AS uuid[]), CAST(:statuses AS varchar[]), CAST(:deltas AS int[])) " +
+                   "ORDER BY 1, 2 " +
+                   "ON CONFLICT (tag_id, status) " +
+                   "DO UPDATE SET task_count = tag_task_counts.task_count + EXCLUDED.task_count",
+           nativeQuery = true)
+    int addTaskCounts(@Param("tagIds") UUID[] tagIds,
+                      @Param("statuses") String[] statuses,
+                      @Param("deltas") Integer[] deltas);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "WITH task AS (" +
+                   "  SELECT id, status FROM tasks " +
+                   "  WHERE id = :taskId AND team_id = :teamId AND status <> :status FOR UPDATE) " +
+                   "INSERT INTO tag_task_counts (tag_id, status, task_count) " +
+                   "SELECT tt.tag_id, task.status, -1 FROM task JOIN task_tags tt ON tt.task_id = task.id " +
+                   "UNION ALL SELECT tt.tag_id, :status, 1 FROM task JOIN task_tags tt ON tt.task_id = task.id " +
+                   "ORDER BY 1, 2 " +
+                   "ON CONFLICT (tag_id, status) " +
+                   "DO UPDATE SET task_count = tag_task_counts.task_count + EXCLUDED.task_count",
+           nativeQuery = true)
+    int moveTaskCounts(@Param("teamId") UUID teamId, @Param("taskId") UUID taskId, @Param("status") String status);
+
+    /**
+     * Adds the difference between the recounted and the stored value, both read from the same snapshot,
+     * so writes committed meanwhile stay counted. Call under
+     * {@link SpringDataCategoryRepository#lockTaskCountReconciliation()}.
+     */
+    @Modifying
+    @Query(value = "WITH actual AS (" +
+                   "  SELECT tt.tag_id, t.status, count(*) AS task_count " +
+                   "  FROM task_tags tt JOIN tasks t ON t.id = tt.task_id GROUP BY tt.tag_id, t.status), " +
+                   "drift AS (" +
+                   "  SELECT COALESCE(a.tag_id, n.tag_id) AS tag_id, COALESCE(a.status, n.status) AS status, " +
+                   "         COALESCE(a.task_count, 0) - COALESCE(n.task_count, 0) AS delta " +
+                   "  FROM actual a " +
+                   "  FULL JOIN tag_task_counts n ON n.tag_id = a.tag_id AND n.status = a.status) " +
+                   "INSERT INTO tag_task_counts (tag_id, status, task_count) " +
+                   "SELECT tag_id, status, delta FROM drift WHERE delta <> 0 " +
+                   "ORDER BY 1, 2 " +
+                   "ON CONFLICT (tag_id, status) " +
+                   "DO UPDATE SET task_count = tag_task_counts.task_count + EXCLUDED.task_count",
+           nativeQuery = true)
+    int reconcileTaskCounts();
 
     @Query("SELECT COUNT(t) > 0 " +
            "FROM TagEntity t " +
@@ -32,9 +83,15 @@ public interface SpringDataTagRepository extends JpaRepository<TagEntity, UUID>
            "WHERE t.id = :tagId and member.id = :userId")
     boolean canAccess(@Param("tagId") UUID tagId, @Param("userId") UUID userId);
 
+    @Query("SELECT t.team.id FROM TagEntity t WHERE t.id = :tagId")
+    Optional<UUID> findTeamIdById(@Param("tagId") UUID tagId);
+
     @Query("SELECT t.name FROM TagEntity t " +
            "WHERE t.team.id = :teamId " +
            "AND LOWER(t.name) IN :names")
     Set<String> findNamesByTeamIdAndNamesIn(@Param("teamId") UUID teamId,
                                             @Param("names") Collection<String> names);
+
+    @Query("SELECT t.id FROM TagEntity t WHERE t.team.id = :teamId AND t.id IN :ids")
+    Set<UUID> findIdsByTeamIdAndIdIn(@Param("teamId") UUID teamId, @Param("ids") Collection<UUID> ids);
 }
@@ -2,30 +2,175 @@ package com.belyak.taskproject.infrastructure.persistence.repository;
 
 import com.belyak.taskproject.domain.model.TaskStatus;
 import com.belyak.taskproject.infrastructure.persistence.entity.TaskEntity;
-import com.belyak.taskproject.infrastructure.persistence.projections.TaskInfoProjection;
-import org.springframework.data.jpa.repository.EntityGraph;
+import com.belyak.taskproject.infrastructure.persistence.projections.DashboardRowProjection;
+import com.belyak.taskproject.infrastructure.persistence.projections.TaskSearchRowProjection;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskTagRow;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface SpringDataTaskRepository extends JpaRepository<TaskEntity, UUID> {
+public interface SpringDataTaskRepository extends JpaRepository<TaskEntity, UUID>, TaskFilterQueries {
 
-    @EntityGraph(attributePaths = {"category", "tags", "assignee"})
-    @Query("SELECT t " +
-           "FROM TaskEntity t " +
-           "WHERE t.team.id = :teamId AND t.status = :status")
-    List<TaskInfoProjection> findAllByTeamIdAndStatus(
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * Statuses of tasks still to be done, as in the partial index {@code idx_tasks_team_due_open}.
+     */
+    String OPEN_STATUSES = "('DRAFT', 'TODO', 'IN_PROGRESS')";
+
+    String TASK_VIEW_SELECT =
+            "SELECT new com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView(" +
+            "t.id, t.title, t.description, t.status, t.priority, t.createdAt, t.updatedAt, t.dueDate, t.version, " +
+            "c.id, c.name, a.id, a.name, a.email) " +
+            "FROM TaskEntity t " +
+            "LEFT JOIN t.category c " +
+            "LEFT JOIN t.assignee a ";
+
+    /**
+     * Delimiters {@code ts_headline} puts around matched words: control characters, {@code chr(2)} and
+     * {@code chr(3)} in SQL, removed from the stored text first so that they can only mark matches.
+     */
+    String HIGHLIGHT_START = "\002";
+    String HIGHLIGHT_STOP = "\003";
+    String HIGHLIGHT_SELECTORS = "'StartSel=' || chr(2) || ', StopSel=' || chr(3)";
+
+    /**
+     * Ranks matches on the GIN index first and builds the costly {@code ts_headline} snippets only for the page.
+     * Must use the text search configuration of the {@code tasks.search_vector} column.
+     */
+    String SEARCH_SELECT_HEAD =
+            "WITH query AS (SELECT websearch_to_tsquery('english', :query) AS q) " +
+            "SELECT page.id AS id, page.rank AS rank, " +
+            "       ts_headline('english', translate(t.title, chr(2) || chr(3), ''), query.q, " +
+            "                   'HighlightAll=true, ' || " + HIGHLIGHT_SELECTORS + ") AS \"titleHighlight\", " +
+            "       ts_headline('english', translate(coalesce(t.description, ''), chr(2) || chr(3), ''), query.q, " +
+            "                   'MaxFragments=2, MaxWords=20, MinWords=5, ' || " + HIGHLIGHT_SELECTORS + ") AS \"descriptionHighlight\" " +
+            "FROM (" +
+            "    SELECT t.id, ts_rank(t.search_vector, query.q) AS rank " +
+            "    FROM tasks t, query " +
+            "    WHERE t.team_id = :teamId AND t.search_vector @@ query.q ";
+
+    String SEARCH_SELECT_TAIL =
+            "    ORDER BY rank DESC, t.id DESC " +
+            "    LIMIT :limit" +
+            ") page " +
+            "JOIN tasks t ON t.id = page.id " +
+            "CROSS JOIN query " +
+            "ORDER BY page.rank DESC, page.id DESC";
+
+    @Query(value = SEARCH_SELECT_HEAD + SEARCH_SELECT_TAIL, nativeQuery = true)
+    List<TaskSearchRowProjection> searchFirstPage(
+            @Param("teamId") UUID teamId,
+            @Param("query") String query,
+            @Param("limit") int limit);
+
+    @Query(value = SEARCH_SELECT_HEAD +
+                   "AND (ts_rank(t.search_vector, query.q), t.id) < (CAST(:rank AS real), :id) " +
+                   SEARCH_SELECT_TAIL,
+           nativeQuery = true)
+    List<TaskSearchRowProjection> searchPageAfter(
             @Param("teamId") UUID teamId,
-            @Param("status") TaskStatus status);
+            @Param("query") String query,
+            @Param("rank") float rank,
+            @Param("id") UUID id,
+            @Param("limit") int limit);
+
+    @Query(TASK_VIEW_SELECT + "WHERE t.id IN :ids")
+    List<TaskView> findViewsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * All tasks of a team, newest first, read through a server-side cursor. Must be consumed inside a transaction.
+     */
+    @Query(TASK_VIEW_SELECT +
+           "WHERE t.team.id = :teamId " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    Stream<TaskView> streamByTeamId(@Param("teamId") UUID teamId);
+
+    /**
+     * Ordered by name, then id: the tags of a task must serialize identically while the board version stays the same.
+     */
+    @Query("SELECT new com.belyak.taskproject.infrastructure.persistence.readmodel.TaskTagRow(" +
+           "task.id, tag.id, tag.name, tag.color) " +
+           "FROM TagEntity tag " +
+           "JOIN tag.tasks task " +
+           "WHERE task.id IN :taskIds " +
+           "ORDER BY tag.name, tag.id")
+    List<TaskTagRow> findTagRowsByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
+
+    @Query(TASK_VIEW_SELECT + "WHERE t.id = :id")
+    Optional<TaskView> findViewById(@Param("id") UUID id);
+
+    /**
+     * Every dashboard count of a team in one scan of its tasks: one grouping set per dimension
+     * (TOTAL, STATUS, PRIORITY, ASSIGNEE), open and overdue counted with FILTER. The top tags (TAG rows)
+     * come from the maintained tag task counts instead of joining task_tags.
+     */
+    @Query(value = "WITH team_tasks AS (" +
+                   "  SELECT t.status, t.priority, t.assignee_id, u.name AS assignee_name, " +
+                   "         t.status IN " + OPEN_STATUSES + " AS is_open, " +
+                   "         t.status IN " + OPEN_STATUSES + " AND t.due_date < :now AS is_overdue " +
+                   "  FROM tasks t LEFT JOIN users u ON u.id = t.assignee_id " +
+                   "  WHERE t.team_id = :teamId) " +
+                   "SELECT CASE GROUPING(tt.status, tt.priority, tt.assignee_id) " +
+                   "         WHEN 3 THEN 'STATUS' WHEN 5 THEN 'PRIORITY' WHEN 6 THEN 'ASSIGNEE' ELSE 'TOTAL' END AS dimension, " +
+                   "       COALESCE(tt.status, tt.priority, CAST(tt.assignee_id AS varchar)) AS \"groupKey\", " +
+                   "       tt.assignee_name AS label, CAST(NULL AS varchar) AS color, " +
+                   "       count(*) AS tasks, " +
+                   "       count(*) FILTER (WHERE tt.is_open) AS \"openTasks\", " +
+                   "       count(*) FILTER (WHERE tt.is_overdue) AS \"overdueTasks\" " +
+                   "FROM team_tasks tt " +
+                   "GROUP BY GROUPING SETS ((), (tt.status), (tt.priority), (tt.assignee_id, tt.assignee_name)) " +
+                   "UNION ALL (" +
+                   "  SELECT 'TAG', CAST(g.id AS varchar), g.name, g.color, " +
+                   "         sum(n.task_count), " +
+                   "         COALESCE(sum(n.task_count) FILTER (WHERE n.status IN " + OPEN_STATUSES + "), 0), " +
+                   "         CAST(NULL AS bigint) " +
+                   "  FROM tags g JOIN tag_task_counts n ON n.tag_id = g.id " +
+                   "  WHERE g.team_id = :teamId " +
+                   "  GROUP BY g.id " +
+                   "  HAVING sum(n.task_count) > 0 " +
+                   "  ORDER BY 6 DESC, 5 DESC, g.name, g.id " +
+                   "  LIMIT :topTags)",
+           nativeQuery = true)
+    List<DashboardRowProjection> findDashboardRows(
+            @Param("teamId") UUID teamId,
+            @Param("now") Instant now,
+            @Param("topTags") int topTags);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TaskEntity t SET t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+           "WHERE t.id = :id AND t.team.id = :teamId " +
+           "AND (:expectedVersion IS NULL OR t.version = :expectedVersion)")
+    int updateStatus(@Param("teamId") UUID teamId,
+                     @Param("id") UUID id,
+                     @Param("status") TaskStatus status,
+                     @Param("updatedAt") Instant updatedAt,
+                     @Param("expectedVersion") Long expectedVersion);
 
-    @EntityGraph(attributePaths = {"category", "tags", "assignee", "team"})
-    Optional<TaskInfoProjection> findProjectedById(UUID id);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TaskEntity t SET t.assignee.id = :assigneeId, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+           "WHERE t.id = :id AND t.team.id = :teamId " +
+           "AND (:expectedVersion IS NULL OR t.version = :expectedVersion)")
+    int updateAssignee(@Param("teamId") UUID teamId,
+                       @Param("id") UUID id,
+                       @Param("assigneeId") UUID assigneeId,
+                       @Param("updatedAt") Instant updatedAt,
+                       @Param("expectedVersion") Long expectedVersion);
 
     boolean existsByCategoryId(UUID categoryId);
 
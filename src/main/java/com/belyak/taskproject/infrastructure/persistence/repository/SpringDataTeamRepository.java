@@ -6,6 +6,7 @@ import com.belyak.taskproject.infrastructure.persistence.projections.TeamDetails
 import com.belyak.taskproject.infrastructure.persistence.projections.TeamSummaryProjection;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Repository;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -33,11 +35,17 @@ public interface SpringDataTeamRepository extends JpaRepository<TeamEntity, UUID
 
     Optional<TeamEntity> findByJoinCode(String joinCode);
 
-    @Query("SELECT COUNT(t) > 0 " +
+    @Query("SELECT t.id " +
+           "FROM TeamEntity t " +
+           "JOIN t.members m " +
+           "WHERE m.id = :userId")
+    Set<UUID> findTeamIdsByMemberId(@Param("userId") UUID userId);
+
+    @Query("SELECT m.id " +
            "FROM TeamEntity t " +
            "JOIN t.members m " +
-           "WHERE t.id = :teamId AND m.id = :userId")
-    boolean isMember(@Param("teamId") UUID teamId, @Param("userId") UUID userId);
+           "WHERE t.id = :teamId")
+    Set<UUID> findMemberIdsByTeamId(@Param("teamId") UUID teamId);
 
     @Query("SELECT COUNT(t) > 0 " +
            "FROM TeamEntity t " +
@@ -46,6 +54,22 @@ public interface SpringDataTeamRepository extends JpaRepository<TeamEntity, UUID
 
     int deleteByStatusAndDeletedAtBefore(TeamStatus status, Instant deletedAt);
 
+    @Query("SELECT t.boardVersion FROM TeamEntity t WHERE t.id = :teamId")
+    Optional<Long> findBoardVersionById(@Param("teamId") UUID teamId);
+
+    @Modifying
+    @Query("UPDATE TeamEntity t SET t.boardVersion = t.boardVersion + 1 WHERE t.id = :teamId")
+    int incrementBoardVersion(@Param("teamId") UUID teamId);
+
+    /**
+     * Teams the user belongs to, and teams where the user still has tasks assigned, e.g. after being kicked.
+     */
+    @Modifying
+    @Query("UPDATE TeamEntity t SET t.boardVersion = t.boardVersion + 1 " +
+           "WHERE t.id IN (SELECT mt.id FROM TeamEntity mt JOIN mt.members m WHERE m.id = :userId) " +
+           "OR t.id IN (SELECT task.team.id FROM TaskEntity task WHERE task.assignee.id = :userId)")
+    int incrementBoardVersionsShowingUser(@Param("userId") UUID userId);
+
     @EntityGraph(attributePaths = {"owner", "members"})
     Optional<TeamDetailsProjection> findProjectedById(UUID id);
 }
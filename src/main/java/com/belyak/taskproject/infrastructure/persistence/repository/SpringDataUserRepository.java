@@ -2,6 +2,9 @@ package com.belyak.taskproject.infrastructure.persistence.repository;
 
 import com.belyak.taskproject.infrastructure.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +15,8 @@ public interface SpringDataUserRepository extends JpaRepository<UserEntity, UUID
     Optional<UserEntity> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.membershipVersion = u.membershipVersion + 1 WHERE u.id = :userId")
+    int incrementMembershipVersion(@Param("userId") UUID userId);
 }
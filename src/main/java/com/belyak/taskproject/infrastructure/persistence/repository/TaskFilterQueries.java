@@ -0,0 +1,20 @@
+package com.belyak.taskproject.infrastructure.persistence.repository;
+
+import com.belyak.taskproject.domain.model.TaskCursor;
+import com.belyak.taskproject.domain.model.TaskFilter;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Task list queries assembled at runtime from {@link TaskSpecifications}.
+ */
+public interface TaskFilterQueries {
+
+    /**
+     * Returns up to {@code limit} tag-less tasks of the team matching the filter, ordered by
+     * {@code (createdAt DESC, id DESC)}, starting strictly after {@code after} when given.
+     */
+    List<TaskView> findPage(UUID teamId, TaskFilter filter, TaskCursor after, int limit);
+}
@@ -0,0 +1,54 @@
+package com.belyak.taskproject.infrastructure.persistence.repository;
+
+import com.belyak.taskproject.domain.model.TaskCursor;
+import com.belyak.taskproject.domain.model.TaskFilter;
+import com.belyak.taskproject.infrastructure.persistence.entity.CategoryEntity;
+import com.belyak.taskproject.infrastructure.persistence.entity.TaskEntity;
+import com.belyak.taskproject.infrastructure.persistence.entity.UserEntity;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data fragment of {@link SpringDataTaskRepository}: the same {@link TaskView} projection as
+ * {@link SpringDataTaskRepository#TASK_VIEW_SELECT}, with a WHERE clause built from the filter.
+ */
+@RequiredArgsConstructor
+class TaskFilterQueriesImpl implements TaskFilterQueries {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<TaskView> findPage(UUID teamId, TaskFilter filter, TaskCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskView> query = cb.createQuery(TaskView.class);
+        Root<TaskEntity> task = query.from(TaskEntity.class);
+        Join<TaskEntity, CategoryEntity> category = task.join("category", JoinType.LEFT);
+        Join<TaskEntity, UserEntity> assignee = task.join("assignee", JoinType.LEFT);
+
+        Specification<TaskEntity> spec = TaskSpecifications.matching(teamId, filter)
+                .and(TaskSpecifications.after(after));
+
+        query.select(cb.construct(TaskView.class,
+                        task.get("id"), task.get("title"), task.get("description"), task.get("status"),
+                        task.get("priority"), task.get("createdAt"), task.get("updatedAt"), task.get("dueDate"),
+                        task.get("version"),
+                        category.get("id"), category.get("name"),
+                        assignee.get("id"), assignee.get("name"), assignee.get("email")))
+                .where(spec.toPredicate(task, query, cb))
+                .orderBy(cb.desc(task.get("createdAt")), cb.desc(task.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
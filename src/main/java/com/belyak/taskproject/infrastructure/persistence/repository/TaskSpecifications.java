@@ -0,0 +1,126 @@
+package com.belyak.taskproject.infrastructure.persistence.repository;
+
+import com.belyak.taskproject.domain.model.TaskCursor;
+import com.belyak.taskproject.domain.model.TaskFilter;
+import com.belyak.taskproject.domain.model.TaskPriority;
+import com.belyak.taskproject.domain.model.TaskStatus;
+import com.belyak.taskproject.infrastructure.persistence.entity.TagEntity;
+import com.belyak.taskproject.infrastructure.persistence.entity.TaskEntity;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Subquery;
+import lombok.experimental.UtilityClass;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Predicates of the task list, one per criterion of {@link TaskFilter}.
+ */
+@UtilityClass
+public class TaskSpecifications {
+
+    /**
+     * Tasks of the team matching every criterion of the filter.
+     */
+    public static Specification<TaskEntity> matching(UUID teamId, TaskFilter filter) {
+        Specification<TaskEntity> spec = inTeam(teamId)
+                .and(statusIn(filter.statuses()))
+                .and(priorityIn(filter.priorities()))
+                .and(assignedTo(filter.assigneeId()))
+                .and(inCategory(filter.categoryId()))
+                .and(dueFrom(filter.dueFrom()))
+                .and(dueBefore(filter.dueTo()))
+                .and(matchesText(teamId, filter.text()));
+
+        return switch (filter.tagMatch()) {
+            case ANY -> spec.and(hasAnyTag(filter.tagIds()));
+            case ALL -> spec.and(hasAllTags(filter.tagIds()));
+        };
+    }
+
+    public static Specification<TaskEntity> inTeam(UUID teamId) {
+        return (task, query, cb) -> cb.equal(task.get("team").get("id"), teamId);
+    }
+
+    public static Specification<TaskEntity> statusIn(Set<TaskStatus> statuses) {
+        return (task, query, cb) -> statuses.isEmpty() ? null : task.get("status").in(statuses);
+    }
+
+    public static Specification<TaskEntity> priorityIn(Set<TaskPriority> priorities) {
+        return (task, query, cb) -> priorities.isEmpty() ? null : task.get("priority").in(priorities);
+    }
+
+    public static Specification<TaskEntity> assignedTo(UUID assigneeId) {
+        return (task, query, cb) -> assigneeId == null ? null : cb.equal(task.get("assignee").get("id"), assigneeId);
+    }
+
+    public static Specification<TaskEntity> inCategory(UUID categoryId) {
+        return (task, query, cb) -> categoryId == null ? null : cb.equal(task.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<TaskEntity> dueFrom(Instant from) {
+        return (task, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(task.<Instant>get("dueDate"), from);
+    }
+
+    public static Specification<TaskEntity> dueBefore(Instant to) {
+        return (task, query, cb) -> to == null ? null : cb.lessThan(task.<Instant>get("dueDate"), to);
+    }
+
+    public static Specification<TaskEntity> hasAnyTag(Set<UUID> tagIds) {
+        return (task, query, cb) -> {
+            if (tagIds.isEmpty()) return null;
+
+            Subquery<Integer> tagged = query.subquery(Integer.class);
+            Join<TaskEntity, TagEntity> tag = tagged.correlate(task).join("tags");
+            tagged.select(cb.literal(1)).where(tag.get("id").in(tagIds));
+            return cb.exists(tagged);
+        };
+    }
+
+    public static Specification<TaskEntity> hasAllTags(Set<UUID> tagIds) {
+        return (task, query, cb) -> {
+            if (tagIds.isEmpty()) return null;
+
+            Subquery<Long> matched = query.subquery(Long.class);
+            Join<TaskEntity, TagEntity> tag = matched.correlate(task).join("tags");
+            matched.select(cb.count(tag)).where(tag.get("id").in(tagIds));
+            return cb.equal(matched, (long) tagIds.size());
+        };
+    }
+
+    /**
+     * Full-text match on the unmapped {@code search_vector} column, reached through an uncorrelated subquery
+     * that PostgreSQL runs once, on the GIN index, and semi-joins to the outer rows.
+     */
+    public static Specification<TaskEntity> matchesText(UUID teamId, String text) {
+        return (task, query, cb) -> {
+            if (text == null) return null;
+
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            return cb.isTrue(hcb.sql(
+                    "? IN (SELECT s.id FROM tasks s " +
+                    "WHERE s.team_id = ? AND s.search_vector @@ websearch_to_tsquery('english', ?))",
+                    Boolean.class,
+                    task.get("id"), hcb.value(teamId), hcb.value(text)));
+        };
+    }
+
+    /**
+     * Tasks strictly after the cursor in {@code (createdAt DESC, id DESC)} order. The redundant
+     * {@code createdAt <= cursor} bound lets the index scan start at the cursor.
+     */
+    public static Specification<TaskEntity> after(TaskCursor cursor) {
+        return (task, query, cb) -> {
+            if (cursor == null) return null;
+
+            return cb.and(
+                    cb.lessThanOrEqualTo(task.<Instant>get("createdAt"), cursor.createdAt()),
+                    cb.or(
+                            cb.lessThan(task.<Instant>get("createdAt"), cursor.createdAt()),
+                            cb.lessThan(task.<UUID>get("id"), cursor.id())));
+        };
+    }
+}
@@ -12,8 +12,10 @@ import com.belyak.taskproject.infrastructure.persistence.repository.SpringDataTe
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -26,7 +28,7 @@ public class CategoryRepositoryImpl implements CategoryRepository {
 
     @Override
     public List<CategoryInfoWithTaskCountProjection> findAllByTeamId(UUID teamId, TaskStatus status) {
-        return springDataCategoryRepository.findCategoriesByTeamIdAndStatus(teamId, status);
+        return springDataCategoryRepository.findCategoriesByTeamIdAndStatus(teamId, status.name());
     }
 
     @Override
@@ -55,6 +57,18 @@ public class CategoryRepositoryImpl implements CategoryRepository {
                 .map(categoryPersistenceMapper::toDomain);
     }
 
+    @Override
+    public Optional<UUID> findTeamIdById(UUID categoryId) {
+        return springDataCategoryRepository.findTeamIdById(categoryId);
+    }
+
+    @Override
+    public Set<UUID> findExistingCategoryIds(UUID teamId, Set<UUID> categoryIds) {
+        if (categoryIds.isEmpty()) return Collections.emptySet();
+
+        return springDataCategoryRepository.findIdsByTeamIdAndIdIn(teamId, categoryIds);
+    }
+
     @Override
     public void deleteById(UUID categoryId) {
         springDataCategoryRepository.deleteById(categoryId);
@@ -27,7 +27,7 @@ public class TagRepositoryImpl implements TagRepository {
     @Override
     @Transactional(readOnly = true)
     public List<TagInfoWithTaskCountProjection> findAllByTeamId(UUID teamId, TaskStatus status) {
-        return springDataTagRepository.findTagsByTeamIdAndStatus(teamId, status);
+        return springDataTagRepository.findTagsByTeamIdAndStatus(teamId, status.name());
     }
 
     @Override
@@ -66,6 +66,11 @@ public class TagRepositoryImpl implements TagRepository {
                 .map(tagPersistenceMapper::toDomain);
     }
 
+    @Override
+    public Optional<UUID> findTeamIdById(UUID tagId) {
+        return springDataTagRepository.findTeamIdById(tagId);
+    }
+
     @Override
     public Set<String> findExistingTagNames(UUID teamId, Set<String> names) {
         if (names.isEmpty()) return Collections.emptySet();
@@ -76,4 +81,11 @@ public class TagRepositoryImpl implements TagRepository {
 
         return springDataTagRepository.findNamesByTeamIdAndNamesIn(teamId, lowerCaseNames);
     }
+
+    @Override
+    public Set<UUID> findExistingTagIds(UUID teamId, Set<UUID> tagIds) {
+        if (tagIds.isEmpty()) return Collections.emptySet();
+
+        return springDataTagRepository.findIdsByTeamIdAndIdIn(teamId, tagIds);
+    }
 }
@@ -0,0 +1,67 @@
+package com.belyak.taskproject.infrastructure.persistence.repository.impl;
+
+import com.belyak.taskproject.domain.model.TaskCountDelta;
+import com.belyak.taskproject.domain.model.TaskStatus;
+import com.belyak.taskproject.domain.port.repository.TaskCountRepository;
+import com.belyak.taskproject.infrastructure.persistence.repository.SpringDataCategoryRepository;
+import com.belyak.taskproject.infrastructure.persistence.repository.SpringDataTagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskCountRepositoryImpl implements TaskCountRepository {
+
+    private final SpringDataCategoryRepository categoryRepository;
+    private final SpringDataTagRepository tagRepository;
+
+    @Override
+    @Transactional
+    public void apply(TaskCountDelta delta) {
+        // Category rows before tag rows, each statement in key order: the same lock order for every writer
+        if (!delta.categories().isEmpty()) {
+            Columns columns = Columns.of(delta.categories());
+            categoryRepository.addTaskCounts(columns.ids(), columns.statuses(), columns.deltas());
+        }
+        if (!delta.tags().isEmpty()) {
+            Columns columns = Columns.of(delta.tags());
+            tagRepository.addTaskCounts(columns.ids(), columns.statuses(), columns.deltas());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void moveStatus(UUID teamId, UUID taskId, TaskStatus status) {
+        categoryRepository.moveTaskCounts(teamId, taskId, status.name());
+        tagRepository.moveTaskCounts(teamId, taskId, status.name());
+    }
+
+    @Override
+    @Transactional
+    public int reconcile() {
+        categoryRepository.lockTaskCountReconciliation();
+        return categoryRepository.reconcileTaskCounts() + tagRepository.reconcileTaskCounts();
+    }
+
+    /**
+     * A delta as parallel arrays, bound to the {@code unnest} of the upsert.
+     */
+    private record Columns(UUID[] ids, String[] statuses, Integer[] deltas) {
+
+        static Columns of(Map<TaskCountDelta.Key, Integer> counts) {
+            Columns columns = new Columns(new UUID[counts.size()], new String[counts.size()], new Integer[counts.size()]);
+            int i = 0;
+            for (Map.Entry<TaskCountDelta.Key, Integer> count : counts.entrySet()) {
+                columns.ids[i] = count.getKey().id();
+                columns.statuses[i] = count.getKey().status().name();
+                columns.deltas[i] = count.getValue();
+                i++;
+            }
+            return columns;
+        }
+    }
+}
@@ -1,28 +1,58 @@
 package com.belyak.taskproject.infrastructure.persistence.repository.impl;
 
 import com.belyak.taskproject.domain.model.Task;
+import com.belyak.taskproject.domain.model.TaskCursor;
+import com.belyak.taskproject.domain.model.TaskFilter;
+import com.belyak.taskproject.domain.model.TaskPriority;
+import com.belyak.taskproject.domain.model.TaskSearchCursor;
 import com.belyak.taskproject.domain.model.TaskStatus;
 import com.belyak.taskproject.domain.port.repository.TaskRepository;
 import com.belyak.taskproject.infrastructure.persistence.entity.TagEntity;
 import com.belyak.taskproject.infrastructure.persistence.entity.TaskEntity;
 import com.belyak.taskproject.infrastructure.persistence.mapper.TaskPersistenceMapper;
-import com.belyak.taskproject.infrastructure.persistence.projections.TaskInfoProjection;
+import com.belyak.taskproject.infrastructure.persistence.projections.DashboardRowProjection;
+import com.belyak.taskproject.infrastructure.persistence.projections.TaskSearchRowProjection;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TagView;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskSearchHit;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskTagRow;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TeamDashboard;
 import com.belyak.taskproject.infrastructure.persistence.repository.*;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class TaskRepositoryImpl implements TaskRepository {
 
+    /**
+     * Most open, then most overdue tasks first; ties by name and id, the unassigned bucket last among equals,
+     * so the order is stable between requests.
+     */
+    private static final Comparator<TeamDashboard.AssigneeWorkload> BUSIEST_FIRST =
+            Comparator.comparingLong(TeamDashboard.AssigneeWorkload::openTasks).reversed()
+                    .thenComparing(Comparator.comparingLong(TeamDashboard.AssigneeWorkload::overdueTasks).reversed())
+                    .thenComparing(TeamDashboard.AssigneeWorkload::name, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(TeamDashboard.AssigneeWorkload::assigneeId, Comparator.nullsLast(Comparator.naturalOrder()));
+
     private final SpringDataTaskRepository springDataTaskRepository;
     private final SpringDataTeamRepository teamRepository;
     private final SpringDataUserRepository userRepository;
@@ -39,10 +69,39 @@ public class TaskRepositoryImpl implements TaskRepository {
             entity = springDataTaskRepository.findById(task.getId())
                     .orElseThrow(() -> new EntityNotFoundException("Task not found"));
         } else {
-            entity = new TaskEntity();
-            entity.setTeam(teamRepository.getReferenceById(task.getTeamId()));
+            entity = newEntity(task);
         }
 
+        copyToEntity(task, entity);
+
+        // Flushed so the returned task carries the version after this update
+        return taskPersistenceMapper.toDomain(springDataTaskRepository.saveAndFlush(entity));
+    }
+
+    @Override
+    @Transactional
+    public List<Task> createAll(List<Task> tasks) {
+        // Ids are generated in the application, so hibernate.jdbc.batch_size groups the INSERTs at flush
+        List<TaskEntity> entities = tasks.stream()
+                .map(task -> {
+                    TaskEntity entity = newEntity(task);
+                    copyToEntity(task, entity);
+                    return entity;
+                })
+                .toList();
+
+        return springDataTaskRepository.saveAll(entities).stream()
+                .map(taskPersistenceMapper::toDomain)
+                .toList();
+    }
+
+    private TaskEntity newEntity(Task task) {
+        TaskEntity entity = new TaskEntity();
+        entity.setTeam(teamRepository.getReferenceById(task.getTeamId()));
+        return entity;
+    }
+
+    private void copyToEntity(Task task, TaskEntity entity) {
         entity.setTitle(task.getTitle());
         entity.setDescription(task.getDescription());
         entity.setStatus(task.getStatus());
@@ -60,15 +119,38 @@ public class TaskRepositoryImpl implements TaskRepository {
         }
 
         if (task.getTagIds() != null && !task.getTagIds().isEmpty()) {
-            Set<TagEntity> tagProxies = task.getTagIds().stream()
-                    .map(tagRepository::getReferenceById)
-                    .collect(Collectors.toSet());
-            entity.setTags(tagProxies);
+            syncTags(entity.getTags(), task.getTagIds());
         } else {
             entity.getTags().clear();
         }
+    }
+
+    /**
+     * Brings the mapped collection to {@code targetIds} in place, so Hibernate writes only
+     * the task_tags rows that were removed or added instead of deleting and re-inserting the whole set.
+     */
+    private void syncTags(Set<TagEntity> tags, Set<UUID> targetIds) {
+        tags.removeIf(tag -> !targetIds.contains(tag.getId()));
 
-        return taskPersistenceMapper.toDomain(springDataTaskRepository.save(entity));
+        Set<UUID> currentIds = tags.stream()
+                .map(TagEntity::getId)
+                .collect(Collectors.toSet());
+        targetIds.stream()
+                .filter(tagId -> !currentIds.contains(tagId))
+                .map(tagRepository::getReferenceById)
+                .forEach(tags::add);
+    }
+
+    @Override
+    @Transactional
+    public boolean updateStatus(UUID teamId, UUID taskId, TaskStatus status, Long expectedVersion) {
+        return springDataTaskRepository.updateStatus(teamId, taskId, status, Instant.now(), expectedVersion) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean updateAssignee(UUID teamId, UUID taskId, UUID assigneeId, Long expectedVersion) {
+        return springDataTaskRepository.updateAssignee(teamId, taskId, assigneeId, Instant.now(), expectedVersion) == 1;
     }
 
     @Override
@@ -85,16 +167,136 @@ public class TaskRepositoryImpl implements TaskRepository {
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskInfoProjection> findAllByTeamIdAndStatus(UUID teamId, TaskStatus status) {
-        return springDataTaskRepository.findAllByTeamIdAndStatus(teamId, status);
+    public List<TaskView> findPage(UUID teamId, TaskFilter filter, TaskCursor after, int limit) {
+        // Scalar columns only: one row per task, so LIMIT stays in SQL
+        return withTags(springDataTaskRepository.findPage(teamId, filter, after, limit));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Optional<TaskInfoProjection> findDetailsById(UUID taskId) {
-        return springDataTaskRepository.findProjectedById(taskId);
+    public void forEachByTeamId(UUID teamId, Consumer<TaskView> action) {
+        // Rows arrive one fetch at a time; tags are attached per chunk of the same size
+        try (Stream<TaskView> rows = springDataTaskRepository.streamByTeamId(teamId)) {
+            Iterator<TaskView> iterator = rows.iterator();
+            List<TaskView> chunk = new ArrayList<>(SpringDataTaskRepository.EXPORT_FETCH_SIZE);
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == SpringDataTaskRepository.EXPORT_FETCH_SIZE) {
+                    withTags(chunk).forEach(action);
+                    chunk.clear();
+                }
+            }
+            withTags(chunk).forEach(action);
+        }
     }
 
+    /**
+     * Loads the tags of all given tasks with one query and attaches them, keeping the order of {@code tasks}.
+     */
+    private List<TaskView> withTags(List<TaskView> tasks) {
+        if (tasks.isEmpty()) return tasks;
+
+        List<UUID> taskIds = tasks.stream().map(TaskView::id).toList();
+        Map<UUID, List<TagView>> tagsByTaskId = springDataTaskRepository.findTagRowsByTaskIdIn(taskIds).stream()
+                .collect(Collectors.groupingBy(
+                        TaskTagRow::taskId,
+                        Collectors.mapping(TaskTagRow::toTagView, Collectors.toList())));
+
+        return tasks.stream()
+                .map(task -> task.withTags(tagsByTaskId.getOrDefault(task.id(), List.of())))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TaskView> findDetailsById(UUID taskId) {
+        return springDataTaskRepository.findViewById(taskId)
+                .map(task -> withTags(List.of(task)).getFirst());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskSearchHit> search(UUID teamId, String query, TaskSearchCursor after, int limit) {
+        List<TaskSearchRowProjection> rows = after == null
+                ? springDataTaskRepository.searchFirstPage(teamId, query, limit)
+                : springDataTaskRepository.searchPageAfter(teamId, query, after.rank(), after.id(), limit);
+        if (rows.isEmpty()) return List.of();
+
+        Map<UUID, TaskView> tasksById = withTags(springDataTaskRepository.findViewsByIdIn(
+                rows.stream().map(TaskSearchRowProjection::getId).toList())).stream()
+                .collect(Collectors.toMap(TaskView::id, Function.identity()));
+
+        // A task deleted between the two reads is dropped from the page
+        return rows.stream()
+                .filter(row -> tasksById.containsKey(row.getId()))
+                .map(row -> new TaskSearchHit(
+                        tasksById.get(row.getId()),
+                        row.getRank(),
+                        toSafeHighlight(row.getTitleHighlight()),
+                        toSafeHighlight(row.getDescriptionHighlight())))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TeamDashboard getDashboard(UUID teamId, Instant now, int topTags) {
+        long totalTasks = 0;
+        long openTasks = 0;
+        long overdueTasks = 0;
+        Map<TaskStatus, Long> tasksByStatus = zeroCounts(TaskStatus.class);
+        Map<TaskPriority, Long> tasksByPriority = zeroCounts(TaskPriority.class);
+        List<TeamDashboard.AssigneeWorkload> workload = new ArrayList<>();
+        List<TeamDashboard.TagUsage> tags = new ArrayList<>();
+
+        // The TAG rows arrive already ranked and limited
+        for (DashboardRowProjection row : springDataTaskRepository.findDashboardRows(teamId, now, topTags)) {
+            switch (row.getDimension()) {
+                case "TOTAL" -> {
+                    totalTasks = row.getTasks();
+                    openTasks = row.getOpenTasks();
+                    overdueTasks = row.getOverdueTasks();
+                }
+                case "STATUS" -> tasksByStatus.put(TaskStatus.valueOf(row.getGroupKey()), row.getTasks());
+                case "PRIORITY" -> tasksByPriority.put(TaskPriority.valueOf(row.getGroupKey()), row.getTasks());
+                case "ASSIGNEE" -> {
+                    if (row.getOpenTasks() > 0) {
+                        workload.add(new TeamDashboard.AssigneeWorkload(
+                                row.getGroupKey() == null ? null : UUID.fromString(row.getGroupKey()),
+                                row.getLabel(), row.getOpenTasks(), row.getOverdueTasks()));
+                    }
+                }
+                case "TAG" -> tags.add(new TeamDashboard.TagUsage(
+                        UUID.fromString(row.getGroupKey()), row.getLabel(), row.getColor(),
+                        row.getOpenTasks(), row.getTasks()));
+                default -> throw new IllegalStateException("Unknown dashboard dimension: " + row.getDimension());
+            }
+        }
+        workload.sort(BUSIEST_FIRST);
+
+        return new TeamDashboard(totalTasks, openTasks, overdueTasks, tasksByStatus, tasksByPriority,
+                List.copyOf(workload), List.copyOf(tags));
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zeroCounts(Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, 0L);
+        }
+        return counts;
+    }
+
+    /**
+     * ts_headline returns the stored text as is: escape it, then turn only the delimiters it inserted into
+     * {@code <mark>} tags. A literal {@code <mark>} in a title stays escaped text.
+     */
+    private static String toSafeHighlight(String headline) {
+        if (headline == null || headline.isEmpty()) return null;
+
+        return HtmlUtils.htmlEscape(headline)
+                .replace(SpringDataTaskRepository.HIGHLIGHT_START, "<mark>")
+                .replace(SpringDataTaskRepository.HIGHLIGHT_STOP, "</mark>");
+    }
 
     @Override
     public boolean existsByCategoryId(UUID categoryId) {
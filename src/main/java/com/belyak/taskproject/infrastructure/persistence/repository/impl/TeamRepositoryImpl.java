@@ -79,8 +79,13 @@ public class TeamRepositoryImpl implements TeamRepository {
     }
 
     @Override
-    public boolean isMember(UUID teamId, UUID userId) {
-        return springDataTeamRepository.isMember(teamId, userId);
+    public Set<UUID> findTeamIdsByMemberId(UUID memberId) {
+        return springDataTeamRepository.findTeamIdsByMemberId(memberId);
+    }
+
+    @Override
+    public Set<UUID> findMemberIds(UUID teamId) {
+        return springDataTeamRepository.findMemberIdsByTeamId(teamId);
     }
 
     @Override
@@ -105,6 +110,23 @@ public class TeamRepositoryImpl implements TeamRepository {
         return springDataTeamRepository.deleteByStatusAndDeletedAtBefore(status, date);
     }
 
+    @Override
+    @Transactional
+    public void incrementBoardVersion(UUID teamId) {
+        springDataTeamRepository.incrementBoardVersion(teamId);
+    }
+
+    @Override
+    @Transactional
+    public void incrementBoardVersionsShowingUser(UUID userId) {
+        springDataTeamRepository.incrementBoardVersionsShowingUser(userId);
+    }
+
+    @Override
+    public Optional<Long> findBoardVersion(UUID teamId) {
+        return springDataTeamRepository.findBoardVersionById(teamId);
+    }
+
     @Override
     public Optional<TeamDetailsProjection> getTeamDetailsById(UUID teamId) {
         return springDataTeamRepository.findProjectedById(teamId);
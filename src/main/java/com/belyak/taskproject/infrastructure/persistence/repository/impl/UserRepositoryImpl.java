@@ -8,6 +8,7 @@ import com.belyak.taskproject.infrastructure.persistence.repository.SpringDataUs
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -50,4 +51,10 @@ public class UserRepositoryImpl implements UserRepository {
         UserEntity savedEntity = springDataUserRepository.save(entityToSave);
         return userPersistenceMapper.toDomain(savedEntity);
     }
+
+    @Override
+    @Transactional
+    public void incrementMembershipVersion(UUID userId) {
+        springDataUserRepository.incrementMembershipVersion(userId);
+    }
 }
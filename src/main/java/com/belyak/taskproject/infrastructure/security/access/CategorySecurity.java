@@ -1,6 +1,5 @@
 package com.belyak.taskproject.infrastructure.security.access;
 
-import com.belyak.taskproject.domain.port.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -10,9 +9,9 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CategorySecurity {
 
-    private final CategoryRepository categoryRepository;
+    private final MembershipCache membershipCache;
 
     public boolean hasAccess(UUID categoryId, UUID userId) {
-        return categoryRepository.canAccess(categoryId, userId);
+        return membershipCache.canAccessCategory(categoryId, userId);
     }
 }
@@ -0,0 +1,181 @@
+package com.belyak.taskproject.infrastructure.security.access;
+
+import com.belyak.taskproject.domain.port.repository.CategoryRepository;
+import com.belyak.taskproject.domain.port.repository.TagRepository;
+import com.belyak.taskproject.domain.port.repository.TeamRepository;
+import com.belyak.taskproject.infrastructure.cache.CacheLoading;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-process index of team memberships (team → member ids) and of the owning team of tags and categories.
+ * <p>
+ * Turns the access checks of {@link TeamSecurity}, {@link TagSecurity} and {@link CategorySecurity}
+ * into map lookups; the database is only queried on a miss. Services invalidate entries when memberships,
+ * tags or categories change, and repeat the invalidation after commit so a concurrent request cannot
+ * re-cache the pre-commit state. Entries expire after {@code application.security.membership-cache.ttl},
+ * which bounds staleness for writes made on another instance.
+ */
+@Slf4j
+@Component
+public class MembershipCache {
+
+    private final TeamRepository teamRepository;
+    private final TagRepository tagRepository;
+    private final CategoryRepository categoryRepository;
+
+    private final AsyncCache<UUID, Set<UUID>> teamMembers;
+    private final AsyncCache<UUID, UUID> tagTeams;
+    private final AsyncCache<UUID, UUID> categoryTeams;
+
+    public MembershipCache(TeamRepository teamRepository,
+                           TagRepository tagRepository,
+                           CategoryRepository categoryRepository,
+                           MembershipCacheProperties properties) {
+        this.teamRepository = teamRepository;
+        this.tagRepository = tagRepository;
+        this.categoryRepository = categoryRepository;
+
+        this.teamMembers = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTeams())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+        this.tagTeams = resourceCache(properties);
+        this.categoryTeams = resourceCache(properties);
+    }
+
+    private static AsyncCache<UUID, UUID> resourceCache(MembershipCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaxResources())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+    }
+
+    // --- CHECKS ---
+
+    public boolean isMember(UUID teamId, UUID userId) {
+        if (teamId == null || userId == null) return false;
+
+        return CacheLoading.getOrLoad(teamMembers, teamId, id -> Set.copyOf(teamRepository.findMemberIds(id)))
+                .contains(userId);
+    }
+
+    public boolean canAccessTag(UUID tagId, UUID userId) {
+        return findTagTeamId(tagId)
+                .map(teamId -> isMember(teamId, userId))
+                .orElse(false);
+    }
+
+    public boolean canAccessCategory(UUID categoryId, UUID userId) {
+        return findCategoryTeamId(categoryId)
+                .map(teamId -> isMember(teamId, userId))
+                .orElse(false);
+    }
+
+    /**
+     * Unknown ids are not cached, so a tag created on another instance is found on the next lookup.
+     */
+    private Optional<UUID> findTagTeamId(UUID tagId) {
+        if (tagId == null) return Optional.empty();
+
+        return Optional.ofNullable(CacheLoading.getOrLoad(tagTeams,
+                tagId, id -> tagRepository.findTeamIdById(id).orElse(null)));
+    }
+
+    private Optional<UUID> findCategoryTeamId(UUID categoryId) {
+        if (categoryId == null) return Optional.empty();
+
+        return Optional.ofNullable(CacheLoading.getOrLoad(categoryTeams,
+                categoryId, id -> categoryRepository.findTeamIdById(id).orElse(null)));
+    }
+
+    // --- WRITE-THROUGH ---
+
+    public void evictTeam(UUID teamId) {
+        if (teamId == null) return;
+
+        teamMembers.synchronous().invalidate(teamId);
+        afterCommit(() -> teamMembers.synchronous().invalidate(teamId));
+    }
+
+    /**
+     * Records the owning team of new tags once the creating transaction has committed.
+     */
+    public void registerTags(UUID teamId, Iterable<UUID> tagIds) {
+        afterCommitOrNow(() -> tagIds.forEach(tagId -> tagTeams.synchronous().put(tagId, teamId)));
+    }
+
+    public void registerCategory(UUID teamId, UUID categoryId) {
+        afterCommitOrNow(() -> categoryTeams.synchronous().put(categoryId, teamId));
+    }
+
+    public void evictTag(UUID tagId) {
+        if (tagId == null) return;
+
+        tagTeams.synchronous().invalidate(tagId);
+        afterCommit(() -> tagTeams.synchronous().invalidate(tagId));
+    }
+
+    public void evictCategory(UUID categoryId) {
+        if (categoryId == null) return;
+
+        categoryTeams.synchronous().invalidate(categoryId);
+        afterCommit(() -> categoryTeams.synchronous().invalidate(categoryId));
+    }
+
+    /**
+     * Drops every entry. Used after bulk deletes that do not report which teams were removed.
+     */
+    public void evictAll() {
+        Runnable clear = () -> {
+            teamMembers.synchronous().invalidateAll();
+            tagTeams.synchronous().invalidateAll();
+            categoryTeams.synchronous().invalidateAll();
+        };
+        clear.run();
+        afterCommit(clear);
+        log.debug("Membership cache cleared");
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private static void afterCommitOrNow(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(action);
+        } else {
+            action.run();
+        }
+    }
+
+    public Cache<UUID, Set<UUID>> teamMembersCache() {
+        return teamMembers.synchronous();
+    }
+
+    public Cache<UUID, UUID> tagTeamsCache() {
+        return tagTeams.synchronous();
+    }
+
+    public Cache<UUID, UUID> categoryTeamsCache() {
+        return categoryTeams.synchronous();
+    }
+}
@@ -0,0 +1,16 @@
+package com.belyak.taskproject.infrastructure.security.access;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "application.security.membership-cache")
+public class MembershipCacheProperties {
+    private long maxTeams = 10_000;
+    private long maxResources = 100_000;
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -1,6 +1,5 @@
 package com.belyak.taskproject.infrastructure.security.access;
 
-import com.belyak.taskproject.domain.port.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -10,9 +9,9 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TagSecurity {
 
-    private final TagRepository tagRepository;
+    private final MembershipCache membershipCache;
 
     public boolean hasAccess(UUID tagId, UUID userId) {
-        return tagRepository.canAccess(tagId, userId);
+        return membershipCache.canAccessTag(tagId, userId);
     }
 }
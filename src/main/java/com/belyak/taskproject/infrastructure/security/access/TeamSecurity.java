@@ -1,9 +1,15 @@
 package com.belyak.taskproject.infrastructure.security.access;
 
 import com.belyak.taskproject.domain.port.repository.TeamRepository;
+import com.belyak.taskproject.infrastructure.security.jwt.JwtAuthenticationDetails;
+import com.belyak.taskproject.infrastructure.security.jwt.TaskUserDetails;
+import com.belyak.taskproject.infrastructure.security.jwt.TokenMemberships;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Service("teamSecurity")
@@ -11,12 +17,33 @@ import java.util.UUID;
 public class TeamSecurity {
 
     private final TeamRepository teamRepository;
+    private final MembershipCache membershipCache;
 
     public boolean isMember(UUID teamId, UUID userId) {
-        return teamRepository.isMember(teamId, userId);
+        return currentTokenMemberships(userId)
+                .map(memberships -> memberships.teamIds().contains(teamId))
+                .orElseGet(() -> membershipCache.isMember(teamId, userId));
     }
 
     public boolean isOwner(UUID teamId, UUID userId) {
         return teamRepository.isOwner(teamId, userId);
     }
+
+    /**
+     * Memberships embedded in the caller's token, provided the token was issued to {@code userId}
+     * at the user's current membership version. Stale tokens yield empty.
+     */
+    private Optional<TokenMemberships> currentTokenMemberships(UUID userId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+            || !(authentication.getPrincipal() instanceof TaskUserDetails principal)
+            || !principal.getId().equals(userId)
+            || !(authentication.getDetails() instanceof JwtAuthenticationDetails details)
+            || details.getMemberships() == null) {
+            return Optional.empty();
+        }
+
+        TokenMemberships memberships = details.getMemberships();
+        return memberships.isCurrentFor(principal) ? Optional.of(memberships) : Optional.empty();
+    }
 }
@@ -0,0 +1,18 @@
+package com.belyak.taskproject.infrastructure.security.jwt;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class JwtAuthenticationDetails extends WebAuthenticationDetails {
+
+    private final TokenMemberships memberships;
+
+    public JwtAuthenticationDetails(HttpServletRequest request, TokenMemberships memberships) {
+        super(request);
+        this.memberships = memberships;
+    }
+}
@@ -10,4 +10,13 @@ import org.springframework.context.annotation.Configuration;
 public class JwtProperties {
     private String secretKey;
     private long expiration;
+    /**
+     * Embed user id, membership version and team ids into issued tokens so that
+     * team membership checks can be answered without a database query.
+     */
+    private boolean embedMemberships = false;
+    /**
+     * Users in more teams than this get no team claim and fall back to database checks.
+     */
+    private int maxEmbeddedTeams = 50;
 }
@@ -1,35 +1,64 @@
 package com.belyak.taskproject.infrastructure.security.jwt;
 
+import com.belyak.taskproject.domain.port.repository.TeamRepository;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class JwtService {
 
+    static final String USER_ID_CLAIM = "uid";
+    static final String MEMBERSHIP_VERSION_CLAIM = "mv";
+    static final String TEAMS_CLAIM = "teams";
+
     private final JwtProperties jwtProperties;
+    private final TeamRepository teamRepository;
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+
+    public JwtService(JwtProperties jwtProperties, TeamRepository teamRepository) {
+        this.jwtProperties = jwtProperties;
+        this.teamRepository = teamRepository;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getSecretKey()));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    /**
+     * Verifies the signature and expiration of the token and returns its claims.
+     * Callers that need several claims should parse once and work with the result.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, expired or has an invalid signature
+     */
+    public Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(parseClaims(token));
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -39,6 +68,9 @@ public class JwtService {
                     .map(GrantedAuthority::getAuthority)
                     .collect(Collectors.toList()));
         }
+        if (jwtProperties.isEmbedMemberships() && userDetails instanceof TaskUserDetails taskUserDetails) {
+            putMembershipClaims(claims, taskUserDetails);
+        }
 
         return generateToken(claims, userDetails);
     }
@@ -49,33 +81,48 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getExpiration()))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(parseClaims(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    /**
+     * Returns the memberships embedded at issue time, if the token carries them.
+     * Whether they are still current must be checked against the principal's id and membership version.
+     */
+    public Optional<TokenMemberships> extractMemberships(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        Long version = claims.get(MEMBERSHIP_VERSION_CLAIM, Long.class);
+        Collection<?> teams = claims.get(TEAMS_CLAIM, Collection.class);
+        if (userId == null || version == null || teams == null) {
+            return Optional.empty();
+        }
+
+        Set<UUID> teamIds = teams.stream()
+                .map(Object::toString)
+                .map(UUID::fromString)
+                .collect(Collectors.toUnmodifiableSet());
+        return Optional.of(new TokenMemberships(UUID.fromString(userId), version, teamIds));
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private void putMembershipClaims(Map<String, Object> claims, TaskUserDetails userDetails) {
+        claims.put(USER_ID_CLAIM, userDetails.getId().toString());
+
+        Set<UUID> teamIds = teamRepository.findTeamIdsByMemberId(userDetails.getId());
+        if (teamIds.size() <= jwtProperties.getMaxEmbeddedTeams()) {
+            claims.put(MEMBERSHIP_VERSION_CLAIM, userDetails.user().getMembershipVersion());
+            claims.put(TEAMS_CLAIM, teamIds.stream().map(UUID::toString).toList());
+        }
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecretKey());
-        return Keys.hmacShaKeyFor(keyBytes);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
-}
\ No newline at end of file
+}
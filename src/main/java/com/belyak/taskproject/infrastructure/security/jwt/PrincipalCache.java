@@ -0,0 +1,91 @@
+package com.belyak.taskproject.infrastructure.security.jwt;
+
+import com.belyak.taskproject.infrastructure.cache.CacheLoading;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-evicting cache of authenticated principals keyed by email.
+ * <p>
+ * Saves the users table lookup that {@link JwtAuthenticationFilter} would otherwise run on every request.
+ * Entries expire after {@code application.security.principal-cache.ttl}, so changes made on another
+ * instance become visible at the latest after one TTL; local writes evict explicitly.
+ * <p>
+ * Evictions requested inside a transaction are repeated after commit, so a concurrent request
+ * cannot re-cache the pre-commit state of the user.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private final AsyncCache<String, TaskUserDetails> cache;
+
+    public PrincipalCache(PrincipalCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Returns the cached principal or loads it with the given function.
+     * A loader returning {@code null} is not cached.
+     */
+    public Optional<TaskUserDetails> get(String email, Function<String, TaskUserDetails> loader) {
+        return Optional.ofNullable(CacheLoading.getOrLoad(cache, email, loader));
+    }
+
+    public void evict(String email) {
+        if (email == null) return;
+
+        cache.synchronous().invalidate(email);
+        afterCommit(() -> cache.synchronous().invalidate(email));
+    }
+
+    /**
+     * Evicts every entry of the given user. Linear in cache size, intended for rare writes only.
+     */
+    public void evictById(UUID userId) {
+        if (userId == null) return;
+
+        removeById(userId);
+        afterCommit(() -> removeById(userId));
+    }
+
+    private void removeById(UUID userId) {
+        boolean removed = cache.synchronous().asMap().values().removeIf(details -> userId.equals(details.getId()));
+        if (removed) {
+            log.debug("Evicted cached principal for user {}", userId);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    public Cache<String, TaskUserDetails> nativeCache() {
+        return cache.synchronous();
+    }
+}
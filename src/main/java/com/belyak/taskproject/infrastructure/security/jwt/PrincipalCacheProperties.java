@@ -0,0 +1,15 @@
+package com.belyak.taskproject.infrastructure.security.jwt;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "application.security.principal-cache")
+public class PrincipalCacheProperties {
+    private long maxSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -1,6 +1,5 @@
 package com.belyak.taskproject.infrastructure.security.jwt;
 
-import com.belyak.taskproject.domain.model.User;
 import com.belyak.taskproject.domain.port.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,13 +12,18 @@ import org.springframework.stereotype.Service;
 public class TaskUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        return principalCache.get(email, this::loadFromRepository)
                 .orElseThrow(() ->
                         new UsernameNotFoundException("User not found with email: " + email));
+    }
 
-        return new TaskUserDetails(user);
+    private TaskUserDetails loadFromRepository(String email) {
+        return userRepository.findByEmail(email)
+                .map(TaskUserDetails::new)
+                .orElse(null);
     }
 }
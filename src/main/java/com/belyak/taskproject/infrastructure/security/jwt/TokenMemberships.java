@@ -0,0 +1,22 @@
+package com.belyak.taskproject.infrastructure.security.jwt;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Team memberships captured in a token at issue time.
+ *
+ * @param userId    the user the token was issued to
+ * @param version   the user's membership version when the token was issued
+ * @param teamIds   ids of the teams the user belonged to at that version
+ */
+public record TokenMemberships(UUID userId, long version, Set<UUID> teamIds) {
+
+    /**
+     * The token's subject is only the email: the id confirms the memberships were issued to this very user,
+     * the version that they have not changed since.
+     */
+    public boolean isCurrentFor(TaskUserDetails principal) {
+        return userId.equals(principal.getId()) && principal.user().getMembershipVersion() == version;
+    }
+}
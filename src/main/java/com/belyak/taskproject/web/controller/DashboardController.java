@@ -0,0 +1,94 @@
+package com.belyak.taskproject.web.controller;
+
+import com.belyak.taskproject.application.mapper.TaskApiMapper;
+import com.belyak.taskproject.common.util.EntityTags;
+import com.belyak.taskproject.domain.port.service.TaskService;
+import com.belyak.taskproject.infrastructure.cache.TaskBoardCache;
+import com.belyak.taskproject.web.dto.response.TeamDashboardResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(path = "/api/v1/teams/{teamId}/dashboard")
+@Tag(name = "Dashboard", description = "Team board statistics")
+public class DashboardController {
+
+    private final TaskService taskService;
+    private final TaskApiMapper taskApiMapper;
+    private final ObjectMapper objectMapper;
+    private final TaskBoardCache taskBoardCache;
+
+    @Operation(
+            summary = "Get team dashboard",
+            description = "Task counts of the team by status and priority, open and overdue tasks, " +
+                          "open tasks per assignee and the most used tags. Overdue is evaluated to the minute. " +
+                          "The ETag changes with the board version and every minute; poll with If-None-Match to get 304 meanwhile.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Dashboard retrieved successfully", content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = TeamDashboardResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Dashboard unchanged since the ETag in If-None-Match", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Access denied", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Team not found", content = @Content)
+    })
+    @GetMapping
+    @PreAuthorize("@teamSecurity.isMember(#teamId, principal.id)")
+    public ResponseEntity<byte[]> getDashboard(
+            @Parameter(description = "ID of the team", required = true)
+            @PathVariable UUID teamId,
+            WebRequest request) {
+        // Truncated so that all requests within a minute share the ETag and the cached body
+        Instant asOf = Instant.now().truncatedTo(ChronoUnit.MINUTES);
+
+        // Read before the counts: a write committing in between can only make them newer than their ETag
+        long boardVersion = taskService.getBoardVersion(teamId);
+        String eTag = EntityTags.of(boardVersion, asOf);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(EntityTags.revalidate())
+                    .build();
+        }
+
+        TaskBoardCache.DashboardKey key = new TaskBoardCache.DashboardKey(teamId, boardVersion, asOf);
+        byte[] body = taskBoardCache.get(key, () ->
+                toJson(taskApiMapper.toDashboardResponse(taskService.getDashboard(teamId, asOf), asOf)));
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(EntityTags.revalidate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -3,15 +3,21 @@ package com.belyak.taskproject.web.controller;
 import com.belyak.taskproject.web.dto.response.ApiErrorResponse;
 import com.belyak.taskproject.domain.exception.CategoryAlreadyExistsException;
 import com.belyak.taskproject.domain.exception.CategoryDeletionException;
+import com.belyak.taskproject.domain.exception.InvalidCursorException;
+import com.belyak.taskproject.domain.exception.InvalidSearchQueryException;
+import com.belyak.taskproject.domain.exception.InvalidTaskFilterException;
 import com.belyak.taskproject.domain.exception.TagAlreadyExistsException;
 import com.belyak.taskproject.domain.exception.TagDeletionException;
+import com.belyak.taskproject.domain.exception.VersionMismatchException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -66,6 +72,42 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.CONFLICT, "Tag deletion blocked. It has tasks", List.of());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        log.warn("Invalid cursor: {}", ex.getMessage());
+        return buildResponse(HttpStatus.BAD_REQUEST, "Invalid pagination cursor", List.of());
+    }
+
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidSearchQueryException(InvalidSearchQueryException ex) {
+        log.warn("Invalid search query: {}", ex.getMessage());
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), List.of());
+    }
+
+    @ExceptionHandler(InvalidTaskFilterException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidTaskFilterException(InvalidTaskFilterException ex) {
+        log.warn("Invalid task filter: {}", ex.getMessage());
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), List.of());
+    }
+
+    @ExceptionHandler(VersionMismatchException.class)
+    public ResponseEntity<ApiErrorResponse> handleVersionMismatchException(VersionMismatchException ex) {
+        log.warn("Precondition failed: {}", ex.getMessage());
+        return buildResponse(HttpStatus.PRECONDITION_FAILED, "Resource was modified since it was read", List.of());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return buildResponse(HttpStatus.CONFLICT, "Resource was modified concurrently, please retry", List.of());
+    }
+
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ApiErrorResponse> handleCannotCreateTransactionException(CannotCreateTransactionException ex) {
+        log.warn("No database connection: {}", ex.getMostSpecificCause().getMessage());
+        return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service is busy, please retry later", List.of());
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ApiErrorResponse> handleBadCredentialsException(BadCredentialsException ex) {
         return buildResponse(HttpStatus.UNAUTHORIZED, "Invalid email or password", List.of());
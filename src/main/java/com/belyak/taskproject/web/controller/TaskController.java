@@ -1,31 +1,61 @@
 package com.belyak.taskproject.web.controller;
 
 import com.belyak.taskproject.application.mapper.TaskApiMapper;
+import com.belyak.taskproject.common.util.CursorCodec;
+import com.belyak.taskproject.common.util.EntityTags;
+import com.belyak.taskproject.domain.model.CursorPage;
+import com.belyak.taskproject.domain.model.SearchPage;
 import com.belyak.taskproject.domain.model.Task;
+import com.belyak.taskproject.domain.model.TaskBatchItem;
+import com.belyak.taskproject.domain.model.TaskCursor;
+import com.belyak.taskproject.domain.model.TaskFilter;
+import com.belyak.taskproject.domain.model.TaskPriority;
+import com.belyak.taskproject.domain.model.TaskSearchCursor;
 import com.belyak.taskproject.domain.model.TaskStatus;
 import com.belyak.taskproject.domain.port.service.TaskService;
-import com.belyak.taskproject.infrastructure.persistence.projections.TaskInfoProjection;
+import com.belyak.taskproject.infrastructure.cache.TaskBoardCache;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskSearchHit;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
 import com.belyak.taskproject.web.dto.request.AssignTaskRequest;
+import com.belyak.taskproject.web.dto.request.BatchCreateTasksRequest;
 import com.belyak.taskproject.web.dto.request.ChangeTaskStatusRequest;
 import com.belyak.taskproject.web.dto.request.CreateTaskRequest;
 import com.belyak.taskproject.web.dto.request.UpdateTaskRequest;
+import com.belyak.taskproject.web.dto.response.BatchCreateTasksResponse;
 import com.belyak.taskproject.web.dto.response.CreateTaskResponse;
+import com.belyak.taskproject.web.dto.response.CursorPageResponse;
 import com.belyak.taskproject.web.dto.response.TaskResponse;
+import com.belyak.taskproject.web.dto.response.TaskSearchResultResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.AccessDeniedException;
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -36,25 +66,149 @@ public class TaskController {
 
     private final TaskService taskService;
     private final TaskApiMapper taskApiMapper;
+    private final ObjectMapper objectMapper;
+    private final TaskBoardCache taskBoardCache;
 
     @Operation(
             summary = "Get team tasks",
-            description = "Retrieve all tasks for a specific team filtered by status")
+            description = "Retrieve a page of tasks for a specific team, newest first. All given filters must match; " +
+                          "status and priority may be repeated to match any of several values. " +
+                          "Without a status filter, IN_PROGRESS tasks are listed. " +
+                          "Pass nextCursor of the previous page as cursor to get the next one. " +
+                          "The ETag is the board version of the team; poll with If-None-Match to get 304 until anything changes.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully", content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Board unchanged since the ETag in If-None-Match", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Malformed cursor or invalid filter", content = @Content),
             @ApiResponse(responseCode = "403", description = "Access denied", content = @Content),
             @ApiResponse(responseCode = "404", description = "Team not found", content = @Content)
     })
     @GetMapping
     @PreAuthorize("@teamSecurity.isMember(#teamId, principal.id)")
-    public ResponseEntity<List<TaskResponse>> getTeamTasks(
+    public ResponseEntity<byte[]> getTeamTasks(
             @Parameter(description = "ID of the team", required = true)
             @PathVariable UUID teamId,
-            @Parameter(description = "Filter by task status", example = "IN_PROGRESS")
-            @RequestParam(required = false, defaultValue = "IN_PROGRESS") TaskStatus status) {
-        List<TaskInfoProjection> projections = taskService.findTeamTasks(teamId, status);
+            @Parameter(description = "Filter by task status; repeat for several", example = "IN_PROGRESS")
+            @RequestParam(name = "status", required = false, defaultValue = "IN_PROGRESS") Set<TaskStatus> statuses,
+            @Parameter(description = "Filter by priority; repeat for several", example = "URGENT")
+            @RequestParam(name = "priority", required = false) Set<TaskPriority> priorities,
+            @Parameter(description = "Filter by assignee")
+            @RequestParam(required = false) UUID assigneeId,
+            @Parameter(description = "Filter by category")
+            @RequestParam(required = false) UUID categoryId,
+            @Parameter(description = "Filter by tag; repeat for several, at most 20")
+            @RequestParam(name = "tagId", required = false) Set<UUID> tagIds,
+            @Parameter(description = "Whether a task needs ANY or ALL of the given tags", example = "ALL")
+            @RequestParam(required = false, defaultValue = "ANY") TaskFilter.TagMatch tagMatch,
+            @Parameter(description = "Due at or after this instant", example = "2025-03-03T00:00:00Z")
+            @RequestParam(required = false) Instant dueFrom,
+            @Parameter(description = "Due before this instant", example = "2025-03-10T00:00:00Z")
+            @RequestParam(required = false) Instant dueTo,
+            @Parameter(description = "Words that title or description must contain, in web search syntax", example = "login")
+            @RequestParam(required = false) String text,
+            @Parameter(description = "Cursor returned by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped at 200", example = "50")
+            @RequestParam(required = false, defaultValue = "50") int limit,
+            WebRequest request) {
+        TaskFilter filter = TaskFilter.builder()
+                .statuses(statuses)
+                .priorities(priorities)
+                .assigneeId(assigneeId)
+                .categoryId(categoryId)
+                .tagIds(tagIds)
+                .tagMatch(tagMatch)
+                .dueFrom(dueFrom)
+                .dueTo(dueTo)
+                .text(text)
+                .build();
+        TaskCursor after = CursorCodec.decode(cursor);
 
-        return ResponseEntity.ok(taskApiMapper.toResponseList(projections));
+        // Read before the page: a write committing in between can only make the page newer than its ETag
+        long boardVersion = taskService.getBoardVersion(teamId);
+        String eTag = EntityTags.of(boardVersion);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(EntityTags.revalidate())
+                    .build();
+        }
+
+        TaskBoardCache.Key key = new TaskBoardCache.Key(teamId, filter, after == null ? null : cursor, limit, boardVersion);
+        byte[] body = taskBoardCache.get(key, () -> {
+            CursorPage<TaskView> page = taskService.findTeamTasks(teamId, filter, after, limit);
+            return toJson(taskApiMapper.toPageResponse(page));
+        });
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(EntityTags.revalidate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Search team tasks",
+            description = "Full-text search over titles and descriptions of all tasks of the team, best match first. " +
+                          "Accepts web search syntax: words, \"quoted phrases\", or, and -excluded words. " +
+                          "Matched words are highlighted with <mark> tags. Pass nextCursor of the previous page as cursor to get the next one.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Blank or too long query, or malformed cursor", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Access denied", content = @Content)
+    })
+    @GetMapping(path = "/search")
+    @PreAuthorize("@teamSecurity.isMember(#teamId, principal.id)")
+    public ResponseEntity<CursorPageResponse<TaskSearchResultResponse>> searchTasks(
+            @Parameter(description = "ID of the team", required = true)
+            @PathVariable UUID teamId,
+            @Parameter(description = "Search query, at most 200 characters", required = true, example = "login bug")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "Cursor returned by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped at 200", example = "20")
+            @RequestParam(required = false, defaultValue = "20") int limit) {
+        TaskSearchCursor after = CursorCodec.decodeSearch(cursor);
+        SearchPage<TaskSearchHit> page = taskService.searchTasks(teamId, q, after, limit);
+
+        return ResponseEntity.ok(taskApiMapper.toSearchPageResponse(page));
+    }
+
+    @Operation(
+            summary = "Export team tasks",
+            description = "Stream every task of the team, newest first, as newline-delimited JSON (one TaskResponse per line)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export started"),
+            @ApiResponse(responseCode = "403", description = "Access denied", content = @Content)
+    })
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("@teamSecurity.isMember(#teamId, principal.id)")
+    public ResponseEntity<StreamingResponseBody> exportTeamTasks(
+            @Parameter(description = "ID of the team", required = true)
+            @PathVariable UUID teamId) {
+        // The servlet stream stays open and unflushed between lines
+        ObjectWriter writer = objectMapper.writerFor(TaskResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = out -> taskService.exportTeamTasks(teamId, task -> {
+            try {
+                writer.writeValue(out, taskApiMapper.toResponse(task));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks-%s.ndjson".formatted(teamId))
+                        .build()
+                        .toString())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @Operation(
@@ -62,6 +216,7 @@ public class TaskController {
             description = "Retrieve detailed information about a specific task")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task details retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Task unchanged since the ETag in If-None-Match", content = @Content),
             @ApiResponse(responseCode = "403", description = "Access denied", content = @Content),
             @ApiResponse(responseCode = "404", description = "Task not found", content = @Content)
     })
@@ -72,9 +227,13 @@ public class TaskController {
             @PathVariable UUID teamId,
             @Parameter(description = "ID of the task", required = true)
             @PathVariable UUID taskId) {
-        TaskInfoProjection projection = taskService.getTaskDetails(teamId, taskId);
+        TaskView task = taskService.getTaskDetails(teamId, taskId);
 
-        return ResponseEntity.ok(taskApiMapper.toResponse(projection));
+        // With an ETag on the response, a matching If-None-Match is answered with 304
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(task.version()))
+                .cacheControl(EntityTags.revalidate())
+                .body(taskApiMapper.toResponse(task));
     }
 
     @Operation(
@@ -99,6 +258,26 @@ public class TaskController {
                 .body(taskApiMapper.toCreateResponse(createdTask));
     }
 
+    @Operation(
+            summary = "Create tasks in bulk",
+            description = "Create up to 1000 tasks in one transaction. Categories, tags and assignees are checked per item; " +
+                          "items with unknown references are rejected and reported, all others are created.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results"),
+            @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Access denied", content = @Content)
+    })
+    @PostMapping(path = "/batch")
+    @PreAuthorize("@teamSecurity.isMember(#teamId, principal.id)")
+    public ResponseEntity<BatchCreateTasksResponse> createTasks(
+            @Parameter(description = "ID of the team", required = true)
+            @PathVariable UUID teamId,
+            @RequestBody @Valid BatchCreateTasksRequest request) {
+        List<TaskBatchItem> results = taskService.createTasks(teamId, request.tasks());
+
+        return ResponseEntity.ok(taskApiMapper.toBatchResponse(results));
+    }
+
     @Operation(
             summary = "Update a task",
             description = "Update task details such as title, description, priority, due date, category, and tags")
@@ -106,7 +285,8 @@ public class TaskController {
             @ApiResponse(responseCode = "200", description = "Task updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content),
             @ApiResponse(responseCode = "403", description = "Access denied or task doesn't belong to team", content = @Content),
-            @ApiResponse(responseCode = "404", description = "Task not found", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Task not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "Task changed since the ETag in If-Match", content = @Content)
     })
     @PutMapping(path = "/{taskId}")
     @PreAuthorize("@teamSecurity.isMember(#teamId, principal.id)")
@@ -115,10 +295,14 @@ public class TaskController {
             @PathVariable UUID teamId,
             @Parameter(description = "ID of the task to update", required = true)
             @PathVariable UUID taskId,
+            @Parameter(description = "ETag of the task as last read; the write fails with 412 if it changed since")
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid UpdateTaskRequest request) throws AccessDeniedException {
-        Task updatedTask = taskService.updateTask(teamId, taskId, request);
+        Task updatedTask = taskService.updateTask(teamId, taskId, request, EntityTags.parseIfMatch(ifMatch));
 
-        return ResponseEntity.ok(taskApiMapper.toCreateResponse(updatedTask));
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(updatedTask.getVersion()))
+                .body(taskApiMapper.toCreateResponse(updatedTask));
     }
 
     @Operation(
@@ -128,7 +312,8 @@ public class TaskController {
             @ApiResponse(responseCode = "204", description = "Task status updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid status", content = @Content),
             @ApiResponse(responseCode = "403", description = "Access denied or task doesn't belong to team", content = @Content),
-            @ApiResponse(responseCode = "404", description = "Task not found", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Task not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "Task changed since the ETag in If-Match", content = @Content)
     })
     @PatchMapping(path = "/{taskId}/status")
     @PreAuthorize("@teamSecurity.isMember(#teamId, principal.id)")
@@ -137,8 +322,10 @@ public class TaskController {
             @PathVariable UUID teamId,
             @Parameter(description = "ID of the task", required = true)
             @PathVariable UUID taskId,
+            @Parameter(description = "ETag of the task as last read; the write fails with 412 if it changed since")
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid ChangeTaskStatusRequest request) throws AccessDeniedException {
-        taskService.updateStatus(teamId, taskId, request.status());
+        taskService.updateStatus(teamId, taskId, request.status(), EntityTags.parseIfMatch(ifMatch));
 
         return ResponseEntity.noContent().build();
     }
@@ -150,7 +337,8 @@ public class TaskController {
             @ApiResponse(responseCode = "204", description = "Task assigned successfully"),
             @ApiResponse(responseCode = "400", description = "User is not a team member", content = @Content),
             @ApiResponse(responseCode = "403", description = "Access denied or task doesn't belong to team", content = @Content),
-            @ApiResponse(responseCode = "404", description = "Task not found", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Task not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "Task changed since the ETag in If-Match", content = @Content)
     })
     @PatchMapping(path = "/{taskId}/assign")
     @PreAuthorize("@teamSecurity.isMember(#teamId, principal.id)")
@@ -159,8 +347,10 @@ public class TaskController {
             @PathVariable UUID teamId,
             @Parameter(description = "ID of the task", required = true)
             @PathVariable UUID taskId,
+            @Parameter(description = "ETag of the task as last read; the write fails with 412 if it changed since")
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid AssignTaskRequest request) throws AccessDeniedException {
-        taskService.assignTask(teamId, taskId, request.assigneeId());
+        taskService.assignTask(teamId, taskId, request.assigneeId(), EntityTags.parseIfMatch(ifMatch));
 
         return ResponseEntity.noContent().build();
     }
@@ -171,7 +361,8 @@ public class TaskController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Task deleted successfully"),
             @ApiResponse(responseCode = "403", description = "Access denied", content = @Content),
-            @ApiResponse(responseCode = "404", description = "Task not found", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Task not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "Task changed since the ETag in If-Match", content = @Content)
     })
     @DeleteMapping(path = "/{taskId}")
     @PreAuthorize("@teamSecurity.isMember(#teamId, principal.id)")
@@ -179,9 +370,19 @@ public class TaskController {
             @Parameter(description = "ID of the team", required = true)
             @PathVariable UUID teamId,
             @Parameter(description = "ID of the task to delete", required = true)
-            @PathVariable UUID taskId) {
-        taskService.deleteTask(teamId, taskId);
+            @PathVariable UUID taskId,
+            @Parameter(description = "ETag of the task as last read; the delete fails with 412 if it changed since")
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        taskService.deleteTask(teamId, taskId, EntityTags.parseIfMatch(ifMatch));
 
         return ResponseEntity.noContent().build();
     }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
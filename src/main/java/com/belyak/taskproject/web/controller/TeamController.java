@@ -1,8 +1,11 @@
 package com.belyak.taskproject.web.controller;
 
+import com.belyak.taskproject.application.mapper.TaskApiMapper;
 import com.belyak.taskproject.application.mapper.TeamApiMapper;
+import com.belyak.taskproject.common.util.EntityTags;
 import com.belyak.taskproject.domain.model.Team;
 import com.belyak.taskproject.domain.port.service.TeamService;
+import com.belyak.taskproject.infrastructure.events.TeamEventBroker;
 import com.belyak.taskproject.infrastructure.persistence.projections.TeamSummaryProjection;
 import com.belyak.taskproject.web.dto.request.CreateTeamRequest;
 import com.belyak.taskproject.web.dto.request.JoinTeamRequest;
@@ -18,10 +21,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.nio.file.AccessDeniedException;
 import java.util.List;
@@ -36,6 +42,8 @@ public class TeamController {
 
     private final TeamService teamService;
     private final TeamApiMapper teamApiMapper;
+    private final TaskApiMapper taskApiMapper;
+    private final TeamEventBroker teamEventBroker;
 
     @Operation(
             summary = "Get user's teams",
@@ -94,13 +102,19 @@ public class TeamController {
             description = "Retrieve detailed information about a specific team including all members.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Team details retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Team unchanged since the ETag in If-None-Match", content = @Content),
             @ApiResponse(responseCode = "403", description = "Access denied", content = @Content),
             @ApiResponse(responseCode = "404", description = "Team not found", content = @Content)
     })
     @GetMapping(path = "/{teamId}")
     @PreAuthorize("@teamSecurity.isMember(#teamId, principal.id)")
     public ResponseEntity<TeamDetailsResponse> getTeamDetails(@PathVariable UUID teamId) {
-        return ResponseEntity.ok(teamService.getTeamDetails(teamId));
+        TeamDetailsResponse teamDetails = teamService.getTeamDetails(teamId);
+
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(teamDetails.version()))
+                .cacheControl(EntityTags.revalidate())
+                .body(teamDetails);
     }
 
     @Operation(
@@ -108,6 +122,7 @@ public class TeamController {
             description = "Retrieve a list of all members in the team.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Members retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Team unchanged since the ETag in If-None-Match", content = @Content),
             @ApiResponse(responseCode = "403", description = "Access denied", content = @Content),
             @ApiResponse(responseCode = "404", description = "Team not found", content = @Content)
     })
@@ -117,7 +132,30 @@ public class TeamController {
         TeamDetailsResponse teamDetails = teamService.getTeamDetails(teamId);
         Set<UserResponse> members = teamDetails.members();
 
-        return ResponseEntity.ok(members);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(teamDetails.version()))
+                .cacheControl(EntityTags.revalidate())
+                .body(members);
+    }
+
+    @Operation(
+            summary = "Stream task events of the team",
+            description = "Server-Sent Events stream of task changes, named CREATED, UPDATED, STATUS_CHANGED, " +
+                          "ASSIGNED or DELETED, as they are committed. The first event is 'ready'. " +
+                          "Reconnecting with Last-Event-ID replays missed events; when they are no longer " +
+                          "available a 'resync' event is sent and the board should be reloaded. " +
+                          "The stream ends when the user is removed from the team.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "403", description = "Access denied", content = @Content)
+    })
+    @GetMapping(path = "/{teamId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("@teamSecurity.isMember(#teamId, principal.id)")
+    public SseEmitter streamEvents(
+            @PathVariable UUID teamId,
+            @CurrentUserId UUID userId,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return teamEventBroker.subscribe(teamId, userId, lastEventId, taskApiMapper::toEventResponse);
     }
 
     @Operation(
@@ -126,15 +164,17 @@ public class TeamController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Member kicked successfully"),
             @ApiResponse(responseCode = "403", description = "Access denied. Only owner can kick members.", content = @Content),
-            @ApiResponse(responseCode = "404", description = "Team or member not found", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Team or member not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "Team changed since the ETag in If-Match", content = @Content)
     })
     @DeleteMapping(path = "/{teamId}/members/{memberId}")
     @PreAuthorize("@teamSecurity.isOwner(#teamId, principal.id)")
     public ResponseEntity<Void> kickMember(
             @PathVariable UUID teamId,
             @PathVariable UUID memberId,
-            @CurrentUserId UUID initiatorId) throws AccessDeniedException {
-        teamService.kickMember(teamId, memberId, initiatorId);
+            @CurrentUserId UUID initiatorId,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws AccessDeniedException {
+        teamService.kickMember(teamId, memberId, initiatorId, EntityTags.parseIfMatch(ifMatch));
 
         return ResponseEntity.noContent().build();
     }
@@ -0,0 +1,20 @@
+package com.belyak.taskproject.web.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Request to create many tasks at once")
+public record BatchCreateTasksRequest(
+
+        @Schema(description = "Tasks to create; results are returned in the same order")
+        @NotEmpty(message = "At least one task is required.")
+        @Size(max = 1000, message = "Maximum {max} tasks allowed per request.")
+        @Valid
+        List<CreateTaskRequest> tasks) {
+}
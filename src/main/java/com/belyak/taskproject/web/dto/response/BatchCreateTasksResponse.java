@@ -0,0 +1,35 @@
+package com.belyak.taskproject.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Per-item results of a bulk task creation")
+public record BatchCreateTasksResponse(
+
+        @Schema(description = "Number of tasks created", example = "998")
+        int created,
+
+        @Schema(description = "Number of tasks rejected", example = "2")
+        int rejected,
+
+        @Schema(description = "One result per requested task, in request order")
+        List<ItemResult> items) {
+
+    @Builder
+    @Schema(description = "Result of a single requested task")
+    public record ItemResult(
+
+            @Schema(description = "Position of the task in the request", example = "0")
+            int index,
+
+            @Schema(description = "Created task; null when rejected")
+            CreateTaskResponse task,
+
+            @Schema(description = "Reason the task was rejected; null when created",
+                    example = "Assignee must be a member of the team")
+            String error) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.belyak.taskproject.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "One page of a cursor-paginated list")
+public record CursorPageResponse<T>(
+
+        @Schema(description = "Items of this page")
+        List<T> items,
+
+        @Schema(description = "Opaque cursor of the next page, null on the last page", example = "AAAAAGc4Z0UAAAAAVQ6EAOKbQdSnFkRmVUQAAA")
+        String nextCursor,
+
+        @Schema(description = "Whether more items follow")
+        boolean hasNext
+) {
+}
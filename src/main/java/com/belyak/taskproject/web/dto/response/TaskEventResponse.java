@@ -0,0 +1,20 @@
+package com.belyak.taskproject.web.dto.response;
+
+import com.belyak.taskproject.domain.model.TaskEventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Schema(description = "Data of a task event on the team event stream")
+public record TaskEventResponse(
+
+        @Schema(description = "Kind of change, also sent as the event name", example = "STATUS_CHANGED")
+        TaskEventType type,
+
+        @Schema(description = "Unique identifier of the changed task", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID taskId,
+
+        @Schema(description = "When the change was made")
+        Instant occurredAt) {
+}
@@ -0,0 +1,25 @@
+package com.belyak.taskproject.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Task matching a search query, with highlighted snippets")
+public record TaskSearchResultResponse(
+
+        @Schema(description = "The matching task")
+        TaskResponse task,
+
+        @Schema(description = "Relevance of the match; higher is better, title matches weigh more", example = "0.6079271")
+        float rank,
+
+        @Schema(description = "HTML-escaped title with matched words wrapped in <mark> tags",
+                example = "Fix <mark>login</mark> bug")
+        String titleHighlight,
+
+        @Schema(description = "HTML-escaped fragments of the description with matched words wrapped in <mark> tags, " +
+                              "null when the task has no description",
+                example = "The <mark>login</mark> button is not responding")
+        String descriptionHighlight
+) {
+}
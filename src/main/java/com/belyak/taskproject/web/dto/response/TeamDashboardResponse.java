@@ -0,0 +1,78 @@
+package com.belyak.taskproject.web.dto.response;
+
+import com.belyak.taskproject.domain.model.TaskPriority;
+import com.belyak.taskproject.domain.model.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Builder
+@Schema(description = "Task counts of a team board. Open tasks are DRAFT, TODO or IN_PROGRESS; " +
+                      "overdue tasks are open past their due date")
+public record TeamDashboardResponse(
+
+        @Schema(description = "Instant the overdue counts refer to, to the minute", example = "2025-03-03T10:15:00Z")
+        Instant asOf,
+
+        @Schema(description = "Number of tasks of the team", example = "120")
+        long totalTasks,
+
+        @Schema(description = "Number of open tasks", example = "45")
+        long openTasks,
+
+        @Schema(description = "Number of overdue tasks", example = "3")
+        long overdueTasks,
+
+        @Schema(description = "Number of tasks per status, every status included")
+        Map<TaskStatus, Long> tasksByStatus,
+
+        @Schema(description = "Number of tasks per priority, every priority included")
+        Map<TaskPriority, Long> tasksByPriority,
+
+        @Schema(description = "Open tasks per assignee, the busiest first")
+        List<AssigneeWorkload> workload,
+
+        @Schema(description = "Tags with the most open tasks, at most 5")
+        List<TagUsage> topTags) {
+
+    @Builder
+    @Schema(description = "Open tasks of one assignee")
+    public record AssigneeWorkload(
+
+            @Schema(description = "Assignee id; null for the unassigned tasks", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID assigneeId,
+
+            @Schema(description = "Assignee name; null for the unassigned tasks", example = "John Doe")
+            String name,
+
+            @Schema(description = "Number of open tasks", example = "7")
+            long openTasks,
+
+            @Schema(description = "Number of overdue tasks", example = "1")
+            long overdueTasks) {
+    }
+
+    @Builder
+    @Schema(description = "Usage of one tag")
+    public record TagUsage(
+
+            @Schema(description = "Tag id", example = "550e8400-e29b-41d4-a716-446655440000")
+            UUID tagId,
+
+            @Schema(description = "Tag name", example = "bug")
+            String name,
+
+            @Schema(description = "Tag color", example = "#FF5733")
+            String color,
+
+            @Schema(description = "Number of open tasks with this tag", example = "9")
+            long openTasks,
+
+            @Schema(description = "Number of tasks with this tag", example = "31")
+            long totalTasks) {
+    }
+}
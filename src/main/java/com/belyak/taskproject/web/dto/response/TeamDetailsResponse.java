@@ -1,6 +1,7 @@
 package com.belyak.taskproject.web.dto.response;
 
 import com.belyak.taskproject.domain.model.TeamStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 
@@ -24,6 +25,10 @@ public record TeamDetailsResponse(
         UserResponse owner,
 
         @Schema(description = "Set of team members")
-        Set<UserResponse> members
+        Set<UserResponse> members,
+
+        // Sent as the ETag header instead of in the body
+        @JsonIgnore
+        long version
 ) {
 }
\ No newline at end of file
@@ -5,7 +5,9 @@ import com.belyak.taskproject.domain.model.Category;
 import com.belyak.taskproject.domain.model.TaskStatus;
 import com.belyak.taskproject.domain.policy.CategoryDeletionRule;
 import com.belyak.taskproject.domain.port.repository.CategoryRepository;
+import com.belyak.taskproject.domain.port.repository.TeamRepository;
 import com.belyak.taskproject.infrastructure.persistence.projections.CategoryInfoWithTaskCountProjection;
+import com.belyak.taskproject.infrastructure.security.access.MembershipCache;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,8 +37,10 @@ class CategoryServiceImplTest {
 
     // ── Collaborators ────────────────────────────────────────────────────────
     @Mock private CategoryRepository categoryRepository;
+    @Mock private TeamRepository teamRepository;
     @Mock private CategoryDeletionRule deletionRule1;
     @Mock private CategoryDeletionRule deletionRule2;
+    @Mock private MembershipCache membershipCache;
 
     // ── Fixtures ─────────────────────────────────────────────────────────────
     private static final UUID TEAM_ID = UUID.randomUUID();
@@ -49,7 +53,9 @@ class CategoryServiceImplTest {
     void setUp() {
         categoryService = new CategoryServiceImpl(
                 categoryRepository,
-                List.of(deletionRule1, deletionRule2)
+                teamRepository,
+                List.of(deletionRule1, deletionRule2),
+                membershipCache
         );
 
         category = Category.builder()
@@ -105,6 +111,8 @@ class CategoryServiceImplTest {
 
             // Assert
             assertThat(result).isEqualTo(category);
+            verify(membershipCache).registerCategory(TEAM_ID, CATEGORY_ID);
+            verify(teamRepository).incrementBoardVersion(TEAM_ID);
 
             // Verify that the Service created a correct domain object before passing to Repo
             ArgumentCaptor<Category> captor = ArgumentCaptor.forClass(Category.class);
@@ -141,12 +149,15 @@ class CategoryServiceImplTest {
         @DisplayName("Category exists and rules pass: deletes category")
         void whenValid_deletesCategory() {
             when(categoryRepository.findById(CATEGORY_ID)).thenReturn(Optional.of(category));
+            when(categoryRepository.findTeamIdById(CATEGORY_ID)).thenReturn(Optional.of(TEAM_ID));
             doNothing().when(deletionRule1).validate(category);
             doNothing().when(deletionRule2).validate(category);
 
             categoryService.deleteCategory(CATEGORY_ID);
 
             verify(categoryRepository).deleteById(CATEGORY_ID);
+            verify(teamRepository).incrementBoardVersion(TEAM_ID);
+            verify(membershipCache).evictCategory(CATEGORY_ID);
             // Verify rules were called
             verify(deletionRule1).validate(category);
             verify(deletionRule2).validate(category);
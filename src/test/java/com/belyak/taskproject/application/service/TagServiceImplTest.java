@@ -9,6 +9,7 @@ import com.belyak.taskproject.domain.port.repository.TagRepository;
 import com.belyak.taskproject.domain.port.repository.TeamRepository;
 import com.belyak.taskproject.infrastructure.persistence.projections.TagInfoWithTaskCountProjection;
 import com.belyak.taskproject.web.dto.request.CreateTagsRequest;
+import com.belyak.taskproject.infrastructure.security.access.MembershipCache;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -44,6 +45,7 @@ class TagServiceImplTest {
     @Mock private TagRepository tagRepository;
     @Mock private TeamRepository teamRepository;
     @Mock private TagDeletionRule deletionRule;
+    @Mock private MembershipCache membershipCache;
 
     // ── Captors ──────────────────────────────────────────────────────────────
     @Captor
@@ -58,7 +60,7 @@ class TagServiceImplTest {
     @BeforeEach
     void setUp() {
         // Explicitly inject deletion rules list (as @InjectMocks might fail with Lists sometimes)
-        tagService = new TagServiceImpl(tagRepository, teamRepository, List.of(deletionRule));
+        tagService = new TagServiceImpl(tagRepository, teamRepository, List.of(deletionRule), membershipCache);
 
         tag = Tag.builder()
                 .id(TAG_ID)
@@ -111,8 +113,8 @@ class TagServiceImplTest {
             when(teamRepository.existsById(TEAM_ID)).thenReturn(true);
             when(tagRepository.findExistingTagNames(any(), any())).thenReturn(Set.of()); // No duplicates in DB
 
-            Tag savedTag1 = Tag.builder().name("Urgent").color("#FF0000").build();
-            Tag savedTag2 = Tag.builder().name("Low").color("#00FF00").build();
+            Tag savedTag1 = Tag.builder().id(UUID.randomUUID()).name("Urgent").color("#FF0000").build();
+            Tag savedTag2 = Tag.builder().id(UUID.randomUUID()).name("Low").color("#00FF00").build();
             when(tagRepository.createTags(eq(TEAM_ID), any())).thenReturn(List.of(savedTag1, savedTag2));
 
             // When
@@ -128,6 +130,9 @@ class TagServiceImplTest {
                     .containsExactlyInAnyOrder("Urgent", "Low");
             assertThat(captured).extracting(Tag::getColor)
                     .containsExactlyInAnyOrder("#FF0000", "#00FF00");
+
+            verify(membershipCache).registerTags(TEAM_ID, List.of(savedTag1.getId(), savedTag2.getId()));
+            verify(teamRepository).incrementBoardVersion(TEAM_ID);
         }
 
         @Test
@@ -226,12 +231,15 @@ class TagServiceImplTest {
         @DisplayName("Tag exists and valid: deletes tag")
         void shouldDeleteTag() {
             when(tagRepository.findById(TAG_ID)).thenReturn(Optional.of(tag));
+            when(tagRepository.findTeamIdById(TAG_ID)).thenReturn(Optional.of(TEAM_ID));
             doNothing().when(deletionRule).validate(tag);
 
             tagService.deleteTag(TAG_ID);
 
             verify(deletionRule).validate(tag);
             verify(tagRepository).deleteById(TAG_ID);
+            verify(teamRepository).incrementBoardVersion(TEAM_ID);
+            verify(membershipCache).evictTag(TAG_ID);
         }
 
         @Test
@@ -244,6 +252,7 @@ class TagServiceImplTest {
                     .hasMessageContaining("Tag with id");
 
             verify(tagRepository, never()).deleteById(any());
+            verifyNoInteractions(membershipCache);
         }
 
         @Test
@@ -256,6 +265,7 @@ class TagServiceImplTest {
                     .isInstanceOf(RuntimeException.class);
 
             verify(tagRepository, never()).deleteById(any());
+            verifyNoInteractions(membershipCache);
         }
     }
 }
\ No newline at end of file
@@ -1,11 +1,28 @@
 package com.belyak.taskproject.application.service;
 
+import com.belyak.taskproject.domain.exception.InvalidSearchQueryException;
+import com.belyak.taskproject.domain.exception.VersionMismatchException;
+import com.belyak.taskproject.domain.model.CursorPage;
+import com.belyak.taskproject.domain.model.SearchPage;
 import com.belyak.taskproject.domain.model.Task;
+import com.belyak.taskproject.domain.model.TaskBatchItem;
+import com.belyak.taskproject.domain.model.TaskCountDelta;
+import com.belyak.taskproject.domain.model.TaskCursor;
+import com.belyak.taskproject.domain.model.TaskEvent;
+import com.belyak.taskproject.domain.model.TaskEventType;
+import com.belyak.taskproject.domain.model.TaskFilter;
 import com.belyak.taskproject.domain.model.TaskPriority;
+import com.belyak.taskproject.domain.model.TaskSearchCursor;
 import com.belyak.taskproject.domain.model.TaskStatus;
+import com.belyak.taskproject.domain.port.repository.CategoryRepository;
+import com.belyak.taskproject.domain.port.repository.TagRepository;
+import com.belyak.taskproject.domain.port.repository.TaskCountRepository;
 import com.belyak.taskproject.domain.port.repository.TaskRepository;
 import com.belyak.taskproject.domain.port.repository.TeamRepository;
-import com.belyak.taskproject.infrastructure.persistence.projections.TaskInfoProjection;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskSearchHit;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TeamDashboard;
+import com.belyak.taskproject.infrastructure.security.access.MembershipCache;
 import com.belyak.taskproject.web.dto.request.CreateTaskRequest;
 import com.belyak.taskproject.web.dto.request.UpdateTaskRequest;
 import jakarta.persistence.EntityNotFoundException;
@@ -16,21 +33,29 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,17 +68,26 @@ class TaskServiceImplTest {
 
     // ── Collaborators ────────────────────────────────────────────────────────
     @Mock private TaskRepository taskRepository;
+    @Mock private CategoryRepository categoryRepository;
+    @Mock private TagRepository tagRepository;
     @Mock private TeamRepository teamRepository;
+    @Mock private TaskCountRepository taskCountRepository;
+    @Mock private MembershipCache membershipCache;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     // ── Captors ──────────────────────────────────────────────────────────────
     @Captor
     private ArgumentCaptor<Task> taskCaptor;
 
+    @Captor
+    private ArgumentCaptor<Object> eventCaptor;
+
     // ── Fixtures ─────────────────────────────────────────────────────────────
     private static final UUID TEAM_ID = UUID.randomUUID();
     private static final UUID TASK_ID = UUID.randomUUID();
     private static final UUID USER_ID = UUID.randomUUID();
     private static final UUID CATEGORY_ID = UUID.randomUUID();
+    private static final UUID OTHER_TEAM_ID = UUID.randomUUID();
 
     private Task existingTask;
 
@@ -71,6 +105,7 @@ class TaskServiceImplTest {
                 .tagIds(Set.of())
                 .dueDate(Instant.now().plus(7, ChronoUnit.DAYS))
                 .createdAt(Instant.now())
+                .version(2L)
                 .build();
     }
 
@@ -82,17 +117,108 @@ class TaskServiceImplTest {
     @DisplayName("findTeamTasks()")
     class FindTeamTasks {
 
+        private static final TaskFilter IN_PROGRESS = TaskFilter.byStatus(TaskStatus.IN_PROGRESS);
+        private static final TaskFilter TODO = TaskFilter.byStatus(TaskStatus.TODO);
+
+        @Test
+        @DisplayName("Last page: returns rows without a next cursor")
+        void shouldReturnLastPage() {
+            TaskView view = taskView(UUID.randomUUID(), Instant.now());
+            when(taskRepository.findPage(TEAM_ID, IN_PROGRESS, null, 11)).thenReturn(List.of(view));
+
+            CursorPage<TaskView> result = taskService.findTeamTasks(TEAM_ID, IN_PROGRESS, null, 10);
+
+            assertThat(result.items()).containsExactly(view);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("More rows than the limit: trims the extra row, cursor points at the last returned task")
+        void shouldReturnCursorOfLastReturnedTask() {
+            TaskCursor after = new TaskCursor(Instant.parse("2025-01-02T00:00:00Z"), UUID.randomUUID());
+            TaskView first = taskView(UUID.randomUUID(), Instant.parse("2025-01-01T12:00:00Z"));
+            TaskView last = taskView(UUID.randomUUID(), Instant.parse("2025-01-01T00:00:00Z"));
+            TaskView extra = taskView(UUID.randomUUID(), Instant.parse("2024-12-31T00:00:00Z"));
+
+            when(taskRepository.findPage(TEAM_ID, TODO, after, 3)).thenReturn(List.of(first, last, extra));
+
+            CursorPage<TaskView> result = taskService.findTeamTasks(TEAM_ID, TODO, after, 2);
+
+            assertThat(result.items()).containsExactly(first, last);
+            assertThat(result.nextCursor()).isEqualTo(new TaskCursor(last.createdAt(), last.id()));
+        }
+
+        @Test
+        @DisplayName("Limit out of range: clamped to [1, 200]")
+        void shouldClampLimit() {
+            taskService.findTeamTasks(TEAM_ID, TODO, null, 0);
+            taskService.findTeamTasks(TEAM_ID, TODO, null, 10_000);
+
+            verify(taskRepository).findPage(TEAM_ID, TODO, null, 2);
+            verify(taskRepository).findPage(TEAM_ID, TODO, null, 201);
+        }
+
+        private TaskView taskView(UUID id, Instant createdAt) {
+            return new TaskView(id, "Title", "Description", TaskStatus.TODO, TaskPriority.MEDIUM,
+                    createdAt, createdAt, null, 0L, CATEGORY_ID, "Backend", null, null, null);
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // searchTasks()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("searchTasks()")
+    class SearchTasks {
+
         @Test
-        @DisplayName("Returns list of task projections")
-        void shouldFindTeamTasks() {
-            TaskInfoProjection projection = mock(TaskInfoProjection.class);
-            when(taskRepository.findAllByTeamIdAndStatus(TEAM_ID, TaskStatus.IN_PROGRESS))
-                    .thenReturn(List.of(projection));
+        @DisplayName("More hits than the limit: trims the extra hit, cursor points at the rank and id of the last returned one")
+        void shouldReturnCursorOfLastReturnedHit() {
+            TaskSearchCursor after = new TaskSearchCursor(0.9f, UUID.randomUUID());
+            TaskSearchHit first = hit(0.8f);
+            TaskSearchHit last = hit(0.5f);
+            TaskSearchHit extra = hit(0.1f);
+
+            when(taskRepository.search(TEAM_ID, "login bug", after, 3)).thenReturn(List.of(first, last, extra));
 
-            List<TaskInfoProjection> result = taskService.findTeamTasks(TEAM_ID, TaskStatus.IN_PROGRESS);
+            SearchPage<TaskSearchHit> result = taskService.searchTasks(TEAM_ID, "  login bug ", after, 2);
 
-            assertThat(result).hasSize(1).contains(projection);
-            verify(taskRepository).findAllByTeamIdAndStatus(TEAM_ID, TaskStatus.IN_PROGRESS);
+            assertThat(result.items()).containsExactly(first, last);
+            assertThat(result.nextCursor()).isEqualTo(new TaskSearchCursor(0.5f, last.task().id()));
+        }
+
+        @Test
+        @DisplayName("Last page: returns hits without a next cursor")
+        void shouldReturnLastPage() {
+            TaskSearchHit only = hit(0.3f);
+            when(taskRepository.search(TEAM_ID, "login", null, 21)).thenReturn(List.of(only));
+
+            SearchPage<TaskSearchHit> result = taskService.searchTasks(TEAM_ID, "login", null, 20);
+
+            assertThat(result.items()).containsExactly(only);
+            assertThat(result.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Missing, blank or too long query: rejected before touching the database")
+        void shouldRejectInvalidQuery() {
+            assertThatThrownBy(() -> taskService.searchTasks(TEAM_ID, null, null, 20))
+                    .isInstanceOf(InvalidSearchQueryException.class);
+            assertThatThrownBy(() -> taskService.searchTasks(TEAM_ID, "   ", null, 20))
+                    .isInstanceOf(InvalidSearchQueryException.class);
+            assertThatThrownBy(() -> taskService.searchTasks(TEAM_ID, "x".repeat(201), null, 20))
+                    .isInstanceOf(InvalidSearchQueryException.class);
+
+            verifyNoInteractions(taskRepository);
+        }
+
+        private TaskSearchHit hit(float rank) {
+            Instant now = Instant.now();
+            TaskView view = new TaskView(UUID.randomUUID(), "Fix login bug", "Description", TaskStatus.TODO,
+                    TaskPriority.MEDIUM, now, now, null, 0L, CATEGORY_ID, "Backend", null, null, null);
+            return new TaskSearchHit(view, rank, "Fix <mark>login</mark> bug", null);
         }
     }
 
@@ -107,12 +233,13 @@ class TaskServiceImplTest {
         @Test
         @DisplayName("Task found: returns details")
         void shouldGetTaskDetails() {
-            TaskInfoProjection projection = mock(TaskInfoProjection.class);
-            when(taskRepository.findDetailsById(TASK_ID)).thenReturn(Optional.of(projection));
+            TaskView view = new TaskView(TASK_ID, "Title", "Description", TaskStatus.TODO, TaskPriority.MEDIUM,
+                    Instant.now(), Instant.now(), null, 0L, CATEGORY_ID, "Backend", null, null, null);
+            when(taskRepository.findDetailsById(TASK_ID)).thenReturn(Optional.of(view));
 
-            TaskInfoProjection result = taskService.getTaskDetails(TEAM_ID, TASK_ID);
+            TaskView result = taskService.getTaskDetails(TEAM_ID, TASK_ID);
 
-            assertThat(result).isEqualTo(projection);
+            assertThat(result).isEqualTo(view);
         }
 
         @Test
@@ -126,6 +253,72 @@ class TaskServiceImplTest {
         }
     }
 
+    // ═══════════════════════════════════════════════════════════════════════════
+    // exportTeamTasks()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("exportTeamTasks()")
+    class ExportTeamTasks {
+
+        @Test
+        @DisplayName("Delegates to the streaming repository read with the given sink")
+        void shouldStreamThroughRepository() {
+            Consumer<TaskView> sink = task -> {
+            };
+
+            taskService.exportTeamTasks(TEAM_ID, sink);
+
+            verify(taskRepository).forEachByTeamId(TEAM_ID, sink);
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // getBoardVersion()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("getBoardVersion()")
+    class GetBoardVersion {
+
+        @Test
+        @DisplayName("Team found: returns its board version without touching tasks")
+        void shouldReturnBoardVersion() {
+            when(teamRepository.findBoardVersion(TEAM_ID)).thenReturn(Optional.of(7L));
+
+            assertThat(taskService.getBoardVersion(TEAM_ID)).isEqualTo(7L);
+            verifyNoInteractions(taskRepository);
+        }
+
+        @Test
+        @DisplayName("Team missing: throws EntityNotFoundException")
+        void shouldThrowWhenTeamMissing() {
+            when(teamRepository.findBoardVersion(TEAM_ID)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> taskService.getBoardVersion(TEAM_ID))
+                    .isInstanceOf(EntityNotFoundException.class);
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // getDashboard()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("getDashboard()")
+    class GetDashboard {
+
+        @Test
+        @DisplayName("Reads the counts as of the given instant with the top 5 tags")
+        void shouldReadDashboardAsOf() {
+            Instant asOf = Instant.parse("2025-03-03T10:15:00Z");
+            TeamDashboard dashboard = new TeamDashboard(0, 0, 0, Map.of(), Map.of(), List.of(), List.of());
+            when(taskRepository.getDashboard(TEAM_ID, asOf, 5)).thenReturn(dashboard);
+
+            assertThat(taskService.getDashboard(TEAM_ID, asOf)).isSameAs(dashboard);
+        }
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // createTask()
     // ═══════════════════════════════════════════════════════════════════════════
@@ -144,20 +337,23 @@ class TaskServiceImplTest {
                     .assigneeId(USER_ID)
                     .build();
 
-            when(teamRepository.isMember(TEAM_ID, USER_ID)).thenReturn(true);
+            when(membershipCache.isMember(TEAM_ID, USER_ID)).thenReturn(true);
             when(taskRepository.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
 
             // When
             Task result = taskService.createTask(TEAM_ID, request);
 
             // Then
-            verify(teamRepository).isMember(TEAM_ID, USER_ID);
+            verify(membershipCache).isMember(TEAM_ID, USER_ID);
             verify(taskRepository).save(taskCaptor.capture());
 
             Task captured = taskCaptor.getValue();
             assertThat(captured.getTitle()).isEqualTo("New Task");
             assertThat(captured.getTeamId()).isEqualTo(TEAM_ID);
             assertThat(result).isNotNull();
+            verify(taskCountRepository).apply(TaskCountDelta.added(result));
+            verify(teamRepository).incrementBoardVersion(TEAM_ID);
+            assertPublished(TaskEventType.CREATED, captured.getId());
         }
 
         @Test
@@ -183,7 +379,7 @@ class TaskServiceImplTest {
                     .assigneeId(USER_ID)
                     .build();
 
-            when(teamRepository.isMember(TEAM_ID, USER_ID)).thenReturn(false);
+            when(membershipCache.isMember(TEAM_ID, USER_ID)).thenReturn(false);
 
             assertThatThrownBy(() -> taskService.createTask(TEAM_ID, request))
                     .isInstanceOf(IllegalArgumentException.class)
@@ -193,6 +389,80 @@ class TaskServiceImplTest {
         }
     }
 
+    // ═══════════════════════════════════════════════════════════════════════════
+    // createTasks()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("createTasks()")
+    class CreateTasks {
+
+        private final UUID tagId = UUID.randomUUID();
+
+        @Test
+        @DisplayName("Mixed batch: one lookup per reference kind, valid items inserted together, results in request order")
+        void shouldCreateValidItemsAndRejectOthers() {
+            UUID unknownCategory = UUID.randomUUID();
+            UUID outsider = UUID.randomUUID();
+            List<CreateTaskRequest> requests = List.of(
+                    request("Valid one", CATEGORY_ID, Set.of(tagId), USER_ID),
+                    request("Foreign category", unknownCategory, null, null),
+                    request("Unknown tag", CATEGORY_ID, Set.of(UUID.randomUUID()), null),
+                    request("Outsider", CATEGORY_ID, null, outsider),
+                    request("Valid two", CATEGORY_ID, null, null));
+
+            when(categoryRepository.findExistingCategoryIds(eq(TEAM_ID), anySet())).thenReturn(Set.of(CATEGORY_ID));
+            when(tagRepository.findExistingTagIds(eq(TEAM_ID), anySet())).thenReturn(Set.of(tagId));
+            when(membershipCache.isMember(TEAM_ID, USER_ID)).thenReturn(true);
+            when(membershipCache.isMember(TEAM_ID, outsider)).thenReturn(false);
+            when(taskRepository.createAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+            List<TaskBatchItem> result = taskService.createTasks(TEAM_ID, requests);
+
+            assertThat(result).extracting(TaskBatchItem::index).containsExactly(0, 1, 2, 3, 4);
+            assertThat(result).extracting(TaskBatchItem::isCreated).containsExactly(true, false, false, false, true);
+            assertThat(result.get(1).error()).contains("Category");
+            assertThat(result.get(2).error()).contains("Tag");
+            assertThat(result.get(3).error()).isEqualTo("Assignee must be a member of the team");
+            assertThat(result.get(4).task().getTitle()).isEqualTo("Valid two");
+
+            verify(categoryRepository).findExistingCategoryIds(eq(TEAM_ID), anySet());
+            verify(tagRepository).findExistingTagIds(eq(TEAM_ID), anySet());
+            verify(taskRepository).createAll(argThat(tasks -> tasks.size() == 2));
+            verify(taskCountRepository).apply(argThat(delta -> delta.categories()
+                    .equals(Map.of(new TaskCountDelta.Key(CATEGORY_ID, TaskStatus.DRAFT), 2))));
+            verify(taskRepository, never()).save(any());
+            verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getAllValues())
+                    .extracting(event -> ((TaskEvent) event).taskId())
+                    .containsExactly(result.get(0).task().getId(), result.get(4).task().getId());
+        }
+
+        @Test
+        @DisplayName("Every item rejected: nothing is written")
+        void shouldSkipInsertWhenNothingValid() {
+            when(categoryRepository.findExistingCategoryIds(eq(TEAM_ID), anySet())).thenReturn(Set.of());
+            when(tagRepository.findExistingTagIds(eq(TEAM_ID), anySet())).thenReturn(Set.of());
+
+            List<TaskBatchItem> result = taskService.createTasks(TEAM_ID,
+                    List.of(request("Lost task", CATEGORY_ID, null, null)));
+
+            assertThat(result).singleElement().satisfies(item -> assertThat(item.isCreated()).isFalse());
+            verify(taskRepository, never()).createAll(any());
+            verifyNoInteractions(taskCountRepository);
+        }
+
+        private CreateTaskRequest request(String title, UUID categoryId, Set<UUID> tagIds, UUID assigneeId) {
+            return CreateTaskRequest.builder()
+                    .title(title)
+                    .description("Imported")
+                    .categoryId(categoryId)
+                    .tagIds(tagIds)
+                    .assigneeId(assigneeId)
+                    .build();
+        }
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // updateTask()
     // ═══════════════════════════════════════════════════════════════════════════
@@ -212,12 +482,48 @@ class TaskServiceImplTest {
             when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(existingTask));
             when(taskRepository.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
 
-            Task result = taskService.updateTask(TEAM_ID, TASK_ID, request);
+            Task result = taskService.updateTask(TEAM_ID, TASK_ID, request, 2L);
 
             assertThat(result.getTitle()).isEqualTo("Updated Title");
             assertThat(result.getPriority()).isEqualTo(TaskPriority.URGENT);
         }
 
+        @Test
+        @DisplayName("Category and tags changed: moves the task counts from the old to the new ones")
+        void shouldMoveTaskCounts() {
+            UUID newCategoryId = UUID.randomUUID();
+            UUID tagId = UUID.randomUUID();
+            UpdateTaskRequest request = UpdateTaskRequest.builder()
+                    .title("Existing Task")
+                    .categoryId(newCategoryId)
+                    .tagIds(Set.of(tagId))
+                    .build();
+
+            when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(existingTask));
+            when(taskRepository.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            taskService.updateTask(TEAM_ID, TASK_ID, request, null);
+
+            verify(taskCountRepository).apply(new TaskCountDelta(
+                    Map.of(new TaskCountDelta.Key(CATEGORY_ID, TaskStatus.TODO), -1,
+                            new TaskCountDelta.Key(newCategoryId, TaskStatus.TODO), 1),
+                    Map.of(new TaskCountDelta.Key(tagId, TaskStatus.TODO), 1)));
+        }
+
+        @Test
+        @DisplayName("Stale If-Match version: throws VersionMismatchException, nothing saved")
+        void shouldRejectStaleVersion() {
+            UpdateTaskRequest request = UpdateTaskRequest.builder().title("Updated Title").build();
+
+            when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(existingTask));
+
+            assertThatThrownBy(() -> taskService.updateTask(TEAM_ID, TASK_ID, request, 1L))
+                    .isInstanceOf(VersionMismatchException.class);
+
+            verify(taskRepository, never()).save(any());
+            verifyNoInteractions(taskCountRepository);
+        }
+
         @Test
         @DisplayName("Task from different team: throws AccessDeniedException")
         void shouldThrowExceptionWhenUpdatingTaskFromDifferentTeam() {
@@ -226,7 +532,7 @@ class TaskServiceImplTest {
 
             when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(existingTask));
 
-            assertThatThrownBy(() -> taskService.updateTask(differentTeamId, TASK_ID, request))
+            assertThatThrownBy(() -> taskService.updateTask(differentTeamId, TASK_ID, request, null))
                     .isInstanceOf(AccessDeniedException.class)
                     .hasMessageContaining("Task does not belong");
 
@@ -243,15 +549,60 @@ class TaskServiceImplTest {
     class UpdateStatus {
 
         @Test
-        @DisplayName("Updates status successfully")
+        @DisplayName("Moves the task counts, then updates status with one targeted UPDATE, without loading the task")
         void shouldUpdateTaskStatus() {
+            when(taskRepository.updateStatus(TEAM_ID, TASK_ID, TaskStatus.DONE, 2L)).thenReturn(true);
+
+            taskService.updateStatus(TEAM_ID, TASK_ID, TaskStatus.DONE, 2L);
+
+            InOrder inOrder = inOrder(taskCountRepository, taskRepository);
+            inOrder.verify(taskCountRepository).moveStatus(TEAM_ID, TASK_ID, TaskStatus.DONE);
+            inOrder.verify(taskRepository).updateStatus(TEAM_ID, TASK_ID, TaskStatus.DONE, 2L);
+            verify(teamRepository).incrementBoardVersion(TEAM_ID);
+            assertPublished(TaskEventType.STATUS_CHANGED, TASK_ID);
+            verify(taskRepository, never()).findById(any());
+            verify(taskRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("No row updated, task missing: throws EntityNotFoundException")
+        void shouldThrowWhenTaskMissing() {
+            when(taskRepository.updateStatus(TEAM_ID, TASK_ID, TaskStatus.DONE, null)).thenReturn(false);
+            when(taskRepository.findById(TASK_ID)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> taskService.updateStatus(TEAM_ID, TASK_ID, TaskStatus.DONE, null))
+                    .isInstanceOf(EntityNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("No row updated, task of another team: throws AccessDeniedException")
+        void shouldThrowWhenTaskInOtherTeam() {
+            when(taskRepository.updateStatus(OTHER_TEAM_ID, TASK_ID, TaskStatus.DONE, null)).thenReturn(false);
             when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(existingTask));
-            when(taskRepository.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
 
-            taskService.updateStatus(TEAM_ID, TASK_ID, TaskStatus.DONE);
+            assertThatThrownBy(() -> taskService.updateStatus(OTHER_TEAM_ID, TASK_ID, TaskStatus.DONE, null))
+                    .isInstanceOf(AccessDeniedException.class);
+        }
 
-            verify(taskRepository).save(taskCaptor.capture());
-            assertThat(taskCaptor.getValue().getStatus()).isEqualTo(TaskStatus.DONE);
+        @Test
+        @DisplayName("No row updated, task of this team: stale version, throws VersionMismatchException")
+        void shouldThrowWhenVersionStale() {
+            when(taskRepository.updateStatus(TEAM_ID, TASK_ID, TaskStatus.DONE, 1L)).thenReturn(false);
+            when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(existingTask));
+
+            assertThatThrownBy(() -> taskService.updateStatus(TEAM_ID, TASK_ID, TaskStatus.DONE, 1L))
+                    .isInstanceOf(VersionMismatchException.class)
+                    .hasMessageContaining("version 2, not 1");
+            verify(teamRepository, never()).incrementBoardVersion(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Null status: rejected before touching the database")
+        void shouldRejectNullStatus() {
+            assertThatThrownBy(() -> taskService.updateStatus(TEAM_ID, TASK_ID, null, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(taskRepository, taskCountRepository);
         }
     }
 
@@ -267,27 +618,34 @@ class TaskServiceImplTest {
         @DisplayName("Valid user: assigns task")
         void shouldAssignTask() {
             UUID newAssigneeId = UUID.randomUUID();
-            when(teamRepository.isMember(TEAM_ID, newAssigneeId)).thenReturn(true);
-            when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(existingTask));
-            when(taskRepository.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(membershipCache.isMember(TEAM_ID, newAssigneeId)).thenReturn(true);
+            when(taskRepository.updateAssignee(TEAM_ID, TASK_ID, newAssigneeId, null)).thenReturn(true);
 
-            taskService.assignTask(TEAM_ID, TASK_ID, newAssigneeId);
+            taskService.assignTask(TEAM_ID, TASK_ID, newAssigneeId, null);
 
-            verify(taskRepository).save(taskCaptor.capture());
-            assertThat(taskCaptor.getValue().getAssigneeId()).isEqualTo(newAssigneeId);
+            verify(taskRepository).updateAssignee(TEAM_ID, TASK_ID, newAssigneeId, null);
+            verify(taskRepository, never()).save(any());
         }
 
         @Test
         @DisplayName("Null user: unassigns task (member check skipped)")
         void shouldUnassignTask() {
-            when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(existingTask));
-            when(taskRepository.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(taskRepository.updateAssignee(TEAM_ID, TASK_ID, null, null)).thenReturn(true);
 
-            taskService.assignTask(TEAM_ID, TASK_ID, null);
+            taskService.assignTask(TEAM_ID, TASK_ID, null, null);
 
-            verify(teamRepository, never()).isMember(any(), any());
-            verify(taskRepository).save(taskCaptor.capture());
-            assertThat(taskCaptor.getValue().getAssigneeId()).isNull();
+            verify(membershipCache, never()).isMember(any(), any());
+            verify(taskRepository).updateAssignee(TEAM_ID, TASK_ID, null, null);
+        }
+
+        @Test
+        @DisplayName("Task of another team: throws AccessDeniedException")
+        void shouldThrowWhenTaskInOtherTeam() {
+            when(taskRepository.updateAssignee(OTHER_TEAM_ID, TASK_ID, null, null)).thenReturn(false);
+            when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(existingTask));
+
+            assertThatThrownBy(() -> taskService.assignTask(OTHER_TEAM_ID, TASK_ID, null, null))
+                    .isInstanceOf(AccessDeniedException.class);
         }
 
         @Test
@@ -295,13 +653,12 @@ class TaskServiceImplTest {
         void shouldThrowExceptionWhenAssigningToNonTeamMember() {
             UUID outsiderId = UUID.randomUUID();
 
-            when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(existingTask));
-
-            when(teamRepository.isMember(TEAM_ID, outsiderId)).thenReturn(false);
+            when(membershipCache.isMember(TEAM_ID, outsiderId)).thenReturn(false);
 
-            assertThatThrownBy(() -> taskService.assignTask(TEAM_ID, TASK_ID, outsiderId))
+            assertThatThrownBy(() -> taskService.assignTask(TEAM_ID, TASK_ID, outsiderId, null))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("Assignee must be a member");
+            verify(taskRepository, never()).updateAssignee(any(), any(), any(), any());
         }
 
         // ═══════════════════════════════════════════════════════════════════════════
@@ -315,23 +672,46 @@ class TaskServiceImplTest {
             @Test
             @DisplayName("Task exists: deletes it")
             void shouldDeleteTask() {
-                when(taskRepository.existsById(TASK_ID)).thenReturn(true);
+                when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(existingTask));
 
-                taskService.deleteTask(TEAM_ID, TASK_ID);
+                taskService.deleteTask(TEAM_ID, TASK_ID, 2L);
 
                 verify(taskRepository).deleteById(TASK_ID);
+                verify(taskCountRepository).apply(TaskCountDelta.removed(existingTask));
+                assertPublished(TaskEventType.DELETED, TASK_ID);
+            }
+
+            @Test
+            @DisplayName("Stale If-Match version: throws VersionMismatchException, nothing deleted")
+            void shouldRejectStaleVersion() {
+                when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(existingTask));
+
+                assertThatThrownBy(() -> taskService.deleteTask(TEAM_ID, TASK_ID, 1L))
+                        .isInstanceOf(VersionMismatchException.class);
+
+                verify(taskRepository, never()).deleteById(any());
+                verifyNoInteractions(taskCountRepository);
             }
 
             @Test
             @DisplayName("Task missing: throws EntityNotFoundException")
             void shouldThrowExceptionWhenDeletingNonExistentTask() {
-                when(taskRepository.existsById(TASK_ID)).thenReturn(false);
+                when(taskRepository.findById(TASK_ID)).thenReturn(Optional.empty());
 
-                assertThatThrownBy(() -> taskService.deleteTask(TEAM_ID, TASK_ID))
+                assertThatThrownBy(() -> taskService.deleteTask(TEAM_ID, TASK_ID, null))
                         .isInstanceOf(EntityNotFoundException.class);
 
                 verify(taskRepository, never()).deleteById(any());
             }
         }
     }
-}
\ No newline at end of file
+
+    private void assertPublished(TaskEventType type, UUID taskId) {
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue()).isInstanceOfSatisfying(TaskEvent.class, event -> {
+            assertThat(event.type()).isEqualTo(type);
+            assertThat(event.teamId()).isEqualTo(TEAM_ID);
+            assertThat(event.taskId()).isEqualTo(taskId);
+        });
+    }
+}
@@ -2,11 +2,16 @@ package com.belyak.taskproject.application.service;
 
 import com.belyak.taskproject.application.mapper.TeamApiMapper;
 import com.belyak.taskproject.common.util.UniqueCodeGenerator;
+import com.belyak.taskproject.domain.exception.VersionMismatchException;
+import com.belyak.taskproject.domain.model.MembershipRevokedEvent;
 import com.belyak.taskproject.domain.model.Team;
 import com.belyak.taskproject.domain.model.TeamStatus;
 import com.belyak.taskproject.domain.port.repository.TeamRepository;
+import com.belyak.taskproject.domain.port.repository.UserRepository;
 import com.belyak.taskproject.infrastructure.persistence.projections.TeamDetailsProjection;
 import com.belyak.taskproject.infrastructure.persistence.projections.TeamSummaryProjection;
+import com.belyak.taskproject.infrastructure.security.access.MembershipCache;
+import com.belyak.taskproject.infrastructure.security.jwt.PrincipalCache;
 import com.belyak.taskproject.web.dto.request.CreateTeamRequest;
 import com.belyak.taskproject.web.dto.request.JoinTeamRequest;
 import com.belyak.taskproject.web.dto.response.TeamDetailsResponse;
@@ -22,6 +27,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -48,6 +54,10 @@ class TeamServiceImplTest {
     @Mock private PasswordEncoder passwordEncoder;
     @Mock private UniqueCodeGenerator uniqueCodeGenerator;
     @Mock private TeamApiMapper teamApiMapper;
+    @Mock private UserRepository userRepository;
+    @Mock private PrincipalCache principalCache;
+    @Mock private MembershipCache membershipCache;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     // ── Captors ──────────────────────────────────────────────────────────────
     @Captor
@@ -72,6 +82,7 @@ class TeamServiceImplTest {
                 .ownerId(USER_ID)
                 .status(TeamStatus.ACTIVE)
                 .memberIds(new HashSet<>(Set.of(USER_ID)))
+                .version(5L)
                 .build();
     }
 
@@ -133,6 +144,10 @@ class TeamServiceImplTest {
 
             Team savedTeam = teamCaptor.getValue();
             assertThat(savedTeam.getJoinCode()).isEqualTo(JOIN_CODE);
+
+            verify(userRepository).incrementMembershipVersion(USER_ID);
+            verify(principalCache).evictById(USER_ID);
+            verify(membershipCache).evictTeam(TEAM_ID);
         }
     }
 
@@ -165,6 +180,10 @@ class TeamServiceImplTest {
 
             verify(teamRepository).save(teamCaptor.capture());
             assertThat(teamCaptor.getValue().getMemberIds()).contains(newUserId);
+
+            verify(userRepository).incrementMembershipVersion(newUserId);
+            verify(principalCache).evictById(newUserId);
+            verify(membershipCache).evictTeam(TEAM_ID);
         }
 
         @Test
@@ -178,6 +197,7 @@ class TeamServiceImplTest {
                     .hasMessageContaining("Team not found");
 
             verify(teamRepository, never()).save(any());
+            verifyNoInteractions(userRepository, principalCache, membershipCache);
         }
 
         @Test
@@ -209,6 +229,21 @@ class TeamServiceImplTest {
             verify(teamRepository).findByJoinCode(JOIN_CODE);
             verify(teamRepository, never()).save(any());
         }
+
+        @Test
+        @DisplayName("Stale If-Match version: throws VersionMismatchException, nobody kicked")
+        void shouldRejectStaleVersion() {
+            UUID memberToKick = UUID.randomUUID();
+            team.getMemberIds().add(memberToKick);
+
+            when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
+
+            assertThatThrownBy(() -> teamService.kickMember(TEAM_ID, memberToKick, USER_ID, 4L))
+                    .isInstanceOf(VersionMismatchException.class);
+
+            verify(teamRepository, never()).save(any());
+            verifyNoInteractions(userRepository, principalCache, membershipCache, eventPublisher);
+        }
     }
 
     // ═══════════════════════════════════════════════════════════════════════════
@@ -260,10 +295,15 @@ class TeamServiceImplTest {
             when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
             when(teamRepository.save(any(Team.class))).thenAnswer(inv -> inv.getArgument(0));
 
-            teamService.kickMember(TEAM_ID, memberToKick, USER_ID);
+            teamService.kickMember(TEAM_ID, memberToKick, USER_ID, 5L);
 
             verify(teamRepository).save(teamCaptor.capture());
             assertThat(teamCaptor.getValue().getMemberIds()).doesNotContain(memberToKick);
+
+            verify(userRepository).incrementMembershipVersion(memberToKick);
+            verify(principalCache).evictById(memberToKick);
+            verify(membershipCache).evictTeam(TEAM_ID);
+            verify(eventPublisher).publishEvent(new MembershipRevokedEvent(TEAM_ID, memberToKick));
         }
 
         @Test
@@ -274,11 +314,12 @@ class TeamServiceImplTest {
 
             when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
 
-            assertThatThrownBy(() -> teamService.kickMember(TEAM_ID, memberToKick, randomUser))
+            assertThatThrownBy(() -> teamService.kickMember(TEAM_ID, memberToKick, randomUser, null))
                     .isInstanceOf(AccessDeniedException.class)
                     .hasMessageContaining("Only owner can kick members");
 
             verify(teamRepository, never()).save(any());
+            verifyNoInteractions(userRepository);
         }
 
         @Test
@@ -286,7 +327,7 @@ class TeamServiceImplTest {
         void shouldThrowExceptionWhenTryingToKickOwner() {
             when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
 
-            assertThatThrownBy(() -> teamService.kickMember(TEAM_ID, USER_ID, USER_ID))
+            assertThatThrownBy(() -> teamService.kickMember(TEAM_ID, USER_ID, USER_ID, null))
                     .isInstanceOf(IllegalStateException.class)
                     .hasMessageContaining("Cannot remove the owner from the team");
 
@@ -300,12 +341,27 @@ class TeamServiceImplTest {
 
             when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
 
-            assertThatThrownBy(() -> teamService.kickMember(TEAM_ID, nonMemberId, USER_ID))
+            assertThatThrownBy(() -> teamService.kickMember(TEAM_ID, nonMemberId, USER_ID, null))
                     .isInstanceOf(EntityNotFoundException.class)
                     .hasMessageContaining("not a member");
 
             verify(teamRepository, never()).save(any());
         }
+
+        @Test
+        @DisplayName("Stale If-Match version: throws VersionMismatchException, nobody kicked")
+        void shouldRejectStaleVersion() {
+            UUID memberToKick = UUID.randomUUID();
+            team.getMemberIds().add(memberToKick);
+
+            when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
+
+            assertThatThrownBy(() -> teamService.kickMember(TEAM_ID, memberToKick, USER_ID, 4L))
+                    .isInstanceOf(VersionMismatchException.class);
+
+            verify(teamRepository, never()).save(any());
+            verifyNoInteractions(userRepository, principalCache, membershipCache);
+        }
     }
 
     // ═══════════════════════════════════════════════════════════════════════════
@@ -368,6 +424,18 @@ class TeamServiceImplTest {
             // Проверяем, что дата совпадает с ожидаемой с точностью до 1 секунды
             // (так как Instant.now() в тесте и в сервисе будут отличаться на миллисекунды)
             assertThat(capturedDate).isCloseTo(expectedDate, org.assertj.core.api.Assertions.within(1, java.time.temporal.ChronoUnit.SECONDS));
+            verify(membershipCache).evictAll();
+        }
+
+        @Test
+        @DisplayName("Nothing deleted: membership cache is kept")
+        void shouldKeepMembershipCacheWhenNothingDeleted() {
+            when(teamRepository.deleteByStatusAndDeletedAtBefore(eq(TeamStatus.DELETED), any(Instant.class)))
+                    .thenReturn(0);
+
+            teamService.cleanupDeletedTeams();
+
+            verifyNoInteractions(membershipCache);
         }
     }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.belyak.taskproject.application.service;
 
 import com.belyak.taskproject.domain.model.User;
+import com.belyak.taskproject.domain.port.repository.TeamRepository;
 import com.belyak.taskproject.domain.port.repository.UserRepository;
+import com.belyak.taskproject.infrastructure.security.jwt.PrincipalCache;
 import com.belyak.taskproject.web.dto.request.UpdateUserRequest;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +36,10 @@ class UserServiceImplTest {
     // ── Collaborators ────────────────────────────────────────────────────────
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private TeamRepository teamRepository;
 
     // ── Captors ──────────────────────────────────────────────────────────────
     @Captor
@@ -117,6 +123,30 @@ class UserServiceImplTest {
             assertThat(result.getName()).isEqualTo(NEW_NAME);
         }
 
+        @Test
+        @DisplayName("User updated: evicts cached principal")
+        void shouldEvictCachedPrincipal() {
+            UpdateUserRequest request = new UpdateUserRequest(NEW_NAME);
+
+            when(userRepository.findById(USER_ID)).thenReturn(Optional.of(existingUser));
+            when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            userService.update(USER_ID, request);
+
+            verify(principalCache).evict("test@example.com");
+        }
+
+        @Test
+        @DisplayName("User updated: marks the boards of the user's teams as changed")
+        void shouldBumpBoardVersions() {
+            when(userRepository.findById(USER_ID)).thenReturn(Optional.of(existingUser));
+            when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            userService.update(USER_ID, new UpdateUserRequest(NEW_NAME));
+
+            verify(teamRepository).incrementBoardVersionsShowingUser(USER_ID);
+        }
+
         @Test
         @DisplayName("User missing: throws EntityNotFoundException, never saves")
         void shouldThrowExceptionWhenUserNotFound() {
@@ -129,6 +159,7 @@ class UserServiceImplTest {
 
             verify(userRepository).findById(USER_ID);
             verify(userRepository, never()).save(any());
+            verifyNoInteractions(principalCache);
         }
     }
 }
\ No newline at end of file
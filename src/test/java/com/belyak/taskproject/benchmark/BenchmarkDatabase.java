@@ -0,0 +1,139 @@
+package com.belyak.taskproject.benchmark;
+
+import com.belyak.taskproject.TaskProjectApplication;
+import com.belyak.taskproject.domain.port.repository.TaskCountRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Application context on a real PostgreSQL for database benchmarks.
+ * <p>
+ * Uses the database given by {@code -Dbenchmark.jdbc-url} (plus {@code benchmark.jdbc-user} and
+ * {@code benchmark.jdbc-password}) when set, otherwise starts a Testcontainers PostgreSQL.
+ * The schema is created by Liquibase on startup. The web server, if any, listens on a random {@link #port()}.
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+
+    static final String JWT_SECRET = JwtServiceBenchmark.SECRET;
+
+    private final PostgreSQLContainer<?> container;
+    private final ConfigurableApplicationContext context;
+
+    public BenchmarkDatabase(Map<String, Object> extraProperties, WebApplicationType webApplicationType) {
+        String url = System.getProperty("benchmark.jdbc-url");
+        String user = System.getProperty("benchmark.jdbc-user", "test");
+        String password = System.getProperty("benchmark.jdbc-password", "test");
+
+        if (url == null) {
+            container = new PostgreSQLContainer<>("postgres:17");
+            container.start();
+            url = container.getJdbcUrl();
+            user = container.getUsername();
+            password = container.getPassword();
+        } else {
+            container = null;
+        }
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", url);
+        properties.put("spring.datasource.username", user);
+        properties.put("spring.datasource.password", password);
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("application.security.jwt.secret-key", JWT_SECRET);
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.belyak.taskproject", "WARN");
+        properties.put("logging.level.org.hibernate.orm.jdbc.bind", "WARN");
+        properties.put("server.port", 0);
+        properties.put("management.server.port", 0);
+        properties.putAll(extraProperties);
+
+        // Passed as command line arguments so they take precedence over application.yml
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+
+        context = new SpringApplicationBuilder(TaskProjectApplication.class)
+                .web(webApplicationType)
+                .run(args);
+    }
+
+    public BenchmarkDatabase(Map<String, Object> extraProperties) {
+        this(extraProperties, WebApplicationType.NONE);
+    }
+
+    public BenchmarkDatabase() {
+        this(Map.of());
+    }
+
+    /**
+     * Port of the embedded server, when started with {@link WebApplicationType#SERVLET}.
+     */
+    public int port() {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public JdbcTemplate jdbc() {
+        return context.getBean(JdbcTemplate.class);
+    }
+
+    /**
+     * Creates a team owned by a new user, with one category and {@code tagCount} tags, and returns its id.
+     */
+    UUID seedTeam(int tagCount) {
+        JdbcTemplate jdbc = jdbc();
+        UUID userId = UUID.randomUUID();
+        UUID teamId = UUID.randomUUID();
+
+        jdbc.update("INSERT INTO users (id, email, name, password, role, created_at, updated_at) " +
+                    "VALUES (?, ?, 'Bench', 'hash', 'USER', now(), now())", userId, "bench-" + userId + "@example.com");
+        jdbc.update("INSERT INTO teams (id, name, join_code, password, status, owner_id, created_at, updated_at) " +
+                    "VALUES (?, 'Bench', ?, 'hash', 'ACTIVE', ?, now(), now())",
+                teamId, teamId.toString().substring(0, 6), userId);
+        jdbc.update("INSERT INTO team_members (team_id, user_id) VALUES (?, ?)", teamId, userId);
+        jdbc.update("INSERT INTO categories (id, name, is_system, team_id, created_at, updated_at) " +
+                    "VALUES (gen_random_uuid(), 'Backend', false, ?, now(), now())", teamId);
+        jdbc.update("INSERT INTO tags (id, name, color, team_id, created_at, updated_at) " +
+                    "SELECT gen_random_uuid(), 'tag-' || n, '#336699', ?, now(), now() FROM generate_series(1, ?) n",
+                teamId, tagCount);
+        return teamId;
+    }
+
+    /**
+     * Inserts {@code taskCount} tasks into the team, each with every tag of the team and the owner as assignee,
+     * and brings the task counts up to date.
+     */
+    void seedTasks(UUID teamId, String status, int taskCount) {
+        JdbcTemplate jdbc = jdbc();
+        jdbc.update("INSERT INTO tasks (id, title, description, status, priority, assignee_id, category_id, team_id, created_at, updated_at) " +
+                    "SELECT gen_random_uuid(), 'Task ' || n, 'Benchmark task ' || n, ?, 'MEDIUM', t.owner_id, c.id, t.id, " +
+                    "       now() - n * interval '1 second', now() " +
+                    "FROM generate_series(1, ?) n " +
+                    "JOIN teams t ON t.id = ? " +
+                    "JOIN categories c ON c.team_id = t.id",
+                status, taskCount, teamId);
+        jdbc.update("INSERT INTO task_tags (task_id, tag_id) " +
+                    "SELECT task.id, tag.id FROM tasks task JOIN tags tag ON tag.team_id = task.team_id " +
+                    "WHERE task.team_id = ?", teamId);
+        bean(TaskCountRepository.class).reconcile();
+        jdbc.execute("ANALYZE");
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
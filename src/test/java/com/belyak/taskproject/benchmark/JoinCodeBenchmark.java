@@ -0,0 +1,62 @@
+package com.belyak.taskproject.benchmark;
+
+import com.belyak.taskproject.common.util.CodeGeneratorUtils;
+import com.belyak.taskproject.common.util.UniqueCodeGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Team join code generation. {@code generateJoinCode} draws from the shared {@code SecureRandom};
+ * {@code generateUnique*} wrap it in {@link UniqueCodeGenerator} with an in-memory existence check that
+ * accepts the first code, or every third one, i.e. without the database round trip of the real check.
+ * {@code Threads.MAX} variants show contention on the shared random.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JoinCodeBenchmark {
+
+    private static final int CODE_LENGTH = 6;
+
+    private final UniqueCodeGenerator uniqueCodeGenerator = new UniqueCodeGenerator();
+
+    @State(Scope.Thread)
+    public static class Collisions {
+        int checks;
+    }
+
+    @Benchmark
+    public String generateJoinCode() {
+        return CodeGeneratorUtils.generateJoinCode(CODE_LENGTH);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String generateJoinCodeContended() {
+        return CodeGeneratorUtils.generateJoinCode(CODE_LENGTH);
+    }
+
+    @Benchmark
+    public String generateUniqueFirstTry() {
+        return uniqueCodeGenerator.generate(() -> CodeGeneratorUtils.generateJoinCode(CODE_LENGTH), code -> false);
+    }
+
+    @Benchmark
+    public String generateUniqueAfterCollisions(Collisions collisions) {
+        return uniqueCodeGenerator.generate(() -> CodeGeneratorUtils.generateJoinCode(CODE_LENGTH),
+                code -> ++collisions.checks % 3 != 0);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JoinCodeBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,99 @@
+package com.belyak.taskproject.benchmark;
+
+import com.belyak.taskproject.domain.model.Role;
+import com.belyak.taskproject.domain.model.User;
+import com.belyak.taskproject.infrastructure.security.jwt.JwtProperties;
+import com.belyak.taskproject.infrastructure.security.jwt.JwtService;
+import com.belyak.taskproject.infrastructure.security.jwt.TaskUserDetails;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token.
+ * <p>
+ * {@code legacyPerRequest} reproduces the former filter path: the token is parsed and verified three times
+ * and every parse rebuilds the parser and re-decodes the Base64 secret.
+ * {@code singleParsePerRequest} is the current path: one verified parse with the parser built at startup,
+ * split into its {@code parseClaims} and {@code validateClaims} halves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private TaskUserDetails userDetails;
+    private String token;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey(SECRET);
+        properties.setExpiration(TimeUnit.HOURS.toMillis(1));
+
+        jwtService = new JwtService(properties, null); // memberships are not embedded
+        userDetails = new TaskUserDetails(
+                User.restore(UUID.randomUUID(), "Bench", "bench@example.com", "hash", Role.USER));
+        token = jwtService.generateToken(userDetails);
+        claims = jwtService.parseClaims(token);
+    }
+
+    @Benchmark
+    public boolean legacyPerRequest() {
+        String username = legacyParse(token).getSubject();
+        return username != null
+               && legacyParse(token).getSubject().equals(userDetails.getUsername())
+               && !legacyParse(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean singleParsePerRequest() {
+        Claims claims = jwtService.parseClaims(token);
+        return claims.getSubject() != null && jwtService.isTokenValid(claims, userDetails);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtService.parseClaims(token);
+    }
+
+    @Benchmark
+    public boolean validateClaims() {
+        return jwtService.isTokenValid(claims, userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(userDetails);
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtServiceBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,43 @@
+package com.belyak.taskproject.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+
+/**
+ * Runs the benchmarks that need no database and writes the results as JSON, for comparing runs over time.
+ * <p>
+ * Started by {@code mvn -Pbenchmarks verify}. The result file defaults to {@code target/jmh-result.json}
+ * and can be moved with {@code -Dbenchmark.result=...}; further arguments are passed to JMH as on its
+ * command line, e.g. {@code -f 0 -wi 1 -i 1} for a quick run, or a regexp to select benchmarks.
+ */
+public final class MicroBenchmarks {
+
+    private static final List<Class<?>> BENCHMARKS = List.of(
+            JwtServiceBenchmark.class,
+            TaskMappingBenchmark.class,
+            TaskDomainBenchmark.class,
+            JoinCodeBenchmark.class);
+
+    private MicroBenchmarks() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder options = new OptionsBuilder();
+        if (commandLine.getIncludes().isEmpty()) {
+            BENCHMARKS.forEach(benchmark -> options.include(benchmark.getSimpleName()));
+        }
+
+        new Runner(options
+                .parent(commandLine)
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty("benchmark.result", "target/jmh-result.json"))
+                .build()).run();
+    }
+}
@@ -0,0 +1,60 @@
+package com.belyak.taskproject.benchmark;
+
+import com.belyak.taskproject.domain.model.Task;
+import com.belyak.taskproject.domain.model.TaskPriority;
+import com.belyak.taskproject.domain.model.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copy-on-write updates of the {@link Task} aggregate: every change goes through {@code toBuilder()}.
+ * {@code updateDetails} also trims the strings and copies the tag set. Status and assignee changes are single
+ * UPDATE statements that never load the aggregate, so there is nothing to measure for them here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskDomainBenchmark {
+
+    private Task task;
+    private Set<UUID> tagIds;
+    private UUID assigneeId;
+    private UUID categoryId;
+    private Instant dueDate;
+
+    @Setup
+    public void setUp() {
+        tagIds = Set.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        assigneeId = UUID.randomUUID();
+        categoryId = UUID.randomUUID();
+        dueDate = Instant.now().plusSeconds(86_400);
+        task = Task.createNew(UUID.randomUUID(), "Benchmark task", "Measured by JMH",
+                        TaskStatus.TODO, TaskPriority.MEDIUM, dueDate, categoryId, assigneeId, tagIds)
+                .toBuilder()
+                .id(UUID.randomUUID())
+                .version(3L)
+                .build();
+    }
+
+    @Benchmark
+    public Task updateDetails() {
+        return task.updateDetails("  Renamed task  ", " New description ", TaskPriority.HIGH,
+                dueDate, assigneeId, categoryId, tagIds);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskDomainBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,105 @@
+package com.belyak.taskproject.benchmark;
+
+import com.belyak.taskproject.domain.model.TaskFilter;
+import com.belyak.taskproject.domain.model.TaskStatus;
+import com.belyak.taskproject.domain.port.repository.TaskRepository;
+import com.belyak.taskproject.infrastructure.persistence.entity.TaskEntity;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading one team's task list with tags, 10k tasks with 5 tags each, either as one 200-row page or the whole list.
+ * <p>
+ * {@code entityGraphFetch} reproduces the former read path: one query fetch-joining category, assignee and tags,
+ * so every task row is repeated per tag and de-duplicated by Hibernate.
+ * With a page limit the fetch join cannot be paginated in SQL, so Hibernate reads every row and cuts the page in memory.
+ * {@code twoPhaseFetch} is the current path: scalar task rows, then one batch query over task_tags JOIN tags.
+ * <p>
+ * Needs Docker, or an existing database via {@code -Dbenchmark.jdbc-url=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskListFetchBenchmark {
+
+    @Param({"10000"})
+    private int taskCount;
+
+    @Param({"5"})
+    private int tagsPerTask;
+
+    @Param({"200", "10000"})
+    private int pageSize;
+
+    private BenchmarkDatabase database;
+    private TransactionTemplate readOnlyTx;
+    private EntityManager entityManager;
+    private TaskRepository taskRepository;
+    private UUID teamId;
+
+    @Setup
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        teamId = database.seedTeam(tagsPerTask);
+        database.seedTasks(teamId, TaskStatus.IN_PROGRESS.name(), taskCount);
+
+        readOnlyTx = new TransactionTemplate(database.bean(PlatformTransactionManager.class));
+        readOnlyTx.setReadOnly(true);
+        entityManager = database.bean(EntityManager.class);
+        taskRepository = database.bean(TaskRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public int entityGraphFetch() {
+        return readOnlyTx.execute(status -> {
+            List<TaskEntity> tasks = entityManager.createQuery(
+                            "SELECT t FROM TaskEntity t " +
+                            "LEFT JOIN FETCH t.category " +
+                            "LEFT JOIN FETCH t.assignee " +
+                            "LEFT JOIN FETCH t.tags " +
+                            "WHERE t.team.id = :teamId AND t.status = :status " +
+                            "ORDER BY t.createdAt DESC, t.id DESC", TaskEntity.class)
+                    .setParameter("teamId", teamId)
+                    .setParameter("status", TaskStatus.IN_PROGRESS)
+                    .setMaxResults(pageSize)
+                    .getResultList();
+
+            int tags = tasks.stream().mapToInt(task -> task.getTags().size()).sum();
+            entityManager.clear();
+            return tags;
+        });
+    }
+
+    @Benchmark
+    public int twoPhaseFetch() {
+        return readOnlyTx.execute(status -> {
+            List<TaskView> tasks = taskRepository.findPage(teamId, TaskFilter.byStatus(TaskStatus.IN_PROGRESS), null, pageSize);
+
+            return tasks.stream().mapToInt(task -> task.tags().size()).sum();
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskListFetchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,110 @@
+package com.belyak.taskproject.benchmark;
+
+import com.belyak.taskproject.application.mapper.TaskApiMapper;
+import com.belyak.taskproject.domain.model.Task;
+import com.belyak.taskproject.domain.model.TaskPriority;
+import com.belyak.taskproject.domain.model.TaskStatus;
+import com.belyak.taskproject.infrastructure.persistence.entity.CategoryEntity;
+import com.belyak.taskproject.infrastructure.persistence.entity.TagEntity;
+import com.belyak.taskproject.infrastructure.persistence.entity.TaskEntity;
+import com.belyak.taskproject.infrastructure.persistence.entity.TeamEntity;
+import com.belyak.taskproject.infrastructure.persistence.entity.UserEntity;
+import com.belyak.taskproject.infrastructure.persistence.mapper.TaskPersistenceMapper;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TagView;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
+import com.belyak.taskproject.web.dto.response.CreateTaskResponse;
+import com.belyak.taskproject.web.dto.response.TaskResponse;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * MapStruct conversions on the task paths: read model to API response (single and a 200-task board page),
+ * domain task to the create response, and JPA entity to domain task. Tasks carry {@code TAGS_PER_TASK} tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    private static final int PAGE_SIZE = 200;
+    private static final int TAGS_PER_TASK = 5;
+
+    private TaskApiMapper taskApiMapper;
+    private TaskPersistenceMapper taskPersistenceMapper;
+
+    private TaskView view;
+    private List<TaskView> page;
+    private Task task;
+    private TaskEntity entity;
+
+    @Setup
+    public void setUp() {
+        taskApiMapper = Mappers.getMapper(TaskApiMapper.class);
+        taskPersistenceMapper = Mappers.getMapper(TaskPersistenceMapper.class);
+
+        List<TagView> tags = IntStream.range(0, TAGS_PER_TASK)
+                .mapToObj(i -> new TagView(UUID.randomUUID(), "tag-" + i, "#336699"))
+                .toList();
+        page = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> new TaskView(UUID.randomUUID(), "Task " + i, "Benchmark task " + i,
+                        TaskStatus.TODO, TaskPriority.MEDIUM, Instant.now(), Instant.now(), null, 0,
+                        UUID.randomUUID(), "Backend", UUID.randomUUID(), "Bench", "bench@example.com", tags))
+                .toList();
+        view = page.getFirst();
+
+        Set<TagEntity> tagEntities = new HashSet<>();
+        tags.forEach(tag -> tagEntities.add(TagEntity.builder().id(tag.id()).name(tag.name()).color(tag.color()).build()));
+        entity = TaskEntity.builder()
+                .id(UUID.randomUUID())
+                .title("Benchmark task")
+                .description("Measured by JMH")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .assignee(UserEntity.builder().id(UUID.randomUUID()).build())
+                .category(CategoryEntity.builder().id(UUID.randomUUID()).build())
+                .team(TeamEntity.builder().id(UUID.randomUUID()).build())
+                .tags(tagEntities)
+                .build();
+        task = taskPersistenceMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public TaskResponse viewToResponse() {
+        return taskApiMapper.toResponse(view);
+    }
+
+    @Benchmark
+    public List<TaskResponse> pageToResponses() {
+        return taskApiMapper.toResponseList(page);
+    }
+
+    @Benchmark
+    public CreateTaskResponse taskToCreateResponse() {
+        return taskApiMapper.toCreateResponse(task);
+    }
+
+    @Benchmark
+    public Task entityToDomain() {
+        return taskPersistenceMapper.toDomain(entity);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskMappingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
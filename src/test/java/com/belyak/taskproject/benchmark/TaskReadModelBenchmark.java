@@ -0,0 +1,185 @@
+package com.belyak.taskproject.benchmark;
+
+import com.belyak.taskproject.application.mapper.TaskApiMapper;
+import com.belyak.taskproject.domain.model.TaskFilter;
+import com.belyak.taskproject.domain.model.TaskPriority;
+import com.belyak.taskproject.domain.model.TaskStatus;
+import com.belyak.taskproject.domain.port.repository.TaskRepository;
+import com.belyak.taskproject.infrastructure.persistence.entity.TaskEntity;
+import com.belyak.taskproject.infrastructure.persistence.projections.UserInfoProjection;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
+import com.belyak.taskproject.web.dto.response.CategoryResponse;
+import com.belyak.taskproject.web.dto.response.TagResponse;
+import com.belyak.taskproject.web.dto.response.TaskResponse;
+import com.belyak.taskproject.web.dto.response.UserResponse;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Task read path through interface projections versus the {@link TaskView} record read model.
+ * <p>
+ * The {@code projection*} benchmarks reproduce the former path: entities loaded with their graph, wrapped by
+ * Spring Data's projection factory and walked getter by getter into {@link TaskResponse}.
+ * {@code details*} include the database round trips, {@code map*} only turn 200 preloaded tasks into responses.
+ * <p>
+ * Needs Docker, or an existing database via {@code -Dbenchmark.jdbc-url=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskReadModelBenchmark {
+
+    private static final int TASK_COUNT = 200;
+    private static final int TAGS_PER_TASK = 5;
+
+    private BenchmarkDatabase database;
+    private TransactionTemplate readOnlyTx;
+    private EntityManager entityManager;
+    private TaskRepository taskRepository;
+    private TaskApiMapper taskApiMapper;
+    private SpelAwareProxyProjectionFactory projectionFactory;
+
+    private UUID taskId;
+    private List<TaskDetailsProjection> projections;
+    private List<TaskView> views;
+
+    @Setup
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        UUID teamId = database.seedTeam(TAGS_PER_TASK);
+        database.seedTasks(teamId, TaskStatus.TODO.name(), TASK_COUNT);
+
+        readOnlyTx = new TransactionTemplate(database.bean(PlatformTransactionManager.class));
+        readOnlyTx.setReadOnly(true);
+        entityManager = database.bean(EntityManager.class);
+        taskRepository = database.bean(TaskRepository.class);
+        taskApiMapper = database.bean(TaskApiMapper.class);
+        projectionFactory = new SpelAwareProxyProjectionFactory();
+
+        views = readOnlyTx.execute(status ->
+                taskRepository.findPage(teamId, TaskFilter.byStatus(TaskStatus.TODO), null, TASK_COUNT));
+        taskId = views.getFirst().id();
+        projections = readOnlyTx.execute(status -> entityManager.createQuery(
+                        "SELECT DISTINCT t FROM TaskEntity t " +
+                        "LEFT JOIN FETCH t.category " +
+                        "LEFT JOIN FETCH t.assignee " +
+                        "LEFT JOIN FETCH t.tags " +
+                        "WHERE t.team.id = :teamId", TaskEntity.class)
+                .setParameter("teamId", teamId)
+                .getResultStream()
+                .map(entity -> projectionFactory.createProjection(TaskDetailsProjection.class, entity))
+                .toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public TaskResponse projectionDetails() {
+        return readOnlyTx.execute(status -> {
+            TaskEntity entity = entityManager.createQuery(
+                            "SELECT t FROM TaskEntity t " +
+                            "LEFT JOIN FETCH t.category " +
+                            "LEFT JOIN FETCH t.assignee " +
+                            "LEFT JOIN FETCH t.tags " +
+                            "LEFT JOIN FETCH t.team " +
+                            "WHERE t.id = :id", TaskEntity.class)
+                    .setParameter("id", taskId)
+                    .getSingleResult();
+
+            TaskResponse response = toResponse(projectionFactory.createProjection(TaskDetailsProjection.class, entity));
+            entityManager.clear();
+            return response;
+        });
+    }
+
+    @Benchmark
+    public TaskResponse recordDetails() {
+        return readOnlyTx.execute(status -> taskApiMapper.toResponse(taskRepository.findDetailsById(taskId).orElseThrow()));
+    }
+
+    @Benchmark
+    public List<TaskResponse> projectionMap() {
+        return projections.stream().map(TaskReadModelBenchmark::toResponse).toList();
+    }
+
+    @Benchmark
+    public List<TaskResponse> recordMap() {
+        return taskApiMapper.toResponseList(views);
+    }
+
+    /**
+     * What MapStruct generated for the former {@code toResponse(TaskInfoProjection)}.
+     */
+    private static TaskResponse toResponse(TaskDetailsProjection projection) {
+        CategoryProjection category = projection.getCategory();
+        UserInfoProjection assignee = projection.getAssignee();
+
+        return TaskResponse.builder()
+                .id(projection.getId())
+                .title(projection.getTitle())
+                .description(projection.getDescription())
+                .status(projection.getStatus())
+                .priority(projection.getPriority())
+                .createdAt(projection.getCreatedAt())
+                .updatedAt(projection.getUpdatedAt())
+                .dueDate(projection.getDueDate())
+                .category(category == null ? null : new CategoryResponse(category.getId(), category.getName()))
+                .tags(projection.getTags().stream()
+                        .map(tag -> new TagResponse(tag.getId(), tag.getName(), tag.getColor()))
+                        .collect(Collectors.toSet()))
+                .assignee(assignee == null
+                        ? null
+                        : new UserResponse(assignee.getId(), assignee.getName(), assignee.getEmail()))
+                .build();
+    }
+
+    public interface TaskDetailsProjection {
+        UUID getId();
+        String getTitle();
+        String getDescription();
+        TaskStatus getStatus();
+        TaskPriority getPriority();
+        Instant getCreatedAt();
+        Instant getUpdatedAt();
+        Instant getDueDate();
+        CategoryProjection getCategory();
+        Set<TagProjection> getTags();
+        UserInfoProjection getAssignee();
+    }
+
+    public interface CategoryProjection {
+        UUID getId();
+        String getName();
+    }
+
+    public interface TagProjection {
+        UUID getId();
+        String getName();
+        String getColor();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskReadModelBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
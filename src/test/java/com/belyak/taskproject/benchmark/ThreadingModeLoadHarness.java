@@ -0,0 +1,196 @@
+package com.belyak.taskproject.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.WebApplicationType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Throughput and latency of the task endpoints with requests served on platform threads versus virtual threads.
+ * <p>
+ * Each mode starts the application on a random port with a small Hikari pool, so that database connections are
+ * the bottleneck, and seeds one team with {@code TASK_COUNT} tasks. {@code load.clients} concurrent clients then
+ * loop for {@code load.duration} over a mix of 70% board pages, 20% task details and 10% status changes.
+ * Prints requests per second, p50 and p99 per endpoint, and the responses that were not 2xx/304.
+ * <p>
+ * Not a JMH benchmark: the server and the clients share the machine, so compare the modes with each other only.
+ * Tuned with {@code -Dload.clients} (default 400), {@code -Dload.duration} (ISO-8601, default PT30S) and
+ * {@code -Dload.pool-size} (default 10). Needs Docker, or an existing database via {@code -Dbenchmark.jdbc-url=...}.
+ */
+public class ThreadingModeLoadHarness {
+
+    private static final int TASK_COUNT = 2_000;
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private final int clients = Integer.getInteger("load.clients", 400);
+    private final Duration duration = Duration.parse(System.getProperty("load.duration", "PT30S"));
+    private final int poolSize = Integer.getInteger("load.pool-size", 10);
+
+    public static void main(String[] args) throws Exception {
+        ThreadingModeLoadHarness harness = new ThreadingModeLoadHarness();
+        List<String> report = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            report.addAll(harness.run(virtualThreads));
+        }
+
+        System.out.printf("%n%-9s %-8s %10s %10s %10s %10s%n", "mode", "endpoint", "req/s", "p50 ms", "p99 ms", "failed");
+        report.forEach(System.out::println);
+        System.exit(0);
+    }
+
+    private List<String> run(boolean virtualThreads) throws Exception {
+        try (BenchmarkDatabase database = new BenchmarkDatabase(Map.of(
+                "spring.threads.virtual.enabled", virtualThreads,
+                "spring.datasource.hikari.maximum-pool-size", poolSize,
+                "application.connection-limiter.max-waiting", clients), WebApplicationType.SERVLET)) {
+
+            Target target = seed(database);
+
+            drive(target, WARMUP, new Stats());
+            Stats stats = new Stats();
+            drive(target, duration, stats);
+
+            String mode = virtualThreads ? "virtual" : "platform";
+            return stats.lines(mode, duration);
+        }
+    }
+
+    private Target seed(BenchmarkDatabase database) throws IOException, InterruptedException {
+        String baseUrl = "http://localhost:" + database.port();
+        String token = post(baseUrl + "/api/v1/auth/register", null, Map.of(
+                "name", "Load", "email", "load-" + UUID.randomUUID() + "@example.com", "password", "secret123"))
+                .get("token").asText();
+        String teamId = post(baseUrl + "/api/v1/teams", token, Map.of("name", "Load", "password", "pass1234"))
+                .get("id").asText();
+        post(baseUrl + "/api/v1/teams/" + teamId + "/categories", token, Map.of("name", "Backend"));
+
+        database.seedTasks(UUID.fromString(teamId), "TODO", TASK_COUNT);
+        List<UUID> taskIds = database.jdbc().queryForList(
+                "SELECT id FROM tasks WHERE team_id = ?", UUID.class, UUID.fromString(teamId));
+
+        return new Target(baseUrl + "/api/v1/teams/" + teamId + "/tasks", token, taskIds);
+    }
+
+    private void drive(Target target, Duration runFor, Stats stats) throws InterruptedException {
+        long deadline = System.nanoTime() + runFor.toNanos();
+        List<Thread> threads = new ArrayList<>(clients);
+
+        for (int i = 0; i < clients; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                while (System.nanoTime() < deadline) {
+                    call(target, stats);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private void call(Target target, Stats stats) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID taskId = target.taskIds().get(random.nextInt(target.taskIds().size()));
+        int roll = random.nextInt(100);
+
+        String endpoint;
+        HttpRequest.Builder request;
+        if (roll < 70) {
+            endpoint = "board";
+            request = HttpRequest.newBuilder(URI.create(target.tasksUrl() + "?status=TODO&limit=50")).GET();
+        } else if (roll < 90) {
+            endpoint = "details";
+            request = HttpRequest.newBuilder(URI.create(target.tasksUrl() + "/" + taskId)).GET();
+        } else {
+            endpoint = "status";
+            String status = random.nextBoolean() ? "TODO" : "IN_PROGRESS";
+            request = HttpRequest.newBuilder(URI.create(target.tasksUrl() + "/" + taskId + "/status"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"status\":\"" + status + "\"}"));
+        }
+
+        long start = System.nanoTime();
+        int statusCode;
+        try {
+            statusCode = http.send(request.header("Authorization", "Bearer " + target.token())
+                            .timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.discarding())
+                    .statusCode();
+        } catch (IOException e) {
+            statusCode = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        stats.record(endpoint, System.nanoTime() - start, statusCode < 400 && statusCode > 0);
+    }
+
+    private JsonNode post(String url, String token, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("POST " + url + " -> " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private record Target(String tasksUrl, String token, List<UUID> taskIds) {
+    }
+
+    private static final class Stats {
+
+        private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+        void record(String endpoint, long nanos, boolean ok) {
+            if (ok) {
+                latencies.computeIfAbsent(endpoint, key -> new ConcurrentLinkedQueue<>()).add(nanos);
+            } else {
+                failures.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+            }
+        }
+
+        List<String> lines(String mode, Duration duration) {
+            return Stream.concat(latencies.keySet().stream(), failures.keySet().stream()).distinct().sorted().map(endpoint -> {
+                long[] sorted = latencies.getOrDefault(endpoint, new ConcurrentLinkedQueue<>()).stream()
+                        .mapToLong(Long::longValue)
+                        .toArray();
+                Arrays.sort(sorted);
+                return "%-9s %-8s %10.0f %10.2f %10.2f %10d".formatted(mode, endpoint,
+                        sorted.length / (double) duration.toSeconds(),
+                        percentile(sorted, 0.50), percentile(sorted, 0.99),
+                        failures.getOrDefault(endpoint, new LongAdder()).sum());
+            }).toList();
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
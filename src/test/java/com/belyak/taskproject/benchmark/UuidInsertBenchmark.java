@@ -0,0 +1,128 @@
+package com.belyak.taskproject.benchmark;
+
+import com.belyak.taskproject.common.util.UuidV7;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput with random (v4) versus time-ordered (v7) primary keys.
+ * <p>
+ * Each trial works on fresh copies of {@code tasks} and {@code task_tags} with the same indexes,
+ * preloaded with {@code preloadRows} tasks. One operation inserts 1000 tasks with 3 tag links each in JDBC batches.
+ * Primary-key index sizes are printed at the end of the trial: random keys split pages all over the B-tree,
+ * ordered keys only ever append to the rightmost leaf.
+ * <p>
+ * Needs Docker, or an existing database via {@code -Dbenchmark.jdbc-url=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int ROWS_PER_OP = 1_000;
+    private static final int TAGS_PER_TASK = 3;
+
+    @Param({"RANDOM_V4", "TIME_V7"})
+    private IdKind idKind;
+
+    @Param({"500000"})
+    private int preloadRows;
+
+    private BenchmarkDatabase database;
+    private JdbcTemplate jdbc;
+    private UUID teamId;
+    private UUID ownerId;
+    private UUID categoryId;
+    private List<UUID> tagIds;
+
+    public enum IdKind {
+        RANDOM_V4(UUID::randomUUID),
+        TIME_V7(UuidV7::next);
+
+        private final Supplier<UUID> generator;
+
+        IdKind(Supplier<UUID> generator) {
+            this.generator = generator;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        jdbc = database.jdbc();
+        teamId = database.seedTeam(TAGS_PER_TASK);
+        ownerId = jdbc.queryForObject("SELECT owner_id FROM teams WHERE id = ?", UUID.class, teamId);
+        categoryId = jdbc.queryForObject("SELECT id FROM categories WHERE team_id = ?", UUID.class, teamId);
+        tagIds = jdbc.queryForList("SELECT id FROM tags WHERE team_id = ?", UUID.class, teamId);
+
+        jdbc.execute("DROP TABLE IF EXISTS bench_task_tags, bench_tasks");
+        jdbc.execute("CREATE TABLE bench_tasks (LIKE tasks INCLUDING ALL)");
+        jdbc.execute("CREATE TABLE bench_task_tags (LIKE task_tags INCLUDING ALL)");
+
+        for (int loaded = 0; loaded < preloadRows; loaded += ROWS_PER_OP) {
+            insertBatch();
+        }
+        jdbc.execute("VACUUM ANALYZE bench_tasks");
+        jdbc.execute("VACUUM ANALYZE bench_task_tags");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        long rows = jdbc.queryForObject("SELECT count(*) FROM bench_tasks", Long.class);
+        jdbc.queryForList("SELECT c.relname AS index_name, pg_relation_size(c.oid) AS bytes " +
+                          "FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid " +
+                          "WHERE i.indrelid IN ('bench_tasks'::regclass, 'bench_task_tags'::regclass) " +
+                          "ORDER BY c.relname")
+                .forEach(index -> System.out.printf("%n%s %-45s %,d rows, %,d bytes, %.1f bytes/row",
+                        idKind, index.get("index_name"), rows, (Long) index.get("bytes"),
+                        (Long) index.get("bytes") / (double) rows));
+        System.out.println();
+
+        jdbc.execute("DROP TABLE bench_task_tags, bench_tasks");
+        database.close();
+    }
+
+    @Benchmark
+    public int insertThousandTasks() {
+        return insertBatch();
+    }
+
+    private int insertBatch() {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> tasks = new ArrayList<>(ROWS_PER_OP);
+        List<Object[]> links = new ArrayList<>(ROWS_PER_OP * TAGS_PER_TASK);
+
+        for (int i = 0; i < ROWS_PER_OP; i++) {
+            UUID taskId = idKind.generator.get();
+            tasks.add(new Object[]{taskId, "Imported task", "Imported", ownerId, categoryId, teamId, now, now});
+            for (UUID tagId : tagIds) {
+                links.add(new Object[]{taskId, tagId});
+            }
+        }
+
+        jdbc.batchUpdate("INSERT INTO bench_tasks (id, title, description, status, priority, assignee_id, category_id, " +
+                         "team_id, created_at, updated_at) VALUES (?, ?, ?, 'TODO', 'MEDIUM', ?, ?, ?, ?, ?)", tasks);
+        jdbc.batchUpdate("INSERT INTO bench_task_tags (task_id, tag_id) VALUES (?, ?)", links);
+        return tasks.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UuidInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,132 @@
+package com.belyak.taskproject.benchmark.load;
+
+import com.belyak.taskproject.common.util.UuidV7;
+import com.belyak.taskproject.domain.model.TaskPriority;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk-loads a {@link LoadShape} straight into the tables, bypassing the API.
+ * <p>
+ * Users, teams, memberships, categories and tags are batch inserted from Java; tasks and their tag links are
+ * generated per team with {@code generate_series}, then counted into the category and tag task counts.
+ * Statuses, priorities, assignees and due dates rotate with the row number, so the same shape always gives
+ * the same distribution. Every user has the password {@link #PASSWORD}; emails and join codes carry a per-run
+ * prefix, so runs can share a database.
+ */
+final class LoadDataSeeder {
+
+    static final String PASSWORD = "secret123";
+
+    private static final String TASK_STATUSES = "{TODO,IN_PROGRESS,DONE}";
+    private static final String TASK_PRIORITIES = Arrays.stream(TaskPriority.values())
+            .map(Enum::name)
+            .collect(Collectors.joining(",", "{", "}"));
+
+    private final JdbcTemplate jdbc;
+    private final String encodedPassword;
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+
+    LoadDataSeeder(JdbcTemplate jdbc, String encodedPassword) {
+        this.jdbc = jdbc;
+        this.encodedPassword = encodedPassword;
+    }
+
+    List<TeamFixture> seed(LoadShape shape) {
+        List<TeamFixture> teams = new ArrayList<>(shape.teams());
+        for (int team = 0; team < shape.teams(); team++) {
+            teams.add(new TeamFixture(UuidV7.next(), UuidV7.next(), ids(shape.tagsPerTask()),
+                    members(team, shape.membersPerTeam()), List.of()));
+        }
+
+        jdbc.batchUpdate("INSERT INTO users (id, email, name, password, role, created_at, updated_at) " +
+                         "VALUES (?, ?, ?, ?, 'USER', now(), now())",
+                teams.stream().flatMap(team -> team.members().stream())
+                        .map(member -> new Object[]{member.id(), member.email(), "Load user", encodedPassword})
+                        .toList());
+        jdbc.batchUpdate("INSERT INTO teams (id, name, join_code, password, status, owner_id, created_at, updated_at) " +
+                         "VALUES (?, ?, ?, ?, 'ACTIVE', ?, now(), now())",
+                IntStream.range(0, teams.size())
+                        .mapToObj(i -> new Object[]{teams.get(i).id(), "Load team " + i, runId + "-" + i,
+                                encodedPassword, teams.get(i).members().getFirst().id()})
+                        .toList());
+        jdbc.batchUpdate("INSERT INTO team_members (team_id, user_id) VALUES (?, ?)",
+                teams.stream().flatMap(team -> team.members().stream()
+                                .map(member -> new Object[]{team.id(), member.id()}))
+                        .toList());
+        jdbc.batchUpdate("INSERT INTO categories (id, name, is_system, team_id, created_at, updated_at) " +
+                         "VALUES (?, 'Backend', false, ?, now(), now())",
+                teams.stream().map(team -> new Object[]{team.categoryId(), team.id()}).toList());
+        jdbc.batchUpdate("INSERT INTO tags (id, name, color, team_id, created_at, updated_at) " +
+                         "VALUES (?, ?, '#336699', ?, now(), now())",
+                teams.stream().flatMap(team -> IntStream.range(0, team.tagIds().size())
+                                .mapToObj(i -> new Object[]{team.tagIds().get(i), "tag-" + i, team.id()}))
+                        .toList());
+
+        List<TeamFixture> seeded = new ArrayList<>(teams.size());
+        for (TeamFixture team : teams) {
+            seedTasks(team, shape.tasksPerTeam());
+            seeded.add(team.withTaskIds(jdbc.queryForList("SELECT id FROM tasks WHERE team_id = ?", UUID.class, team.id())));
+        }
+        jdbc.execute("ANALYZE");
+        return seeded;
+    }
+
+    private void seedTasks(TeamFixture team, int taskCount) {
+        jdbc.update("INSERT INTO tasks (id, title, description, status, priority, assignee_id, category_id, team_id, " +
+                    "                   due_date, created_at, updated_at) " +
+                    "SELECT gen_random_uuid(), 'Load task ' || n, 'Seeded for load testing, task ' || n, " +
+                    "       (?::text[])[1 + n % 3], (?::text[])[1 + n % ?], m.user_id, ?, ?, " +
+                    "       CASE WHEN n % 4 = 0 THEN NULL ELSE now() + (n % 30 - 10) * interval '1 day' END, " +
+                    "       now() - n * interval '1 minute', now() " +
+                    "FROM generate_series(1, ?) n " +
+                    "JOIN (SELECT user_id, row_number() OVER (ORDER BY user_id) - 1 AS idx " +
+                    "      FROM team_members WHERE team_id = ?) m ON m.idx = n % ?",
+                TASK_STATUSES, TASK_PRIORITIES, TaskPriority.values().length, team.categoryId(), team.id(),
+                taskCount, team.id(), team.members().size());
+        jdbc.update("INSERT INTO task_tags (task_id, tag_id) " +
+                    "SELECT task.id, tag.id FROM tasks task JOIN tags tag ON tag.team_id = task.team_id " +
+                    "WHERE task.team_id = ?", team.id());
+        jdbc.update("INSERT INTO category_task_counts (category_id, status, task_count) " +
+                    "SELECT category_id, status, count(*) FROM tasks WHERE team_id = ? GROUP BY category_id, status",
+                team.id());
+        jdbc.update("INSERT INTO tag_task_counts (tag_id, status, task_count) " +
+                    "SELECT tt.tag_id, t.status, count(*) FROM task_tags tt JOIN tasks t ON t.id = tt.task_id " +
+                    "WHERE t.team_id = ? GROUP BY tt.tag_id, t.status", team.id());
+    }
+
+    private List<Member> members(int team, int count) {
+        List<Member> members = new ArrayList<>(count);
+        for (int member = 0; member < count; member++) {
+            members.add(new Member(UuidV7.next(), "load-%s-%d-%d@example.com".formatted(runId, team, member)));
+        }
+        return members;
+    }
+
+    private static List<UUID> ids(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UuidV7.next());
+        }
+        return ids;
+    }
+
+    /**
+     * A seeded team; the first member is its owner.
+     */
+    record TeamFixture(UUID id, UUID categoryId, List<UUID> tagIds, List<Member> members, List<UUID> taskIds) {
+
+        TeamFixture withTaskIds(List<UUID> taskIds) {
+            return new TeamFixture(id, categoryId, tagIds, members, taskIds);
+        }
+    }
+
+    record Member(UUID id, String email) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.belyak.taskproject.benchmark.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome of a {@link LoadTestSuite} run, written as {@code report.json} and a self-contained {@code report.html}.
+ *
+ * @param statementsPerRequest SQL statements over all successful and failed requests of the measured run
+ */
+record LoadReport(String startedAt,
+                  LoadShape shape,
+                  double seedSeconds,
+                  long requests,
+                  double throughput,
+                  double statementsPerRequest,
+                  List<EndpointResult> endpoints) {
+
+    /**
+     * @param queriesPerRequest SQL statements of one request, measured with a single client after the warmup
+     */
+    record EndpointResult(String endpoint,
+                          long requests,
+                          long failed,
+                          double throughput,
+                          double p50Millis,
+                          double p99Millis,
+                          double maxMillis,
+                          double queriesPerRequest) {
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .writerWithDefaultPrettyPrinter()
+                .writeValue(directory.resolve("report.json").toFile(), this);
+        Files.writeString(directory.resolve("report.html"), html());
+    }
+
+    private String html() {
+        String rows = endpoints.stream()
+                .map(endpoint -> "<tr><td>%s</td><td>%d</td><td>%d</td><td>%.1f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%.1f</td></tr>"
+                        .formatted(endpoint.endpoint(), endpoint.requests(), endpoint.failed(), endpoint.throughput(),
+                                endpoint.p50Millis(), endpoint.p99Millis(), endpoint.maxMillis(),
+                                endpoint.queriesPerRequest()))
+                .collect(Collectors.joining("\n"));
+
+        return """
+                <!DOCTYPE html>
+                <html>
+                <head>
+                <meta charset="utf-8">
+                <title>Load test %s</title>
+                <style>
+                body { font-family: sans-serif; margin: 2em; }
+                table { border-collapse: collapse; }
+                th, td { border: 1px solid #ccc; padding: 4px 10px; text-align: right; }
+                th:first-child, td:first-child { text-align: left; }
+                </style>
+                </head>
+                <body>
+                <h1>Load test %s</h1>
+                <p>%d teams &times; %d members, %d tasks per team with %d tags each, seeded in %.1f s.</p>
+                <p>%d clients for %s after a %s warmup, %s threads, pool of %d connections.</p>
+                <p>%d requests, %.1f req/s, %.1f SQL statements per request.</p>
+                <table>
+                <tr><th>endpoint</th><th>requests</th><th>failed</th><th>req/s</th><th>p50 ms</th><th>p99 ms</th><th>max ms</th><th>queries/request</th></tr>
+                %s
+                </table>
+                </body>
+                </html>
+                """.formatted(startedAt, startedAt,
+                shape.teams(), shape.membersPerTeam(), shape.tasksPerTeam(), shape.tagsPerTask(), seedSeconds,
+                shape.clients(), shape.duration(), shape.warmup(), shape.virtualThreads() ? "virtual" : "platform",
+                shape.poolSize(), requests, throughput, statementsPerRequest, rows);
+    }
+}
@@ -0,0 +1,48 @@
+package com.belyak.taskproject.benchmark.load;
+
+import java.time.Duration;
+
+/**
+ * Data shape and load of a {@link LoadTestSuite} run, read from {@code load.*} system properties.
+ *
+ * @param teams          teams to seed ({@code load.teams}, default 20)
+ * @param membersPerTeam members of each team, the owner included ({@code load.members-per-team}, default 10)
+ * @param tasksPerTeam   tasks of each team ({@code load.tasks-per-team}, default 5000)
+ * @param tagsPerTask    tags of each team, all attached to every task ({@code load.tags-per-task}, default 3)
+ * @param clients        concurrent clients ({@code load.clients}, default 200)
+ * @param warmup         unmeasured warmup ({@code load.warmup}, ISO-8601, default PT15S)
+ * @param duration       measured run ({@code load.duration}, ISO-8601, default PT60S)
+ * @param poolSize       Hikari pool size ({@code load.pool-size}, default 10)
+ * @param virtualThreads serve requests on virtual threads ({@code load.virtual-threads}, default false)
+ */
+public record LoadShape(int teams,
+                        int membersPerTeam,
+                        int tasksPerTeam,
+                        int tagsPerTask,
+                        int clients,
+                        Duration warmup,
+                        Duration duration,
+                        int poolSize,
+                        boolean virtualThreads) {
+
+    public LoadShape {
+        if (teams < 1 || membersPerTeam < 1 || tasksPerTeam < 1 || tagsPerTask < 0 || clients < 1) {
+            throw new IllegalArgumentException("Invalid load shape: " + teams + " teams, " + membersPerTeam
+                                               + " members, " + tasksPerTeam + " tasks, " + tagsPerTask
+                                               + " tags, " + clients + " clients");
+        }
+    }
+
+    public static LoadShape fromSystemProperties() {
+        return new LoadShape(
+                Integer.getInteger("load.teams", 20),
+                Integer.getInteger("load.members-per-team", 10),
+                Integer.getInteger("load.tasks-per-team", 5_000),
+                Integer.getInteger("load.tags-per-task", 3),
+                Integer.getInteger("load.clients", 200),
+                Duration.parse(System.getProperty("load.warmup", "PT15S")),
+                Duration.parse(System.getProperty("load.duration", "PT60S")),
+                Integer.getInteger("load.pool-size", 10),
+                Boolean.getBoolean("load.virtual-threads"));
+    }
+}
@@ -0,0 +1,271 @@
+package com.belyak.taskproject.benchmark.load;
+
+import com.belyak.taskproject.benchmark.BenchmarkDatabase;
+import com.belyak.taskproject.benchmark.load.LoadDataSeeder.Member;
+import com.belyak.taskproject.benchmark.load.LoadDataSeeder.TeamFixture;
+import com.belyak.taskproject.domain.model.Role;
+import com.belyak.taskproject.domain.model.User;
+import com.belyak.taskproject.infrastructure.security.jwt.JwtService;
+import com.belyak.taskproject.infrastructure.security.jwt.TaskUserDetails;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * End-to-end load test of the REST API against PostgreSQL with a seeded {@link LoadShape}.
+ * <p>
+ * Starts the application on a random port, bulk-loads the teams with {@link LoadDataSeeder} and hands every
+ * member a token. {@code clients} concurrent clients, each call made as a random member of a random team,
+ * then loop over the {@link Endpoint} mix: first for the warmup, then for the measured run.
+ * <p>
+ * Throughput and p50/p99/max latency come from the measured run. SQL statements per request are taken from
+ * Hibernate statistics: per endpoint in a single-client pass of {@code CALIBRATION_CALLS} calls between warmup
+ * and measurement, since concurrent requests cannot be told apart, and over all requests of the measured run.
+ * The report is written to {@code load.report-dir} (default {@code target/load-test}) as JSON and HTML.
+ * <p>
+ * Not a JMH benchmark: the server and the clients share the machine, so compare runs on the same machine only.
+ * Needs Docker, or an existing database via {@code -Dbenchmark.jdbc-url=...}.
+ */
+public class LoadTestSuite {
+
+    private static final int CALIBRATION_CALLS = 20;
+    private static final String[] BOARD_STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private final LoadShape shape;
+    private String baseUrl;
+    private List<Client> clients;
+
+    /**
+     * Share of each endpoint in the mix, in percent.
+     */
+    enum Endpoint {
+        LOGIN(5), LIST(55), CREATE(10), STATUS(15), ASSIGN(15);
+
+        private final int weight;
+
+        Endpoint(int weight) {
+            this.weight = weight;
+        }
+
+        static Endpoint pick(int roll) {
+            for (Endpoint endpoint : values()) {
+                roll -= endpoint.weight;
+                if (roll < 0) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalArgumentException("Roll out of range");
+        }
+    }
+
+    private record Client(TeamFixture team, Member member, String token) {
+    }
+
+    LoadTestSuite(LoadShape shape) {
+        this.shape = shape;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadShape shape = LoadShape.fromSystemProperties();
+        Path reportDirectory = Path.of(System.getProperty("load.report-dir", "target/load-test"));
+
+        LoadReport report = new LoadTestSuite(shape).run();
+        report.write(reportDirectory);
+
+        System.out.printf("%n%-8s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "failed", "req/s", "p50 ms", "p99 ms", "max ms", "queries");
+        report.endpoints().forEach(endpoint -> System.out.printf("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.1f%n",
+                endpoint.endpoint(), endpoint.requests(), endpoint.failed(), endpoint.throughput(),
+                endpoint.p50Millis(), endpoint.p99Millis(), endpoint.maxMillis(), endpoint.queriesPerRequest()));
+        System.out.printf("%nReport written to %s%n", reportDirectory.toAbsolutePath());
+        System.exit(0);
+    }
+
+    LoadReport run() throws Exception {
+        String startedAt = Instant.now().toString();
+        try (BenchmarkDatabase database = new BenchmarkDatabase(Map.of(
+                "spring.threads.virtual.enabled", shape.virtualThreads(),
+                "spring.datasource.hikari.maximum-pool-size", shape.poolSize(),
+                "application.connection-limiter.max-waiting", shape.clients(),
+                "spring.jpa.properties.hibernate.generate_statistics", true), WebApplicationType.SERVLET)) {
+
+            baseUrl = "http://localhost:" + database.port() + "/api/v1";
+            long seedStart = System.nanoTime();
+            String encodedPassword = database.bean(PasswordEncoder.class).encode(LoadDataSeeder.PASSWORD);
+            List<TeamFixture> teams = new LoadDataSeeder(database.jdbc(), encodedPassword).seed(shape);
+            double seedSeconds = (System.nanoTime() - seedStart) / 1e9;
+
+            JwtService jwtService = database.bean(JwtService.class);
+            clients = teams.stream()
+                    .flatMap(team -> team.members().stream().map(member -> new Client(team, member,
+                            jwtService.generateToken(new TaskUserDetails(
+                                    User.restore(member.id(), "Load user", member.email(), encodedPassword, Role.USER))))))
+                    .toList();
+
+            drive(shape.warmup(), new Recorder());
+
+            Statistics statistics = database.bean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+            Map<Endpoint, Double> queriesPerRequest = calibrate(statistics);
+
+            Recorder recorder = new Recorder();
+            long statementsBefore = statistics.getPrepareStatementCount();
+            drive(shape.duration(), recorder);
+            long statements = statistics.getPrepareStatementCount() - statementsBefore;
+
+            return recorder.report(startedAt, shape, seedSeconds, statements, queriesPerRequest);
+        }
+    }
+
+    private Map<Endpoint, Double> calibrate(Statistics statistics) {
+        Map<Endpoint, Double> queriesPerRequest = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            long before = statistics.getPrepareStatementCount();
+            for (int i = 0; i < CALIBRATION_CALLS; i++) {
+                call(endpoint, new Recorder());
+            }
+            queriesPerRequest.put(endpoint, (statistics.getPrepareStatementCount() - before) / (double) CALIBRATION_CALLS);
+        }
+        return queriesPerRequest;
+    }
+
+    private void drive(Duration runFor, Recorder recorder) throws InterruptedException {
+        long deadline = System.nanoTime() + runFor.toNanos();
+        List<Thread> threads = new ArrayList<>(shape.clients());
+
+        for (int i = 0; i < shape.clients(); i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                while (System.nanoTime() < deadline) {
+                    call(Endpoint.pick(ThreadLocalRandom.current().nextInt(100)), recorder);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        recorder.stop();
+    }
+
+    private void call(Endpoint endpoint, Recorder recorder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Client client = clients.get(random.nextInt(clients.size()));
+        TeamFixture team = client.team();
+        String tasksUrl = baseUrl + "/teams/" + team.id() + "/tasks";
+        String taskUrl = tasksUrl + "/" + team.taskIds().get(random.nextInt(team.taskIds().size()));
+
+        HttpRequest.Builder request = switch (endpoint) {
+            case LOGIN -> json(baseUrl + "/auth/login", "POST",
+                    Map.of("email", client.member().email(), "password", LoadDataSeeder.PASSWORD));
+            case LIST -> HttpRequest.newBuilder(URI.create(
+                    tasksUrl + "?status=" + BOARD_STATUSES[random.nextInt(BOARD_STATUSES.length)] + "&limit=50")).GET();
+            case CREATE -> json(tasksUrl, "POST", Map.of(
+                    "title", "Load task", "description", "Created under load", "status", "TODO",
+                    "priority", "MEDIUM", "categoryId", team.categoryId(), "tagIds", team.tagIds()));
+            case STATUS -> json(taskUrl + "/status", "PATCH",
+                    Map.of("status", BOARD_STATUSES[random.nextInt(BOARD_STATUSES.length)]));
+            case ASSIGN -> json(taskUrl + "/assign", "PATCH",
+                    Map.of("assigneeId", team.members().get(random.nextInt(team.members().size())).id()));
+        };
+        if (endpoint != Endpoint.LOGIN) {
+            request.header("Authorization", "Bearer " + client.token());
+        }
+
+        long start = System.nanoTime();
+        int statusCode;
+        try {
+            statusCode = http.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.discarding())
+                    .statusCode();
+        } catch (IOException e) {
+            statusCode = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        recorder.record(endpoint, System.nanoTime() - start, statusCode > 0 && statusCode < 400);
+    }
+
+    private HttpRequest.Builder json(String url, String method, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(url))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Latencies of successful calls in microseconds, and failure counts, per endpoint.
+     */
+    private static final class Recorder {
+
+        private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, LongAdder> failures = new EnumMap<>(Endpoint.class);
+        private final long startNanos = System.nanoTime();
+        private long stopNanos;
+
+        Recorder() {
+            for (Endpoint endpoint : Endpoint.values()) {
+                latencies.put(endpoint, new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3));
+                failures.put(endpoint, new LongAdder());
+            }
+        }
+
+        void record(Endpoint endpoint, long nanos, boolean ok) {
+            if (ok) {
+                latencies.get(endpoint).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), TimeUnit.MINUTES.toMicros(1)));
+            } else {
+                failures.get(endpoint).increment();
+            }
+        }
+
+        void stop() {
+            stopNanos = System.nanoTime();
+        }
+
+        LoadReport report(String startedAt, LoadShape shape, double seedSeconds, long statements,
+                          Map<Endpoint, Double> queriesPerRequest) {
+            double seconds = (stopNanos - startNanos) / 1e9;
+            List<LoadReport.EndpointResult> endpoints = new ArrayList<>();
+            long total = 0;
+            for (Endpoint endpoint : Endpoint.values()) {
+                Histogram histogram = latencies.get(endpoint);
+                long failed = failures.get(endpoint).sum();
+                long requests = histogram.getTotalCount() + failed;
+                total += requests;
+                endpoints.add(new LoadReport.EndpointResult(endpoint.name().toLowerCase(), requests, failed,
+                        requests / seconds,
+                        histogram.getValueAtPercentile(50) / 1000.0,
+                        histogram.getValueAtPercentile(99) / 1000.0,
+                        histogram.getMaxValue() / 1000.0,
+                        queriesPerRequest.get(endpoint)));
+            }
+            return new LoadReport(startedAt, shape, seedSeconds, total, total / seconds,
+                    total == 0 ? 0 : statements / (double) total, endpoints);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.belyak.taskproject.common.util;
+
+import com.belyak.taskproject.domain.exception.InvalidCursorException;
+import com.belyak.taskproject.domain.model.TaskCursor;
+import com.belyak.taskproject.domain.model.TaskSearchCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    @DisplayName("Should decode what it encoded, keeping nanosecond precision")
+    void shouldRoundTrip() {
+        TaskCursor cursor = new TaskCursor(Instant.parse("2025-03-01T12:30:45.123456789Z"), UUID.randomUUID());
+
+        String token = CursorCodec.encode(cursor);
+
+        assertThat(token).matches("^[A-Za-z0-9_-]+$");
+        assertThat(CursorCodec.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Should map null and blank to the first page")
+    void shouldTreatMissingAsFirstPage() {
+        assertThat(CursorCodec.encode(null)).isNull();
+        assertThat(CursorCodec.decode(null)).isNull();
+        assertThat(CursorCodec.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed tokens")
+    void shouldRejectMalformedTokens() {
+        assertThatThrownBy(() -> CursorCodec.decode("not a cursor!"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorCodec.decode("AAAA"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("Should round-trip search cursors with the exact float rank")
+    void shouldRoundTripSearchCursor() {
+        TaskSearchCursor cursor = new TaskSearchCursor(0.6079271f, UUID.randomUUID());
+
+        String token = CursorCodec.encodeSearch(cursor);
+
+        assertThat(token).matches("^[A-Za-z0-9_-]+$");
+        assertThat(CursorCodec.decodeSearch(token)).isEqualTo(cursor);
+        assertThat(CursorCodec.encodeSearch(null)).isNull();
+        assertThat(CursorCodec.decodeSearch("")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not accept a list cursor as a search cursor and vice versa")
+    void shouldRejectCursorOfOtherList() {
+        String listToken = CursorCodec.encode(new TaskCursor(Instant.now(), UUID.randomUUID()));
+        String searchToken = CursorCodec.encodeSearch(new TaskSearchCursor(0.1f, UUID.randomUUID()));
+
+        assertThatThrownBy(() -> CursorCodec.decodeSearch(listToken))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorCodec.decode(searchToken))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
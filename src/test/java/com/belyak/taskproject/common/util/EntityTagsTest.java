@@ -0,0 +1,52 @@
+package com.belyak.taskproject.common.util;
+
+import com.belyak.taskproject.domain.exception.VersionMismatchException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityTagsTest {
+
+    @Test
+    @DisplayName("Should read back the version it formatted")
+    void shouldRoundTrip() {
+        String tag = EntityTags.of(42);
+
+        assertThat(tag).isEqualTo("\"42\"");
+        assertThat(EntityTags.parseIfMatch(tag)).isEqualTo(42L);
+        assertThat(EntityTags.parseIfMatch(" " + tag + " ")).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Should tag a time-dependent version with the minute it holds for")
+    void shouldTagVersionPerMinute() {
+        Instant asOf = Instant.parse("2025-03-03T10:15:00Z");
+
+        assertThat(EntityTags.of(42, asOf)).isEqualTo("\"42-" + asOf.getEpochSecond() / 60 + "\"");
+        assertThat(EntityTags.of(42, asOf.plusSeconds(59))).isEqualTo(EntityTags.of(42, asOf));
+        assertThat(EntityTags.of(42, asOf.plusSeconds(60))).isNotEqualTo(EntityTags.of(42, asOf));
+    }
+
+    @Test
+    @DisplayName("Should make the write unconditional for a missing header or *")
+    void shouldTreatMissingAndAnyAsUnconditional() {
+        assertThat(EntityTags.parseIfMatch(null)).isNull();
+        assertThat(EntityTags.parseIfMatch(" ")).isNull();
+        assertThat(EntityTags.parseIfMatch("*")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fail the precondition for weak or foreign tags")
+    void shouldRejectTagsThatCannotMatch() {
+        assertThatThrownBy(() -> EntityTags.parseIfMatch("W/\"42\""))
+                .isInstanceOf(VersionMismatchException.class);
+        assertThatThrownBy(() -> EntityTags.parseIfMatch("\"abc\""))
+                .isInstanceOf(VersionMismatchException.class);
+        assertThatThrownBy(() -> EntityTags.parseIfMatch("42"))
+                .isInstanceOf(VersionMismatchException.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.belyak.taskproject.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7Test {
+
+    /** PostgreSQL compares uuid values byte by byte, i.e. as unsigned 128-bit numbers. */
+    private static final Comparator<UUID> POSTGRES_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    @Test
+    @DisplayName("Should set version 7, the RFC variant and the current time")
+    void shouldEncodeVersionVariantAndTime() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampMillis(uuid)).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should issue strictly increasing ids within the same millisecond")
+    void shouldBeMonotonic() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UuidV7.next());
+        }
+
+        assertThat(ids).isSortedAccordingTo(POSTGRES_ORDER).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should keep increasing when the clock goes backwards or the counter is exhausted")
+    void shouldSurviveClockSkewAndCounterOverflow() {
+        long frozen = System.currentTimeMillis() + 60_000;
+        UUID previous = UuidV7.next(() -> frozen);
+
+        // More ids than the 12-bit counter holds in one millisecond, then a clock jump backwards
+        for (int i = 0; i < 5_000; i++) {
+            UUID current = UuidV7.next(() -> frozen);
+            assertThat(POSTGRES_ORDER.compare(current, previous)).isPositive();
+            previous = current;
+        }
+        UUID afterSkew = UuidV7.next(() -> frozen - 1_000);
+
+        assertThat(POSTGRES_ORDER.compare(afterSkew, previous)).isPositive();
+        assertThat(UuidV7.timestampMillis(afterSkew)).isGreaterThan(frozen);
+    }
+
+    @Test
+    @DisplayName("Should refuse to read a timestamp from other UUID versions")
+    void shouldRejectOtherVersions() {
+        assertThatThrownBy(() -> UuidV7.timestampMillis(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.belyak.taskproject.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskCountDeltaTest {
+
+    private static final UUID TEAM_ID = UUID.randomUUID();
+    private static final UUID BACKEND = UUID.randomUUID();
+    private static final UUID FRONTEND = UUID.randomUUID();
+    private static final UUID BUG = UUID.randomUUID();
+    private static final UUID UI = UUID.randomUUID();
+
+    private static Task task(TaskStatus status, UUID categoryId, Set<UUID> tagIds) {
+        return Task.createNew(TEAM_ID, "Counted task", null, status, null, null, categoryId, null, tagIds);
+    }
+
+    private static TaskCountDelta.Key key(UUID id, TaskStatus status) {
+        return new TaskCountDelta.Key(id, status);
+    }
+
+    @Test
+    @DisplayName("Created tasks count once towards their category and each of their tags")
+    void countsAddedTasks() {
+        TaskCountDelta delta = TaskCountDelta.added(List.of(
+                task(TaskStatus.TODO, BACKEND, Set.of(BUG, UI)),
+                task(TaskStatus.TODO, BACKEND, Set.of(BUG)),
+                task(TaskStatus.DONE, FRONTEND, Set.of())));
+
+        assertThat(delta.categories()).isEqualTo(Map.of(
+                key(BACKEND, TaskStatus.TODO), 2,
+                key(FRONTEND, TaskStatus.DONE), 1));
+        assertThat(delta.tags()).isEqualTo(Map.of(
+                key(BUG, TaskStatus.TODO), 2,
+                key(UI, TaskStatus.TODO), 1));
+    }
+
+    @Test
+    @DisplayName("A removed task takes its counts back")
+    void countsRemovedTask() {
+        TaskCountDelta delta = TaskCountDelta.removed(task(TaskStatus.IN_PROGRESS, BACKEND, Set.of(UI)));
+
+        assertThat(delta.categories()).isEqualTo(Map.of(key(BACKEND, TaskStatus.IN_PROGRESS), -1));
+        assertThat(delta.tags()).isEqualTo(Map.of(key(UI, TaskStatus.IN_PROGRESS), -1));
+    }
+
+    @Test
+    @DisplayName("A change only moves what differs")
+    void countsOnlyDifferences() {
+        Task before = task(TaskStatus.TODO, BACKEND, Set.of(BUG, UI));
+        Task after = before.updateDetails("Counted task", null, TaskPriority.HIGH, null, null, FRONTEND, Set.of(BUG));
+
+        TaskCountDelta delta = TaskCountDelta.changed(before, after);
+
+        assertThat(delta.categories()).isEqualTo(Map.of(
+                key(BACKEND, TaskStatus.TODO), -1,
+                key(FRONTEND, TaskStatus.TODO), 1));
+        assertThat(delta.tags()).isEqualTo(Map.of(key(UI, TaskStatus.TODO), -1));
+    }
+
+    @Test
+    @DisplayName("Editing details without touching category or tags changes no count")
+    void isEmptyWithoutCountedChanges() {
+        Task before = task(TaskStatus.TODO, BACKEND, Set.of(BUG));
+        Task after = before.updateDetails("Renamed task", "More text", TaskPriority.LOW, null, null, BACKEND, Set.of(BUG));
+
+        assertThat(TaskCountDelta.changed(before, after).isEmpty()).isTrue();
+    }
+}
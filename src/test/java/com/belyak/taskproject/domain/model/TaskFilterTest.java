@@ -0,0 +1,63 @@
+package com.belyak.taskproject.domain.model;
+
+import com.belyak.taskproject.domain.exception.InvalidTaskFilterException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskFilterTest {
+
+    @Test
+    @DisplayName("Missing criteria become empty sets, ANY tag match and no text")
+    void defaults() {
+        TaskFilter filter = TaskFilter.builder().text("   ").build();
+
+        assertThat(filter.statuses()).isEmpty();
+        assertThat(filter.priorities()).isEmpty();
+        assertThat(filter.tagIds()).isEmpty();
+        assertThat(filter.tagMatch()).isEqualTo(TaskFilter.TagMatch.ANY);
+        assertThat(filter.text()).isNull();
+    }
+
+    @Test
+    @DisplayName("Equal criteria make equal filters, so they can key cached pages")
+    void equalCriteriaAreEqual() {
+        UUID tagId = UUID.randomUUID();
+        TaskFilter first = TaskFilter.builder()
+                .statuses(new HashSet<>(Set.of(TaskStatus.TODO, TaskStatus.DONE)))
+                .tagIds(Set.of(tagId))
+                .text(" login ")
+                .build();
+        TaskFilter second = TaskFilter.builder()
+                .statuses(Set.of(TaskStatus.DONE, TaskStatus.TODO))
+                .tagIds(Set.of(tagId))
+                .tagMatch(TaskFilter.TagMatch.ANY)
+                .text("login")
+                .build();
+
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+    }
+
+    @Test
+    @DisplayName("Rejects an empty due range, too many tags and too long text")
+    void rejectsInvalidCriteria() {
+        Instant now = Instant.now();
+        Set<UUID> tooManyTags = new HashSet<>();
+        IntStream.range(0, TaskFilter.MAX_TAGS + 1).forEach(i -> tooManyTags.add(UUID.randomUUID()));
+
+        assertThatThrownBy(() -> TaskFilter.builder().dueFrom(now).dueTo(now).build())
+                .isInstanceOf(InvalidTaskFilterException.class);
+        assertThatThrownBy(() -> TaskFilter.builder().tagIds(tooManyTags).build())
+                .isInstanceOf(InvalidTaskFilterException.class);
+        assertThatThrownBy(() -> TaskFilter.builder().text("x".repeat(TaskFilter.MAX_TEXT_LENGTH + 1)).build())
+                .isInstanceOf(InvalidTaskFilterException.class);
+    }
+}
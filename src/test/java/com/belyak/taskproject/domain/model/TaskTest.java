@@ -138,47 +138,4 @@ public class TaskTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Task title must be at least 3 characters");
     }
-
-    @Test
-    @DisplayName("changeStatus updates status and returns new instance")
-    void changeStatus_Success() {
-        Task task = Task.createNew(teamId, "Task", null, null, null, null, null, null, null);
-
-        Task updated = task.changeStatus(TaskStatus.DONE);
-
-        assertThat(updated.getStatus()).isEqualTo(TaskStatus.DONE);
-        assertThat(updated).isNotSameAs(task);
-    }
-
-    @Test
-    @DisplayName("changeStatus throws exception when status is null")
-    void changeStatus_Null_ThrowsException() {
-        Task task = Task.createNew(teamId, "Task", null, null, null, null, null, null, null);
-
-        assertThatThrownBy(() -> task.changeStatus(null))
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("Status cannot be null");
-    }
-
-    @Test
-    @DisplayName("assign sets assigneeId and returns new instance")
-    void assign_Success() {
-        Task task = Task.createNew(teamId, "Task", null, null, null, null, null, null, null);
-
-        Task assigned = task.assign(assigneeId);
-
-        assertThat(assigned.getAssigneeId()).isEqualTo(assigneeId);
-        assertThat(assigned).isNotSameAs(task);
-    }
-
-    @Test
-    @DisplayName("unassign removes assigneeId and returns new instance")
-    void unassign_Success() {
-        Task task = Task.createNew(teamId, "Task", null, null, null, null, null, assigneeId, null);
-
-        Task unassigned = task.unassign();
-
-        assertThat(unassigned.getAssigneeId()).isNull();
-        assertThat(unassigned).isNotSameAs(task);
-    }
 }
\ No newline at end of file
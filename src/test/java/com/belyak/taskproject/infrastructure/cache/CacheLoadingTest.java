@@ -0,0 +1,92 @@
+package com.belyak.taskproject.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("CacheLoading Unit Tests")
+class CacheLoadingTest {
+
+    private AsyncCache<String, String> cache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = Caffeine.newBuilder().buildAsync();
+    }
+
+    @Test
+    @DisplayName("Concurrent misses on one key: a single load, every caller gets its value")
+    void loadsOncePerKey() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> loader = CompletableFuture.supplyAsync(() -> CacheLoading.getOrLoad(cache, "k", key -> {
+            loads.incrementAndGet();
+            awaitQuietly(release);
+            return "value";
+        }));
+        await().until(() -> loads.get() == 1);
+
+        CompletableFuture<String> waiter = CompletableFuture.supplyAsync(() -> CacheLoading.getOrLoad(cache, "k", this::load));
+        release.countDown();
+
+        assertThat(loader.get(1, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(waiter.get(1, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.synchronous().getIfPresent("k")).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("Loader returns null: nothing is cached")
+    void doesNotCacheNull() {
+        assertThat(CacheLoading.getOrLoad(cache, "k", key -> null)).isNull();
+
+        assertThat(cache.synchronous().asMap()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Loader fails: exception reaches the caller, nothing is cached")
+    void doesNotCacheFailures() {
+        assertThatThrownBy(() -> CacheLoading.getOrLoad(cache, "k", key -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("database down");
+
+        assertThat(CacheLoading.getOrLoad(cache, "k", this::load)).isEqualTo("loaded k");
+    }
+
+    @Test
+    @DisplayName("Entry invalidated while loading: loaded value is returned but not kept")
+    void dropsValueInvalidatedWhileLoading() {
+        String value = CacheLoading.getOrLoad(cache, "k", key -> {
+            cache.synchronous().invalidate(key);
+            return "stale";
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(cache.synchronous().getIfPresent("k")).isNull();
+    }
+
+    private String load(String key) {
+        loads.incrementAndGet();
+        return "loaded " + key;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.belyak.taskproject.infrastructure.cache;
+
+import com.belyak.taskproject.domain.model.TaskFilter;
+import com.belyak.taskproject.domain.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskBoardCache Unit Tests")
+class TaskBoardCacheTest {
+
+    // ── SUT ─────────────────────────────────────────────────────────────────
+    private TaskBoardCache taskBoardCache;
+
+    // ── Fixtures ─────────────────────────────────────────────────────────────
+    private static final UUID TEAM_ID = UUID.randomUUID();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        TaskBoardCacheProperties properties = new TaskBoardCacheProperties();
+        properties.setMaxSize(DataSize.ofKilobytes(1));
+        properties.setTtl(Duration.ofMinutes(1));
+
+        taskBoardCache = new TaskBoardCache(properties);
+    }
+
+    @Test
+    @DisplayName("Same query and board version: body is built once")
+    void loadsOncePerKey() {
+        TaskBoardCache.Key key = key(TaskStatus.TODO, 3);
+
+        byte[] first = taskBoardCache.get(key, () -> body(10));
+        byte[] second = taskBoardCache.get(key, () -> body(10));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("New board version or other status: body is rebuilt")
+    void reloadsForOtherKeys() {
+        taskBoardCache.get(key(TaskStatus.TODO, 3), () -> body(10));
+        taskBoardCache.get(key(TaskStatus.TODO, 4), () -> body(10));
+        taskBoardCache.get(key(TaskStatus.DONE, 4), () -> body(10));
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Total size is bounded by the bytes of the cached bodies")
+    void boundsTotalSize() {
+        for (int version = 0; version < 10; version++) {
+            taskBoardCache.get(key(TaskStatus.TODO, version), () -> body(400));
+        }
+        taskBoardCache.pagesCache().cleanUp();
+
+        assertThat(taskBoardCache.pagesCache().estimatedSize()).isLessThanOrEqualTo(2);
+    }
+
+    private TaskBoardCache.Key key(TaskStatus status, long boardVersion) {
+        return new TaskBoardCache.Key(TEAM_ID, TaskFilter.byStatus(status), null, 50, boardVersion);
+    }
+
+    private byte[] body(int size) {
+        loads.incrementAndGet();
+        return new byte[size];
+    }
+}
@@ -0,0 +1,49 @@
+package com.belyak.taskproject.infrastructure.config;
+
+import com.belyak.taskproject.application.scheduler.TaskCountReconciliationJob;
+import com.belyak.taskproject.application.scheduler.TeamCleanupJob;
+import com.belyak.taskproject.domain.port.repository.TaskCountRepository;
+import com.belyak.taskproject.domain.port.service.TeamService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SchedulingConfig Unit Tests")
+class SchedulingConfigTest {
+
+    // ── SUT ─────────────────────────────────────────────────────────────────
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(SchedulingConfig.class, TeamCleanupJob.class, TaskCountReconciliationJob.class)
+            .withBean(TeamService.class, () -> mock(TeamService.class))
+            .withBean(TaskCountRepository.class, () -> mock(TaskCountRepository.class));
+
+    @Test
+    @DisplayName("Team cleanup is not scheduled without a configured cron")
+    void teamCleanupOffByDefault() {
+        contextRunner.run(context -> assertThat(scheduledMethods(context.getBean(ScheduledTaskHolder.class)))
+                .containsExactly("reconcileTaskCounts"));
+    }
+
+    @Test
+    @DisplayName("Team cleanup is scheduled once its cron is configured")
+    void teamCleanupOnWithCron() {
+        contextRunner.withPropertyValues("app.scheduling.team-cleanup-cron=0 0 3 * * *")
+                .run(context -> assertThat(scheduledMethods(context.getBean(ScheduledTaskHolder.class)))
+                        .containsExactlyInAnyOrder("reconcileTaskCounts", "permanentlyDeleteOldTeams"));
+    }
+
+    private static Set<String> scheduledMethods(ScheduledTaskHolder holder) {
+        return holder.getScheduledTasks().stream()
+                .map(ScheduledTask::toString)
+                .map(task -> task.substring(task.lastIndexOf('.') + 1))
+                .collect(Collectors.toSet());
+    }
+}
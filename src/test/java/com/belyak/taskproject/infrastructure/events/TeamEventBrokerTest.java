@@ -0,0 +1,206 @@
+package com.belyak.taskproject.infrastructure.events;
+
+import com.belyak.taskproject.domain.model.MembershipRevokedEvent;
+import com.belyak.taskproject.domain.model.TaskEvent;
+import com.belyak.taskproject.domain.model.TaskEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("TeamEventBroker Unit Tests")
+class TeamEventBrokerTest {
+
+    // ── SUT ─────────────────────────────────────────────────────────────────
+    private TeamEventBroker teamEventBroker;
+
+    // ── Fixtures ─────────────────────────────────────────────────────────────
+    private static final UUID TEAM_ID = UUID.randomUUID();
+    private static final UUID OTHER_TEAM_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID OTHER_USER_ID = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        TeamEventProperties properties = new TeamEventProperties();
+        properties.setSubscriberBufferSize(4);
+        properties.setReplaySize(3);
+        properties.setHeartbeat(Duration.ofMillis(50));
+
+        teamEventBroker = new TeamEventBroker(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        teamEventBroker.shutdown();
+    }
+
+    @Test
+    @DisplayName("First connect: 'ready', then the events of the own team in order")
+    void streamsEventsOfTeam() {
+        RecordingEmitter emitter = subscribe(null);
+
+        publish(TaskEventType.CREATED, TEAM_ID);
+        publish(TaskEventType.CREATED, OTHER_TEAM_ID);
+        publish(TaskEventType.STATUS_CHANGED, TEAM_ID);
+
+        await().untilAsserted(() -> assertThat(emitter.names())
+                .containsExactly("ready", "CREATED", "STATUS_CHANGED"));
+        assertThat(emitter.ids()).isSorted();
+    }
+
+    @Test
+    @DisplayName("Task events: sent as the data the subscriber maps them to")
+    void sendsMappedPayload() {
+        RecordingEmitter emitter = subscribe(null);
+
+        publish(TaskEventType.CREATED, TEAM_ID);
+
+        await().untilAsserted(() -> assertThat(emitter.field("data:")).contains("mapped:CREATED"));
+    }
+
+    @Test
+    @DisplayName("Member removed from the team: their streams complete, other members keep theirs")
+    void disconnectsRevokedMember() {
+        RecordingEmitter revoked = subscribe(USER_ID, null);
+        RecordingEmitter revokedAgain = subscribe(USER_ID, null);
+        RecordingEmitter other = subscribe(OTHER_USER_ID, null);
+
+        teamEventBroker.onMembershipRevoked(new MembershipRevokedEvent(TEAM_ID, USER_ID));
+        publish(TaskEventType.CREATED, TEAM_ID);
+
+        assertThat(revoked.completed).isTrue();
+        assertThat(revokedAgain.completed).isTrue();
+        assertThat(other.completed).isFalse();
+        await().untilAsserted(() -> assertThat(other.names()).containsExactly("ready", "CREATED"));
+        assertThat(revoked.names()).doesNotContain("CREATED");
+    }
+
+    @Test
+    @DisplayName("Idle stream: heartbeat comments are sent")
+    void sendsHeartbeats() {
+        RecordingEmitter emitter = subscribe(null);
+
+        await().untilAsserted(() -> assertThat(emitter.frames)
+                .anySatisfy(frame -> assertThat(frame).startsWith(":heartbeat")));
+    }
+
+    @Test
+    @DisplayName("Reconnect with a retained Last-Event-ID: replays only the missed events")
+    void replaysMissedEvents() {
+        RecordingEmitter first = subscribe(null);
+        publish(TaskEventType.CREATED, TEAM_ID);
+        await().until(() -> first.ids().size() == 2);
+        long seen = first.ids().getLast();
+
+        publish(TaskEventType.UPDATED, TEAM_ID);
+        publish(TaskEventType.DELETED, TEAM_ID);
+        RecordingEmitter resumed = subscribe(Long.toString(seen));
+
+        await().untilAsserted(() -> assertThat(resumed.names()).containsExactly("UPDATED", "DELETED"));
+    }
+
+    @Test
+    @DisplayName("Reconnect with an id no longer retained, from a previous run or malformed: 'resync'")
+    void resyncsWhenEventsAreLost() {
+        RecordingEmitter first = subscribe(null);
+        await().until(() -> first.ids().size() == 1);
+        long seen = first.ids().getFirst();
+
+        // Replay buffer holds 3 events
+        for (int i = 0; i < 4; i++) {
+            publish(TaskEventType.UPDATED, TEAM_ID);
+        }
+        RecordingEmitter tooOld = subscribe(Long.toString(seen));
+        RecordingEmitter previousRun = subscribe("42");
+        RecordingEmitter malformed = subscribe("not-a-number");
+
+        await().untilAsserted(() -> {
+            assertThat(tooOld.names()).containsExactly("resync");
+            assertThat(previousRun.names()).containsExactly("resync");
+            assertThat(malformed.names()).containsExactly("resync");
+        });
+    }
+
+    @Test
+    @DisplayName("Subscriber further behind than its buffer: backlog replaced by 'resync', publishing never blocks")
+    void replacesBacklogOfSlowSubscriber() {
+        RecordingEmitter slow = subscribe(null);
+        slow.blocked = true;
+
+        for (int i = 0; i < 20; i++) {
+            publish(TaskEventType.UPDATED, TEAM_ID);
+        }
+        slow.blocked = false;
+
+        await().untilAsserted(() -> assertThat(slow.names()).contains("resync").hasSizeLessThan(20));
+    }
+
+    private RecordingEmitter subscribe(String lastEventId) {
+        return subscribe(USER_ID, lastEventId);
+    }
+
+    private RecordingEmitter subscribe(UUID userId, String lastEventId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        teamEventBroker.subscribe(TEAM_ID, userId, lastEventId, event -> "mapped:" + event.type(), emitter);
+        return emitter;
+    }
+
+    private void publish(TaskEventType type, UUID teamId) {
+        teamEventBroker.onTaskEvent(TaskEvent.of(type, teamId, UUID.randomUUID()));
+    }
+
+    /**
+     * Keeps the text of every sent frame instead of writing to a response.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private volatile boolean blocked;
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            while (blocked) {
+                Thread.onSpinWait();
+            }
+            frames.add(builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(String.class::isInstance)
+                    .map(String.class::cast)
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+
+        List<String> names() {
+            return field("event:");
+        }
+
+        List<Long> ids() {
+            return field("id:").stream().map(Long::parseLong).toList();
+        }
+
+        private List<String> field(String prefix) {
+            return frames.stream()
+                    .flatMap(String::lines)
+                    .filter(line -> line.startsWith(prefix))
+                    .map(line -> line.substring(prefix.length()))
+                    .toList();
+        }
+    }
+}
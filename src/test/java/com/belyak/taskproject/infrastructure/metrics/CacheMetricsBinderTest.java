@@ -0,0 +1,74 @@
+package com.belyak.taskproject.infrastructure.metrics;
+
+import com.belyak.taskproject.domain.model.Role;
+import com.belyak.taskproject.domain.model.User;
+import com.belyak.taskproject.domain.port.repository.CategoryRepository;
+import com.belyak.taskproject.domain.port.repository.TagRepository;
+import com.belyak.taskproject.domain.port.repository.TeamRepository;
+import com.belyak.taskproject.infrastructure.cache.TaskBoardCache;
+import com.belyak.taskproject.infrastructure.cache.TaskBoardCacheProperties;
+import com.belyak.taskproject.infrastructure.security.access.MembershipCache;
+import com.belyak.taskproject.infrastructure.security.access.MembershipCacheProperties;
+import com.belyak.taskproject.infrastructure.security.jwt.PrincipalCache;
+import com.belyak.taskproject.infrastructure.security.jwt.PrincipalCacheProperties;
+import com.belyak.taskproject.infrastructure.security.jwt.TaskUserDetails;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("CacheMetricsBinder Unit Tests")
+class CacheMetricsBinderTest {
+
+    // ── SUT ─────────────────────────────────────────────────────────────────
+    private CacheMetricsBinder cacheMetricsBinder;
+
+    // ── Fixtures ─────────────────────────────────────────────────────────────
+    private static final String EMAIL = "john@example.com";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(new PrincipalCacheProperties());
+        MembershipCache membershipCache = new MembershipCache(mock(TeamRepository.class), mock(TagRepository.class),
+                mock(CategoryRepository.class), new MembershipCacheProperties());
+        TaskBoardCache taskBoardCache = new TaskBoardCache(new TaskBoardCacheProperties());
+
+        cacheMetricsBinder = new CacheMetricsBinder(principalCache, membershipCache, taskBoardCache);
+    }
+
+    @Test
+    @DisplayName("Every cache is exported under its own name")
+    void bindsEveryCache() {
+        cacheMetricsBinder.bindTo(meterRegistry);
+
+        assertThat(meterRegistry.getMeters())
+                .map(Meter::getId)
+                .filteredOn(id -> id.getName().equals("cache.size"))
+                .map(id -> id.getTag("cache"))
+                .containsExactlyInAnyOrder("principals", "team-members", "tag-teams", "category-teams", "task-boards");
+    }
+
+    @Test
+    @DisplayName("Hits and misses of a cache are counted")
+    void countsHitsAndMisses() {
+        cacheMetricsBinder.bindTo(meterRegistry);
+        TaskUserDetails details = new TaskUserDetails(User.restore(UUID.randomUUID(), "John", EMAIL, "hash", Role.USER));
+
+        principalCache.get(EMAIL, email -> details);
+        principalCache.get(EMAIL, email -> details);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+}
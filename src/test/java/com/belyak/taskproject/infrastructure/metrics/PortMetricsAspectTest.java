@@ -0,0 +1,81 @@
+package com.belyak.taskproject.infrastructure.metrics;
+
+import com.belyak.taskproject.domain.port.repository.TeamRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PortMetricsAspect Unit Tests")
+class PortMetricsAspectTest {
+
+    // ── SUT ─────────────────────────────────────────────────────────────────
+    private TeamRepository teamRepository;
+
+    // ── Fixtures ─────────────────────────────────────────────────────────────
+    private static final UUID TEAM_ID = UUID.randomUUID();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TeamRepository target = mock(TeamRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new PortMetricsAspect(meterRegistry));
+        teamRepository = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Successful call: timed under the port interface and method name")
+    void timesSuccessfulCalls() {
+        when(target.findBoardVersion(TEAM_ID)).thenReturn(Optional.of(3L));
+
+        teamRepository.findBoardVersion(TEAM_ID);
+        teamRepository.findBoardVersion(TEAM_ID);
+
+        Timer timer = meterRegistry.get("app.repository")
+                .tag("port", "TeamRepository")
+                .tag("operation", "findBoardVersion")
+                .tag("outcome", "success")
+                .tag("exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Failing call: rethrown and timed with outcome error and the exception class")
+    void timesFailedCalls() {
+        when(target.findBoardVersion(TEAM_ID)).thenThrow(new EntityNotFoundException("missing"));
+
+        assertThatThrownBy(() -> teamRepository.findBoardVersion(TEAM_ID))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        assertThat(meterRegistry.get("app.repository")
+                .tag("outcome", "error")
+                .tag("exception", "EntityNotFoundException")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Tags never carry argument values")
+    void doesNotTagArguments() {
+        teamRepository.findBoardVersion(TEAM_ID);
+
+        assertThat(meterRegistry.getMeters())
+                .flatExtracting(meter -> meter.getId().getTags())
+                .noneMatch(tag -> tag.getValue().contains(TEAM_ID.toString()));
+    }
+}
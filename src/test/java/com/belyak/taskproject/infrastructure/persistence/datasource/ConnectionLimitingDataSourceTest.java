@@ -0,0 +1,133 @@
+package com.belyak.taskproject.infrastructure.persistence.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectionLimitingDataSource Unit Tests")
+class ConnectionLimitingDataSourceTest {
+
+    // ── SUT ─────────────────────────────────────────────────────────────────
+    private ConnectionLimitingDataSource dataSource;
+
+    // ── Collaborators ────────────────────────────────────────────────────────
+    @Mock private DataSource pool;
+    @Mock private Connection pooledConnection;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        ConnectionLimiterProperties properties = new ConnectionLimiterProperties();
+        properties.setMaxWaiting(1);
+        properties.setAcquireTimeout(Duration.ofMillis(200));
+
+        dataSource = new ConnectionLimitingDataSource(pool, new ConnectionLimiter(2, properties, meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Closing a connection gives its permit back exactly once")
+    void releasesPermitOnClose() throws SQLException {
+        when(pool.getConnection()).thenReturn(pooledConnection);
+
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+        assertThat(available()).isZero();
+
+        first.close();
+        first.close();
+
+        verify(pooledConnection, times(2)).close();
+        assertThat(available()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Pool fails to hand out a connection: permit is given back")
+    void releasesPermitWhenPoolFails() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLTransientConnectionException("pool timeout"));
+
+        assertThatThrownBy(() -> dataSource.getConnection()).hasMessage("pool timeout");
+
+        assertThat(available()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("All permits taken: waiter gets the next released one")
+    void waiterGetsReleasedPermit() throws Exception {
+        when(pool.getConnection()).thenReturn(pooledConnection);
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(this::borrow);
+        await().until(() -> meterRegistry.get("db.connection.limiter.waiting").gauge().value() == 1);
+        first.close();
+
+        assertThat(waiter.get(1, TimeUnit.SECONDS)).isNotNull();
+        assertThat(meterRegistry.get("db.connection.limiter.wait").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("No permit within the acquire timeout: refused, counted as timeout")
+    void refusesAfterTimeout() throws SQLException {
+        when(pool.getConnection()).thenReturn(pooledConnection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("within 200 ms");
+
+        assertThat(rejected("timeout")).isEqualTo(1);
+        verify(pool, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Too many waiters: refused at once, counted as queue_full")
+    void refusesWhenQueueFull() throws SQLException {
+        when(pool.getConnection()).thenReturn(pooledConnection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        CompletableFuture.runAsync(this::borrow);
+        await().until(() -> meterRegistry.get("db.connection.limiter.waiting").gauge().value() == 1);
+
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("already waiting");
+        assertThat(rejected("queue_full")).isEqualTo(1);
+    }
+
+    private Connection borrow() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private double available() {
+        return meterRegistry.get("db.connection.limiter.available").gauge().value();
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("db.connection.limiter.rejected").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,110 @@
+package com.belyak.taskproject.infrastructure.persistence.datasource;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SlowQueryLogger Unit Tests")
+class SlowQueryLoggerTest {
+
+    private static final String SQL = "SELECT * FROM tasks WHERE team_id = ? AND title = ?";
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SlowQueryLogger.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final SlowQueryLogProperties properties = new SlowQueryLogProperties();
+
+    @BeforeEach
+    void setUp() {
+        properties.setThreshold(Duration.ofMillis(100));
+        properties.setBindSampleRate(0.5);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Statements faster than the threshold are not logged")
+    void ignoresFastStatements() {
+        new SlowQueryLogger(properties, () -> 0.0).afterQuery(execution(99, false), List.of(query("team", "title")));
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Slow statements are logged as WARN without binds when not sampled")
+    void logsSlowStatementWithoutBinds() {
+        new SlowQueryLogger(properties, () -> 0.9).afterQuery(execution(250, false), List.of(query("team", "title")));
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getFormattedMessage())
+                    .isEqualTo("Slow query: 250 ms, batch of 1, succeeded: " + SQL);
+        });
+    }
+
+    @Test
+    @DisplayName("Sampled slow statements include truncated bind values and at most five batch entries")
+    void logsSampledBinds() {
+        QueryInfo batch = query("team", "x".repeat(150));
+        for (int i = 0; i < 6; i++) {
+            batch.getParametersList().add(batch.getParametersList().getFirst());
+        }
+        ExecutionInfo execution = execution(300, true);
+        execution.setBatchSize(7);
+
+        new SlowQueryLogger(properties, () -> 0.1).afterQuery(execution, List.of(batch));
+
+        String message = appender.list.getFirst().getFormattedMessage();
+        assertThat(message)
+                .startsWith("Slow query: 300 ms, batch of 7, succeeded: " + SQL + " binds [1=team, 2=" + "x".repeat(100) + "…]")
+                .doesNotContain("x".repeat(101));
+        assertThat(message.split(" \\[1=team").length - 1).isEqualTo(5);
+    }
+
+    private static ExecutionInfo execution(long elapsedMillis, boolean batch) {
+        ExecutionInfo execution = new ExecutionInfo();
+        execution.setElapsedTime(elapsedMillis);
+        execution.setBatch(batch);
+        execution.setSuccess(true);
+        return execution;
+    }
+
+    private static QueryInfo query(Object... args) {
+        List<ParameterSetOperation> parameters = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            parameters.add(new ParameterSetOperation(setString(), new Object[]{i + 1, args[i]}));
+        }
+        QueryInfo query = new QueryInfo(SQL);
+        query.getParametersList().add(parameters);
+        return query;
+    }
+
+    private static Method setString() {
+        try {
+            return PreparedStatement.class.getMethod("setString", int.class, String.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -80,7 +80,7 @@ class CategoryRepositoryImplTest {
             when(p2.getName()).thenReturn("Frontend");
 
             List<CategoryInfoWithTaskCountProjection> expected = List.of(p1, p2);
-            when(springDataCategoryRepository.findCategoriesByTeamIdAndStatus(TEAM_ID, TaskStatus.TODO))
+            when(springDataCategoryRepository.findCategoriesByTeamIdAndStatus(TEAM_ID, TaskStatus.TODO.name()))
                     .thenReturn(expected);
 
             List<CategoryInfoWithTaskCountProjection> result =
@@ -94,7 +94,7 @@ class CategoryRepositoryImplTest {
         @Test
         @DisplayName("Team with no categories: returns empty list")
         void whenEmpty_returnsEmptyList() {
-            when(springDataCategoryRepository.findCategoriesByTeamIdAndStatus(TEAM_ID, TaskStatus.IN_PROGRESS))
+            when(springDataCategoryRepository.findCategoriesByTeamIdAndStatus(TEAM_ID, TaskStatus.IN_PROGRESS.name()))
                     .thenReturn(Collections.emptyList());
 
             assertThat(repositoryImpl.findAllByTeamId(TEAM_ID, TaskStatus.IN_PROGRESS)).isEmpty();
@@ -221,6 +221,23 @@ class CategoryRepositoryImplTest {
         }
     }
 
+    // ═══════════════════════════════════════════════════════════════════════════
+    // findTeamIdById()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("findTeamIdById()")
+    class FindTeamIdById {
+
+        @Test
+        @DisplayName("Delegates to SpringData")
+        void returnsOwningTeam() {
+            when(springDataCategoryRepository.findTeamIdById(CATEGORY_ID)).thenReturn(Optional.of(TEAM_ID));
+
+            assertThat(repositoryImpl.findTeamIdById(CATEGORY_ID)).contains(TEAM_ID);
+        }
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // deleteById()
     // ═══════════════════════════════════════════════════════════════════════════
@@ -262,4 +279,31 @@ class CategoryRepositoryImplTest {
             assertThat(repositoryImpl.canAccess(CATEGORY_ID, USER_ID)).isFalse();
         }
     }
-}
\ No newline at end of file
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // findExistingCategoryIds()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("findExistingCategoryIds()")
+    class FindExistingCategoryIds {
+
+        @Test
+        @DisplayName("Returns the ids that belong to the team")
+        void returnsTeamCategoryIds() {
+            UUID foreignCategoryId = UUID.randomUUID();
+            when(springDataCategoryRepository.findIdsByTeamIdAndIdIn(TEAM_ID, Set.of(CATEGORY_ID, foreignCategoryId)))
+                    .thenReturn(Set.of(CATEGORY_ID));
+
+            assertThat(repositoryImpl.findExistingCategoryIds(TEAM_ID, Set.of(CATEGORY_ID, foreignCategoryId)))
+                    .containsExactly(CATEGORY_ID);
+        }
+
+        @Test
+        @DisplayName("Empty input: returns empty set without DB call")
+        void whenInputEmpty_returnsEmptyWithoutDbCall() {
+            assertThat(repositoryImpl.findExistingCategoryIds(TEAM_ID, Set.of())).isEmpty();
+            verify(springDataCategoryRepository, never()).findIdsByTeamIdAndIdIn(any(), any());
+        }
+    }
+}
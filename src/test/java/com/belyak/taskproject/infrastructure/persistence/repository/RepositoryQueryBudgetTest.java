@@ -0,0 +1,564 @@
+package com.belyak.taskproject.infrastructure.persistence.repository;
+
+import com.belyak.taskproject.common.util.UuidV7;
+import com.belyak.taskproject.domain.model.*;
+import com.belyak.taskproject.domain.port.repository.*;
+import com.belyak.taskproject.infrastructure.persistence.projections.TeamDetailsProjection;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TagView;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskSearchHit;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TeamDashboard;
+import com.belyak.taskproject.support.AbstractQueryBudgetTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Statement budgets of every repository port method, each called in its own transaction as a service would.
+ */
+@DisplayName("Repository query budgets")
+class RepositoryQueryBudgetTest extends AbstractQueryBudgetTest {
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private TeamRepository teamRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private TagRepository tagRepository;
+    @Autowired private TaskCountRepository taskCountRepository;
+
+    private TeamFixture team;
+
+    @BeforeEach
+    void setUp() {
+        team = seedTeam();
+    }
+
+    // ════════════════════════════════════════════════════════════════════════
+    @Nested
+    @DisplayName("TaskRepository")
+    class Tasks {
+
+        @Test
+        void save() throws Throwable {
+            Task task = Task.createNew(team.teamId(), "Budget task", "d", TaskStatus.TODO, TaskPriority.HIGH, null,
+                    team.categoryId(), team.memberId(), Set.copyOf(team.tagIds()));
+
+            Task saved = expectStatements("TaskRepository.save (new)", 2, () -> inTransaction(() -> taskRepository.save(task)));
+
+            assertThat(saved.getTagIds()).containsExactlyInAnyOrderElementsOf(team.tagIds());
+        }
+
+        @Test
+        void saveExisting() throws Throwable {
+            Task task = inTransaction(() -> taskRepository.findById(team.taskIds().getFirst()).orElseThrow());
+            Task updated = task.updateDetails("Renamed task", "d", TaskPriority.LOW, null, team.ownerId(),
+                    team.categoryId(), Set.of(team.tagIds().getFirst()));
+
+            expectStatements("TaskRepository.save (existing)", 4, () -> inTransaction(() -> taskRepository.save(updated)));
+        }
+
+        @Test
+        void createAll() throws Throwable {
+            List<Task> tasks = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                tasks.add(Task.createNew(team.teamId(), "Bulk " + i, "d", TaskStatus.TODO, null, null,
+                        team.categoryId(), null, Set.copyOf(team.tagIds())));
+            }
+
+            List<Task> created = expectStatements("TaskRepository.createAll (20 tasks)", 2,
+                    () -> inTransaction(() -> taskRepository.createAll(tasks)));
+
+            assertThat(created).hasSize(20);
+        }
+
+        @Test
+        void deleteById() throws Throwable {
+            expectStatements("TaskRepository.deleteById", 3,
+                    () -> inTransaction(() -> taskRepository.deleteById(team.taskIds().getFirst())));
+        }
+
+        @Test
+        void updateStatus() throws Throwable {
+            boolean updated = expectStatements("TaskRepository.updateStatus", 1, () -> inTransaction(() ->
+                    taskRepository.updateStatus(team.teamId(), team.taskIds().getFirst(), TaskStatus.DONE, 0L)));
+
+            assertThat(updated).isTrue();
+        }
+
+        @Test
+        void updateAssignee() throws Throwable {
+            boolean updated = expectStatements("TaskRepository.updateAssignee", 1, () -> inTransaction(() ->
+                    taskRepository.updateAssignee(team.teamId(), team.taskIds().getFirst(), team.ownerId(), null)));
+
+            assertThat(updated).isTrue();
+        }
+
+        @Test
+        void findById() throws Throwable {
+            expectStatements("TaskRepository.findById", 2,
+                    () -> inTransaction(() -> taskRepository.findById(team.taskIds().getFirst())));
+        }
+
+        @Test
+        void findPage() throws Throwable {
+            List<TaskView> page = expectStatements("TaskRepository.findPage", 2, () -> inTransaction(() ->
+                    taskRepository.findPage(team.teamId(), TaskFilter.byStatus(TaskStatus.IN_PROGRESS), null, 50)));
+
+            assertThat(page).hasSize(3).allSatisfy(task -> assertThat(task.tags())
+                    .extracting(TagView::name)
+                    .containsExactly("tag-0", "tag-1"));
+        }
+
+        @Test
+        void findPageAfterCursor() throws Throwable {
+            TaskCursor cursor = new TaskCursor(Instant.now().plus(1, ChronoUnit.DAYS), UUID.randomUUID());
+
+            expectStatements("TaskRepository.findPage (after cursor)", 2, () -> inTransaction(() ->
+                    taskRepository.findPage(team.teamId(), TaskFilter.byStatus(TaskStatus.IN_PROGRESS), cursor, 50)));
+        }
+
+        @Test
+        void findPageWithEveryFilter() throws Throwable {
+            TaskFilter filter = TaskFilter.builder()
+                    .statuses(Set.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+                    .priorities(Set.of(TaskPriority.MEDIUM, TaskPriority.URGENT))
+                    .assigneeId(team.memberId())
+                    .categoryId(team.categoryId())
+                    .tagIds(Set.copyOf(team.tagIds()))
+                    .tagMatch(TaskFilter.TagMatch.ALL)
+                    .text("seeded")
+                    .build();
+
+            List<TaskView> page = expectStatements("TaskRepository.findPage (every filter, all tags)", 2,
+                    () -> inTransaction(() -> taskRepository.findPage(team.teamId(), filter, null, 50)));
+
+            assertThat(page).hasSize(3);
+        }
+
+        @Test
+        void findPageExcludingByFilter() throws Throwable {
+            TaskFilter filter = TaskFilter.builder()
+                    .tagIds(Set.of(UUID.randomUUID()))
+                    .dueFrom(Instant.now())
+                    .build();
+
+            List<TaskView> page = expectStatements("TaskRepository.findPage (any tag, due range)", 1,
+                    () -> inTransaction(() -> taskRepository.findPage(team.teamId(), filter, null, 50)));
+
+            assertThat(page).isEmpty();
+        }
+
+        @Test
+        void findDetailsById() throws Throwable {
+            expectStatements("TaskRepository.findDetailsById", 2,
+                    () -> inTransaction(() -> taskRepository.findDetailsById(team.taskIds().getFirst())));
+        }
+
+        @Test
+        void search() throws Throwable {
+            // Stored markup, and the control characters used as highlight delimiters, must come back as text
+            UUID marked = team.taskIds().getFirst();
+            jdbc.update("UPDATE tasks SET title = 'Task <mark>' || chr(2) || 'raw</mark>' WHERE id = ?", marked);
+
+            List<TaskSearchHit> hits = expectStatements("TaskRepository.search", 3,
+                    () -> inTransaction(() -> taskRepository.search(team.teamId(), "seeded task", null, 50)));
+
+            assertThat(hits).hasSize(3);
+            assertThat(hits).allSatisfy(hit -> assertThat(hit.titleHighlight()).startsWith("<mark>Task</mark>"));
+            assertThat(hits).filteredOn(hit -> hit.task().id().equals(marked)).singleElement()
+                    .satisfies(hit -> assertThat(hit.titleHighlight()).isEqualTo("<mark>Task</mark> &lt;mark&gt;raw&lt;/mark&gt;"));
+        }
+
+        @Test
+        void searchAfterCursor() throws Throwable {
+            TaskSearchCursor cursor = new TaskSearchCursor(1f, UUID.randomUUID());
+
+            expectStatements("TaskRepository.search (after cursor)", 3,
+                    () -> inTransaction(() -> taskRepository.search(team.teamId(), "seeded task", cursor, 50)));
+        }
+
+        @Test
+        void getDashboard() throws Throwable {
+            Instant now = Instant.now().truncatedTo(ChronoUnit.MINUTES);
+            jdbc.update("UPDATE tasks SET due_date = ? WHERE id = ?",
+                    Timestamp.from(now.minus(1, ChronoUnit.DAYS)), team.taskIds().getFirst());
+            // Due at the instant itself: not overdue yet
+            jdbc.update("UPDATE tasks SET due_date = ? WHERE id = ?", Timestamp.from(now), team.taskIds().get(1));
+            UUID doneTagId = UuidV7.next();
+            jdbc.update("INSERT INTO tags (id, name, color, team_id, created_at, updated_at) " +
+                        "VALUES (?, 'tag-done', '#999999', ?, now(), now())", doneTagId, team.teamId());
+            UUID doneTaskId = insertUnassignedTask("DONE", "HIGH", now.minus(1, ChronoUnit.DAYS));
+            jdbc.update("INSERT INTO task_tags (task_id, tag_id) VALUES (?, ?)", doneTaskId, doneTagId);
+            jdbc.update("INSERT INTO tag_task_counts (tag_id, status, task_count) VALUES (?, 'DONE', 1)", doneTagId);
+            insertUnassignedTask("TODO", "LOW", now.minus(1, ChronoUnit.HOURS));
+
+            TeamDashboard dashboard = expectStatements("TaskRepository.getDashboard", 1,
+                    () -> inTransaction(() -> taskRepository.getDashboard(team.teamId(), now, 5)));
+
+            assertThat(dashboard.totalTasks()).isEqualTo(5);
+            assertThat(dashboard.openTasks()).isEqualTo(4);
+            assertThat(dashboard.overdueTasks()).isEqualTo(2);
+            assertThat(dashboard.tasksByStatus()).containsOnly(
+                    entry(TaskStatus.DRAFT, 0L), entry(TaskStatus.TODO, 1L),
+                    entry(TaskStatus.IN_PROGRESS, 3L), entry(TaskStatus.DONE, 1L), entry(TaskStatus.ARCHIVED, 0L));
+            assertThat(dashboard.tasksByPriority()).containsOnly(
+                    entry(TaskPriority.LOW, 1L), entry(TaskPriority.MEDIUM, 3L), entry(TaskPriority.HIGH, 1L),
+                    entry(TaskPriority.URGENT, 0L));
+            assertThat(dashboard.workload()).containsExactly(
+                    new TeamDashboard.AssigneeWorkload(team.memberId(), "Budget", 3, 1),
+                    new TeamDashboard.AssigneeWorkload(null, null, 1, 1));
+            assertThat(dashboard.topTags()).containsExactly(
+                    new TeamDashboard.TagUsage(team.tagIds().get(0), "tag-0", "#336699", 3, 3),
+                    new TeamDashboard.TagUsage(team.tagIds().get(1), "tag-1", "#336699", 3, 3),
+                    new TeamDashboard.TagUsage(doneTagId, "tag-done", "#999999", 0, 1));
+        }
+
+        private UUID insertUnassignedTask(String status, String priority, Instant dueDate) {
+            UUID id = UuidV7.next();
+            jdbc.update("INSERT INTO tasks (id, title, description, status, priority, category_id, team_id, " +
+                        "due_date, created_at, updated_at) VALUES (?, 'Unassigned', 'Seeded', ?, ?, ?, ?, ?, now(), now())",
+                    id, status, priority, team.categoryId(), team.teamId(), Timestamp.from(dueDate));
+            return id;
+        }
+
+        @Test
+        void forEachByTeamId() throws Throwable {
+            List<TaskView> exported = new ArrayList<>();
+
+            expectStatements("TaskRepository.forEachByTeamId", 2,
+                    () -> inTransaction(() -> taskRepository.forEachByTeamId(team.teamId(), exported::add)));
+
+            assertThat(exported).hasSize(3);
+        }
+
+        @Test
+        void existsQueries() throws Throwable {
+            expectStatements("TaskRepository.existsByCategoryId", 1,
+                    () -> inTransaction(() -> taskRepository.existsByCategoryId(team.categoryId())));
+            expectStatements("TaskRepository.existsByTagId", 1,
+                    () -> inTransaction(() -> taskRepository.existsByTagId(team.tagIds().getFirst())));
+            expectStatements("TaskRepository.existsById", 1,
+                    () -> inTransaction(() -> taskRepository.existsById(team.taskIds().getFirst())));
+        }
+    }
+
+    // ════════════════════════════════════════════════════════════════════════
+    @Nested
+    @DisplayName("TeamRepository")
+    class Teams {
+
+        @Test
+        void save() throws Throwable {
+            Team newTeam = Team.createNew("Budget team", team.ownerId(), "B" + UUID.randomUUID().toString().substring(0, 7), "hash");
+
+            expectStatements("TeamRepository.save (new)", 2, () -> inTransaction(() -> teamRepository.save(newTeam)));
+        }
+
+        @Test
+        void saveExisting() throws Throwable {
+            Team existing = inTransaction(() -> teamRepository.findById(team.teamId()).orElseThrow());
+            existing.removeMember(team.memberId());
+
+            expectStatements("TeamRepository.save (existing)", 5, () -> inTransaction(() -> teamRepository.save(existing)));
+        }
+
+        @Test
+        void deleteByStatusAndDeletedAtBefore() throws Throwable {
+            expectStatements("TeamRepository.deleteByStatusAndDeletedAtBefore", 1, () -> inTransaction(() ->
+                    teamRepository.deleteByStatusAndDeletedAtBefore(TeamStatus.DELETED, Instant.now().minus(30, ChronoUnit.DAYS))));
+        }
+
+        @Test
+        void boardVersions() throws Throwable {
+            expectStatements("TeamRepository.incrementBoardVersion", 1,
+                    () -> inTransaction(() -> teamRepository.incrementBoardVersion(team.teamId())));
+            expectStatements("TeamRepository.incrementBoardVersionsShowingUser", 1,
+                    () -> inTransaction(() -> teamRepository.incrementBoardVersionsShowingUser(team.memberId())));
+
+            Long version = expectStatements("TeamRepository.findBoardVersion", 1,
+                    () -> inTransaction(() -> teamRepository.findBoardVersion(team.teamId()).orElseThrow()));
+
+            assertThat(version).isEqualTo(2L);
+        }
+
+        @Test
+        void findById() throws Throwable {
+            Team found = expectStatements("TeamRepository.findById", 2,
+                    () -> inTransaction(() -> teamRepository.findById(team.teamId()).orElseThrow()));
+
+            assertThat(found.getMemberIds()).contains(team.memberId());
+        }
+
+        @Test
+        void findByJoinCode() throws Throwable {
+            expectStatements("TeamRepository.findByJoinCode", 2,
+                    () -> inTransaction(() -> teamRepository.findByJoinCode(team.joinCode()).orElseThrow()));
+        }
+
+        @Test
+        void getAllByMemberId() throws Throwable {
+            expectStatements("TeamRepository.getAllByMemberId", 1,
+                    () -> inTransaction(() -> teamRepository.getAllByMemberId(team.memberId())));
+        }
+
+        @Test
+        void getTeamDetailsById() throws Throwable {
+            expectStatements("TeamRepository.getTeamDetailsById", 1, () -> inTransaction(() -> {
+                TeamDetailsProjection details = teamRepository.getTeamDetailsById(team.teamId()).orElseThrow();
+                details.getMembers().size();
+                return details.getOwner().getName();
+            }));
+        }
+
+        @Test
+        void membershipQueries() throws Throwable {
+            expectStatements("TeamRepository.findTeamIdsByMemberId", 1,
+                    () -> inTransaction(() -> teamRepository.findTeamIdsByMemberId(team.memberId())));
+            expectStatements("TeamRepository.findMemberIds", 1,
+                    () -> inTransaction(() -> teamRepository.findMemberIds(team.teamId())));
+            expectStatements("TeamRepository.isOwner", 1,
+                    () -> inTransaction(() -> teamRepository.isOwner(team.teamId(), team.ownerId())));
+        }
+
+        @Test
+        void existsQueries() throws Throwable {
+            expectStatements("TeamRepository.existsByJoinCode", 1,
+                    () -> inTransaction(() -> teamRepository.existsByJoinCode(team.joinCode())));
+            expectStatements("TeamRepository.existsById", 1,
+                    () -> inTransaction(() -> teamRepository.existsById(team.teamId())));
+        }
+    }
+
+    // ════════════════════════════════════════════════════════════════════════
+    @Nested
+    @DisplayName("UserRepository")
+    class Users {
+
+        @Test
+        void save() throws Throwable {
+            User user = User.register("Budget", "new-" + UUID.randomUUID() + "@example.com", "hash");
+
+            expectStatements("UserRepository.save (new)", 1, () -> inTransaction(() -> userRepository.save(user)));
+        }
+
+        @Test
+        void saveExisting() throws Throwable {
+            User user = inTransaction(() -> userRepository.findById(team.memberId()).orElseThrow());
+
+            expectStatements("UserRepository.save (existing)", 2,
+                    () -> inTransaction(() -> userRepository.save(user.updateProfile("Renamed"))));
+        }
+
+        @Test
+        void queries() throws Throwable {
+            expectStatements("UserRepository.findByEmail", 1,
+                    () -> inTransaction(() -> userRepository.findByEmail(team.memberEmail())));
+            expectStatements("UserRepository.existsByEmail", 1,
+                    () -> inTransaction(() -> userRepository.existsByEmail(team.memberEmail())));
+            expectStatements("UserRepository.findById", 1,
+                    () -> inTransaction(() -> userRepository.findById(team.memberId())));
+            expectStatements("UserRepository.incrementMembershipVersion", 1,
+                    () -> inTransaction(() -> userRepository.incrementMembershipVersion(team.memberId())));
+        }
+    }
+
+    // ════════════════════════════════════════════════════════════════════════
+    @Nested
+    @DisplayName("CategoryRepository")
+    class Categories {
+
+        @Test
+        void createCategory() throws Throwable {
+            expectStatements("CategoryRepository.createCategory", 1,
+                    () -> inTransaction(() -> categoryRepository.createCategory(team.teamId(), Category.createNew("Frontend"))));
+        }
+
+        @Test
+        void deleteById() throws Throwable {
+            // The deletion rules only let unused categories through
+            jdbc.update("DELETE FROM task_tags WHERE task_id IN (SELECT id FROM tasks WHERE team_id = ?)", team.teamId());
+            jdbc.update("DELETE FROM tasks WHERE team_id = ?", team.teamId());
+
+            expectStatements("CategoryRepository.deleteById", 2,
+                    () -> inTransaction(() -> categoryRepository.deleteById(team.categoryId())));
+        }
+
+        @Test
+        void queries() throws Throwable {
+            expectStatements("CategoryRepository.findById", 1,
+                    () -> inTransaction(() -> categoryRepository.findById(team.categoryId())));
+            expectStatements("CategoryRepository.findTeamIdById", 1,
+                    () -> inTransaction(() -> categoryRepository.findTeamIdById(team.categoryId())));
+            expectStatements("CategoryRepository.findExistingCategoryIds", 1, () -> inTransaction(() ->
+                    categoryRepository.findExistingCategoryIds(team.teamId(), Set.of(team.categoryId(), UUID.randomUUID()))));
+            expectStatements("CategoryRepository.findAllByTeamId", 1,
+                    () -> inTransaction(() -> categoryRepository.findAllByTeamId(team.teamId(), TaskStatus.IN_PROGRESS)));
+            expectStatements("CategoryRepository.canAccess", 1,
+                    () -> inTransaction(() -> categoryRepository.canAccess(team.categoryId(), team.memberId())));
+            expectStatements("CategoryRepository.existsByName", 1,
+                    () -> inTransaction(() -> categoryRepository.existsByName(team.teamId(), "Backend")));
+        }
+    }
+
+    // ════════════════════════════════════════════════════════════════════════
+    @Nested
+    @DisplayName("TagRepository")
+    class Tags {
+
+        @Test
+        void createTags() throws Throwable {
+            List<Tag> tags = List.of(Tag.createNew("red", "#FF0000"), Tag.createNew("green", "#00FF00"),
+                    Tag.createNew("blue", "#0000FF"));
+
+            expectStatements("TagRepository.createTags (3 tags)", 1,
+                    () -> inTransaction(() -> tagRepository.createTags(team.teamId(), tags)));
+        }
+
+        @Test
+        void deleteById() throws Throwable {
+            // The deletion rules only let unused tags through
+            jdbc.update("DELETE FROM task_tags WHERE tag_id = ?", team.tagIds().getFirst());
+
+            expectStatements("TagRepository.deleteById", 2,
+                    () -> inTransaction(() -> tagRepository.deleteById(team.tagIds().getFirst())));
+        }
+
+        @Test
+        void queries() throws Throwable {
+            expectStatements("TagRepository.findById", 1,
+                    () -> inTransaction(() -> tagRepository.findById(team.tagIds().getFirst())));
+            expectStatements("TagRepository.findTeamIdById", 1,
+                    () -> inTransaction(() -> tagRepository.findTeamIdById(team.tagIds().getFirst())));
+            expectStatements("TagRepository.findExistingTagNames", 1,
+                    () -> inTransaction(() -> tagRepository.findExistingTagNames(team.teamId(), Set.of("tag-0", "other"))));
+            expectStatements("TagRepository.findExistingTagIds", 1,
+                    () -> inTransaction(() -> tagRepository.findExistingTagIds(team.teamId(), Set.copyOf(team.tagIds()))));
+            expectStatements("TagRepository.findAllByTeamId", 1,
+                    () -> inTransaction(() -> tagRepository.findAllByTeamId(team.teamId(), TaskStatus.IN_PROGRESS)));
+            expectStatements("TagRepository.canAccess", 1,
+                    () -> inTransaction(() -> tagRepository.canAccess(team.tagIds().getFirst(), team.memberId())));
+        }
+    }
+
+    // ════════════════════════════════════════════════════════════════════════
+    @Nested
+    @DisplayName("TaskCountRepository")
+    class TaskCounts {
+
+        @Test
+        void apply() throws Throwable {
+            Task task = Task.createNew(team.teamId(), "Counted task", "d", TaskStatus.TODO, null, null,
+                    team.categoryId(), null, Set.copyOf(team.tagIds()));
+
+            expectStatements("TaskCountRepository.apply", 2,
+                    () -> inTransaction(() -> taskCountRepository.apply(TaskCountDelta.added(task))));
+
+            assertCounts(TaskStatus.TODO, 1);
+            assertCounts(TaskStatus.IN_PROGRESS, 3);
+        }
+
+        @Test
+        void moveStatus() throws Throwable {
+            expectStatements("TaskCountRepository.moveStatus", 2, () -> inTransaction(() ->
+                    taskCountRepository.moveStatus(team.teamId(), team.taskIds().getFirst(), TaskStatus.DONE)));
+
+            assertCounts(TaskStatus.IN_PROGRESS, 2);
+            assertCounts(TaskStatus.DONE, 1);
+        }
+
+        @Test
+        void reconcile() throws Throwable {
+            jdbc.update("UPDATE category_task_counts SET task_count = 7 WHERE category_id = ?", team.categoryId());
+            jdbc.update("DELETE FROM tag_task_counts WHERE tag_id = ?", team.tagIds().getFirst());
+
+            int corrected = expectStatements("TaskCountRepository.reconcile", 3,
+                    () -> inTransaction(() -> taskCountRepository.reconcile()));
+
+            assertThat(corrected).isGreaterThanOrEqualTo(2);
+            assertCounts(TaskStatus.IN_PROGRESS, 3);
+        }
+
+        @Test
+        void reconcileConcurrently() throws Exception {
+            jdbc.update("UPDATE category_task_counts SET task_count = 7 WHERE category_id = ?", team.categoryId());
+            jdbc.update("DELETE FROM tag_task_counts WHERE tag_id = ?", team.tagIds().getFirst());
+
+            CountDownLatch reconciled = new CountDownLatch(1);
+            CountDownLatch commit = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<Integer> first = executor.submit(() -> inTransaction(() -> {
+                    int corrected = taskCountRepository.reconcile();
+                    reconciled.countDown();
+                    await(commit);
+                    return corrected;
+                }));
+                await(reconciled);
+
+                // Started while the first run holds its transaction open: must block until it commits
+                Future<Integer> second = executor.submit(() -> inTransaction(() -> taskCountRepository.reconcile()));
+                awaitBlockedLock();
+                assertThat(second).isNotDone();
+                commit.countDown();
+
+                assertThat(first.get(10, TimeUnit.SECONDS)).isGreaterThanOrEqualTo(2);
+                assertThat(second.get(10, TimeUnit.SECONDS)).isZero();
+            } finally {
+                commit.countDown();
+                executor.shutdownNow();
+            }
+
+            assertCounts(TaskStatus.IN_PROGRESS, 3);
+        }
+
+        /**
+         * Waits until some session waits for a lock held by another.
+         */
+        private void awaitBlockedLock() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (jdbc.queryForObject("SELECT count(*) FROM pg_locks WHERE NOT granted", Long.class) == 0) {
+                assertThat(System.nanoTime()).as("a blocked lock").isLessThan(deadline);
+                Thread.sleep(20);
+            }
+        }
+
+        private static void await(CountDownLatch latch) {
+            try {
+                assertThat(latch.await(10, TimeUnit.SECONDS)).as("latch released").isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Every sidebar entry of the seeded team shows {@code expected} tasks with the status.
+         */
+        private void assertCounts(TaskStatus status, long expected) {
+            assertThat(inTransaction(() -> categoryRepository.findAllByTeamId(team.teamId(), status)))
+                    .singleElement()
+                    .satisfies(category -> assertThat(category.getTaskCount()).isEqualTo(expected));
+            assertThat(inTransaction(() -> tagRepository.findAllByTeamId(team.teamId(), status)))
+                    .hasSize(team.tagIds().size())
+                    .allSatisfy(tag -> assertThat(tag.getTaskCount()).isEqualTo(expected));
+        }
+    }
+}
@@ -70,7 +70,7 @@ class TagRepositoryImplTest {
             when(p1.getName()).thenReturn("urgent");
             when(p2.getName()).thenReturn("docs");
 
-            when(springDataTagRepository.findTagsByTeamIdAndStatus(TEAM_ID, TaskStatus.TODO))
+            when(springDataTagRepository.findTagsByTeamIdAndStatus(TEAM_ID, TaskStatus.TODO.name()))
                     .thenReturn(List.of(p1, p2));
 
             List<TagInfoWithTaskCountProjection> result =
@@ -84,7 +84,7 @@ class TagRepositoryImplTest {
         @Test
         @DisplayName("No tags found: returns empty list")
         void whenEmpty_returnsEmptyList() {
-            when(springDataTagRepository.findTagsByTeamIdAndStatus(TEAM_ID, TaskStatus.DONE))
+            when(springDataTagRepository.findTagsByTeamIdAndStatus(TEAM_ID, TaskStatus.DONE.name()))
                     .thenReturn(Collections.emptyList());
 
             assertThat(repositoryImpl.findAllByTeamId(TEAM_ID, TaskStatus.DONE)).isEmpty();
@@ -224,6 +224,23 @@ class TagRepositoryImplTest {
         }
     }
 
+    // ═══════════════════════════════════════════════════════════════════════════
+    // findTeamIdById()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("findTeamIdById()")
+    class FindTeamIdById {
+
+        @Test
+        @DisplayName("Delegates to SpringData")
+        void returnsOwningTeam() {
+            when(springDataTagRepository.findTeamIdById(TAG_ID)).thenReturn(Optional.of(TEAM_ID));
+
+            assertThat(repositoryImpl.findTeamIdById(TAG_ID)).contains(TEAM_ID);
+        }
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // findExistingTagNames()
     // ═══════════════════════════════════════════════════════════════════════════
@@ -283,4 +300,31 @@ class TagRepositoryImplTest {
                     .containsExactlyInAnyOrder("urgent", "docs");
         }
     }
-}
\ No newline at end of file
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // findExistingTagIds()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("findExistingTagIds()")
+    class FindExistingTagIds {
+
+        @Test
+        @DisplayName("Returns the ids that belong to the team")
+        void returnsTeamTagIds() {
+            UUID foreignTagId = UUID.randomUUID();
+            when(springDataTagRepository.findIdsByTeamIdAndIdIn(TEAM_ID, Set.of(TAG_ID, foreignTagId)))
+                    .thenReturn(Set.of(TAG_ID));
+
+            assertThat(repositoryImpl.findExistingTagIds(TEAM_ID, Set.of(TAG_ID, foreignTagId)))
+                    .containsExactly(TAG_ID);
+        }
+
+        @Test
+        @DisplayName("Empty input: returns empty set without DB call")
+        void whenInputEmpty_returnsEmptyWithoutDbCall() {
+            assertThat(repositoryImpl.findExistingTagIds(TEAM_ID, Set.of())).isEmpty();
+            verify(springDataTagRepository, never()).findIdsByTeamIdAndIdIn(any(), any());
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.belyak.taskproject.infrastructure.persistence.repository;
 
 import com.belyak.taskproject.domain.model.Task;
+import com.belyak.taskproject.domain.model.TaskCursor;
+import com.belyak.taskproject.domain.model.TaskFilter;
 import com.belyak.taskproject.domain.model.TaskPriority;
 import com.belyak.taskproject.domain.model.TaskStatus;
 import com.belyak.taskproject.infrastructure.persistence.entity.*;
 import com.belyak.taskproject.infrastructure.persistence.mapper.TaskPersistenceMapper;
-import com.belyak.taskproject.infrastructure.persistence.projections.TaskInfoProjection;
+import com.belyak.taskproject.infrastructure.persistence.projections.DashboardRowProjection;
+import com.belyak.taskproject.infrastructure.persistence.projections.TaskSearchRowProjection;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskTagRow;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TaskView;
+import com.belyak.taskproject.infrastructure.persistence.readmodel.TeamDashboard;
 import com.belyak.taskproject.infrastructure.persistence.repository.impl.TaskRepositoryImpl;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,10 +27,15 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -111,7 +122,7 @@ class TaskRepositoryImplTest {
             when(userRepository.getReferenceById(ASSIGNEE_ID))      .thenReturn(assigneeProxy);
             when(tagRepository.getReferenceById(TAG_ID_1))          .thenReturn(tagProxy1);
             when(tagRepository.getReferenceById(TAG_ID_2))          .thenReturn(tagProxy2);
-            when(springDataTaskRepository.save(any(TaskEntity.class))).thenReturn(savedEntity);
+            when(springDataTaskRepository.saveAndFlush(any(TaskEntity.class))).thenReturn(savedEntity);
 
             Task expectedDomain = Task.builder().id(TASK_ID).build();
             when(taskPersistenceMapper.toDomain(savedEntity)).thenReturn(expectedDomain);
@@ -130,7 +141,7 @@ class TaskRepositoryImplTest {
 
             // entity was persisted
             ArgumentCaptor<TaskEntity> captor = ArgumentCaptor.forClass(TaskEntity.class);
-            verify(springDataTaskRepository).save(captor.capture());
+            verify(springDataTaskRepository).saveAndFlush(captor.capture());
             TaskEntity persisted = captor.getValue();
 
             assertThat(persisted.getTeam())        .isEqualTo(teamProxy);
@@ -168,7 +179,7 @@ class TaskRepositoryImplTest {
             when(categoryRepository.getReferenceById(CATEGORY_ID)) .thenReturn(categoryProxy);
             when(userRepository.getReferenceById(ASSIGNEE_ID))     .thenReturn(assigneeProxy);
             when(tagRepository.getReferenceById(TAG_ID_1))         .thenReturn(tagProxy1);
-            when(springDataTaskRepository.save(existingEntity))    .thenReturn(existingEntity);
+            when(springDataTaskRepository.saveAndFlush(existingEntity))    .thenReturn(existingEntity);
             when(taskPersistenceMapper.toDomain(existingEntity))   .thenReturn(updateTask);
 
             Task result = repositoryImpl.save(updateTask);
@@ -182,6 +193,44 @@ class TaskRepositoryImplTest {
             verify(teamRepository, never()).getReferenceById(any());
         }
 
+        @Test
+        @DisplayName("Existing tags: keeps unchanged rows in place, drops removed ones, references only new ids")
+        void whenTagsOverlap_changesOnlyTheDifference() {
+            UUID keptId = UUID.randomUUID();
+            UUID droppedId = UUID.randomUUID();
+            UUID addedId = UUID.randomUUID();
+            TagEntity kept = TagEntity.builder().id(keptId).build();
+            TagEntity dropped = TagEntity.builder().id(droppedId).build();
+            TagEntity added = TagEntity.builder().id(addedId).build();
+
+            TaskEntity existingEntity = new TaskEntity();
+            Set<TagEntity> mappedTags = new HashSet<>(Set.of(kept, dropped));
+            existingEntity.setTags(mappedTags);
+
+            Task retagged = Task.builder()
+                    .id(TASK_ID)
+                    .teamId(TEAM_ID)
+                    .title("Retagged")
+                    .description("Desc")
+                    .status(TaskStatus.TODO)
+                    .priority(TaskPriority.MEDIUM)
+                    .categoryId(CATEGORY_ID)
+                    .tagIds(Set.of(keptId, addedId))
+                    .build();
+
+            when(springDataTaskRepository.findById(TASK_ID))      .thenReturn(Optional.of(existingEntity));
+            when(categoryRepository.getReferenceById(CATEGORY_ID)).thenReturn(categoryProxy);
+            when(tagRepository.getReferenceById(addedId))        .thenReturn(added);
+            when(springDataTaskRepository.saveAndFlush(existingEntity))   .thenReturn(existingEntity);
+
+            repositoryImpl.save(retagged);
+
+            // same collection instance, so Hibernate diffs it instead of recreating it
+            assertThat(existingEntity.getTags()).isSameAs(mappedTags).containsExactlyInAnyOrder(kept, added);
+            verify(tagRepository).getReferenceById(addedId);
+            verify(tagRepository, never()).getReferenceById(keptId);
+        }
+
         // ── EXISTING entity (id != null, NOT found) ──────────────────────────
         @Test
         @DisplayName("Existing task: throws EntityNotFoundException if entity not found")
@@ -225,7 +274,7 @@ class TaskRepositoryImplTest {
 
             when(teamRepository.getReferenceById(TEAM_ID))      .thenReturn(teamProxy);
             when(userRepository.getReferenceById(ASSIGNEE_ID))  .thenReturn(assigneeProxy);
-            when(springDataTaskRepository.save(any()))          .thenReturn(savedEntity);
+            when(springDataTaskRepository.saveAndFlush(any()))          .thenReturn(savedEntity);
             when(taskPersistenceMapper.toDomain(savedEntity))   .thenReturn(noCategory);
 
             repositoryImpl.save(noCategory);
@@ -251,7 +300,7 @@ class TaskRepositoryImplTest {
                     .build();
 
             when(teamRepository.getReferenceById(TEAM_ID))    .thenReturn(teamProxy);
-            when(springDataTaskRepository.save(any()))        .thenReturn(savedEntity);
+            when(springDataTaskRepository.saveAndFlush(any()))        .thenReturn(savedEntity);
             when(taskPersistenceMapper.toDomain(savedEntity)).thenReturn(unassigned);
 
             repositoryImpl.save(unassigned);
@@ -259,7 +308,7 @@ class TaskRepositoryImplTest {
             verify(userRepository, never()).getReferenceById(any());
 
             ArgumentCaptor<TaskEntity> captor = ArgumentCaptor.forClass(TaskEntity.class);
-            verify(springDataTaskRepository).save(captor.capture());
+            verify(springDataTaskRepository).saveAndFlush(captor.capture());
             assertThat(captor.getValue().getAssignee()).isNull();
         }
 
@@ -285,7 +334,7 @@ class TaskRepositoryImplTest {
                     .build();
 
             when(springDataTaskRepository.findById(TASK_ID))     .thenReturn(Optional.of(entityWithTags));
-            when(springDataTaskRepository.save(entityWithTags))  .thenReturn(entityWithTags);
+            when(springDataTaskRepository.saveAndFlush(entityWithTags))  .thenReturn(entityWithTags);
             when(taskPersistenceMapper.toDomain(entityWithTags)).thenReturn(nullTags);
 
             repositoryImpl.save(nullTags);
@@ -316,7 +365,7 @@ class TaskRepositoryImplTest {
                     .build();
 
             when(springDataTaskRepository.findById(TASK_ID))     .thenReturn(Optional.of(entityWithTags));
-            when(springDataTaskRepository.save(entityWithTags))  .thenReturn(entityWithTags);
+            when(springDataTaskRepository.saveAndFlush(entityWithTags))  .thenReturn(entityWithTags);
             when(taskPersistenceMapper.toDomain(entityWithTags)).thenReturn(emptyTags);
 
             repositoryImpl.save(emptyTags);
@@ -325,6 +374,44 @@ class TaskRepositoryImplTest {
         }
     }
 
+    // ═══════════════════════════════════════════════════════════════════════════
+    // createAll()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("createAll()")
+    class CreateAll {
+
+        @Test
+        @DisplayName("New tasks: one entity per task with reference proxies, saved in one saveAll call")
+        void savesAllEntitiesAtOnce() {
+            when(teamRepository.getReferenceById(TEAM_ID))           .thenReturn(teamProxy);
+            when(categoryRepository.getReferenceById(CATEGORY_ID))  .thenReturn(categoryProxy);
+            when(userRepository.getReferenceById(ASSIGNEE_ID))      .thenReturn(assigneeProxy);
+            when(tagRepository.getReferenceById(TAG_ID_1))          .thenReturn(tagProxy1);
+            when(tagRepository.getReferenceById(TAG_ID_2))          .thenReturn(tagProxy2);
+            when(springDataTaskRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+            Task expectedDomain = Task.builder().id(TASK_ID).build();
+            when(taskPersistenceMapper.toDomain(any(TaskEntity.class))).thenReturn(expectedDomain);
+
+            List<Task> result = repositoryImpl.createAll(List.of(domainTask, domainTask));
+
+            assertThat(result).containsExactly(expectedDomain, expectedDomain);
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<TaskEntity>> captor = ArgumentCaptor.forClass(List.class);
+            verify(springDataTaskRepository).saveAll(captor.capture());
+            assertThat(captor.getValue()).hasSize(2).allSatisfy(entity -> {
+                assertThat(entity.getId()).isNull();
+                assertThat(entity.getTeam()).isSameAs(teamProxy);
+                assertThat(entity.getCategory()).isSameAs(categoryProxy);
+                assertThat(entity.getTags()).containsExactlyInAnyOrder(tagProxy1, tagProxy2);
+            });
+            verify(springDataTaskRepository, never()).findById(any());
+        }
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // findById()
     // ═══════════════════════════════════════════════════════════════════════════
@@ -356,6 +443,40 @@ class TaskRepositoryImplTest {
         }
     }
 
+    // ═══════════════════════════════════════════════════════════════════════════
+    // updateStatus() / updateAssignee()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("updateStatus() / updateAssignee()")
+    class TargetedUpdates {
+
+        @Test
+        @DisplayName("One row affected: true, no entity loaded")
+        void whenRowMatches_returnsTrue() {
+            when(springDataTaskRepository.updateStatus(eq(TEAM_ID), eq(TASK_ID), eq(TaskStatus.DONE), any(Instant.class), isNull()))
+                    .thenReturn(1);
+            when(springDataTaskRepository.updateAssignee(eq(TEAM_ID), eq(TASK_ID), eq(ASSIGNEE_ID), any(Instant.class), eq(3L)))
+                    .thenReturn(1);
+
+            assertThat(repositoryImpl.updateStatus(TEAM_ID, TASK_ID, TaskStatus.DONE, null)).isTrue();
+            assertThat(repositoryImpl.updateAssignee(TEAM_ID, TASK_ID, ASSIGNEE_ID, 3L)).isTrue();
+            verify(springDataTaskRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("No row affected (missing, other team or stale version): false")
+        void whenNoRowMatches_returnsFalse() {
+            when(springDataTaskRepository.updateStatus(eq(TEAM_ID), eq(TASK_ID), eq(TaskStatus.DONE), any(Instant.class), eq(3L)))
+                    .thenReturn(0);
+            when(springDataTaskRepository.updateAssignee(eq(TEAM_ID), eq(TASK_ID), isNull(), any(Instant.class), isNull()))
+                    .thenReturn(0);
+
+            assertThat(repositoryImpl.updateStatus(TEAM_ID, TASK_ID, TaskStatus.DONE, 3L)).isFalse();
+            assertThat(repositoryImpl.updateAssignee(TEAM_ID, TASK_ID, null, null)).isFalse();
+        }
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // deleteById()
     // ═══════════════════════════════════════════════════════════════════════════
@@ -376,35 +497,60 @@ class TaskRepositoryImplTest {
     }
 
     // ═══════════════════════════════════════════════════════════════════════════
-    // findAllByTeamIdAndStatus()
+    // findPage()
     // ═══════════════════════════════════════════════════════════════════════════
 
     @Nested
-    @DisplayName("findAllByTeamIdAndStatus()")
-    class FindAllByTeamIdAndStatus {
+    @DisplayName("findPage()")
+    class FindPage {
+
+        private final TaskFilter todo = TaskFilter.byStatus(TaskStatus.TODO);
 
         @Test
-        @DisplayName("Returns projection list from SpringData")
-        void returnsProjectionList() {
-            TaskInfoProjection proj1 = mock(TaskInfoProjection.class);
-            TaskInfoProjection proj2 = mock(TaskInfoProjection.class);
-            List<TaskInfoProjection> expected = List.of(proj1, proj2);
+        @DisplayName("First page: scalar rows plus one batch tag query, stitched in row order")
+        void firstPage_stitchesTagsIntoRows() {
+            TaskView task1 = taskView(UUID.randomUUID());
+            TaskView task2 = taskView(UUID.randomUUID());
+            TaskTagRow tag1 = new TaskTagRow(task1.id(), UUID.randomUUID(), "urgent", "#FF0000");
+            TaskTagRow tag2 = new TaskTagRow(task1.id(), UUID.randomUUID(), "docs", "#00FF00");
+
+            when(springDataTaskRepository.findPage(TEAM_ID, todo, null, 2)).thenReturn(List.of(task1, task2));
+            when(springDataTaskRepository.findTagRowsByTaskIdIn(List.of(task1.id(), task2.id())))
+                    .thenReturn(List.of(tag1, tag2));
+
+            List<TaskView> result = repositoryImpl.findPage(TEAM_ID, todo, null, 2);
+
+            assertThat(result).extracting(TaskView::id).containsExactly(task1.id(), task2.id());
+            assertThat(result.get(0).tags()).containsExactly(tag1.toTagView(), tag2.toTagView());
+            assertThat(result.get(1).tags()).isEmpty();
+        }
 
-            when(springDataTaskRepository.findAllByTeamIdAndStatus(TEAM_ID, TaskStatus.TODO))
-                    .thenReturn(expected);
+        @Test
+        @DisplayName("Next page: passes the cursor on to the query")
+        void nextPage_seeksPastCursor() {
+            TaskView task = taskView(UUID.randomUUID());
+            TaskCursor cursor = new TaskCursor(Instant.parse("2025-01-01T10:00:00Z"), UUID.randomUUID());
 
-            List<TaskInfoProjection> result = repositoryImpl.findAllByTeamIdAndStatus(TEAM_ID, TaskStatus.TODO);
+            when(springDataTaskRepository.findPage(TEAM_ID, todo, cursor, 10)).thenReturn(List.of(task));
+            when(springDataTaskRepository.findTagRowsByTaskIdIn(List.of(task.id()))).thenReturn(List.of());
 
-            assertThat(result).hasSize(2).containsExactly(proj1, proj2);
+            assertThat(repositoryImpl.findPage(TEAM_ID, todo, cursor, 10))
+                    .extracting(TaskView::id)
+                    .containsExactly(task.id());
         }
 
         @Test
-        @DisplayName("Empty list: team has no tasks with given status")
-        void whenNoMatches_returnsEmptyList() {
-            when(springDataTaskRepository.findAllByTeamIdAndStatus(TEAM_ID, TaskStatus.DONE))
-                    .thenReturn(Collections.emptyList());
+        @DisplayName("Empty page: skips the tag query")
+        void whenNoRows_returnsEmptyList() {
+            when(springDataTaskRepository.findPage(TEAM_ID, todo, null, 5)).thenReturn(Collections.emptyList());
 
-            assertThat(repositoryImpl.findAllByTeamIdAndStatus(TEAM_ID, TaskStatus.DONE)).isEmpty();
+            assertThat(repositoryImpl.findPage(TEAM_ID, todo, null, 5)).isEmpty();
+            verify(springDataTaskRepository, never()).findTagRowsByTaskIdIn(any());
+        }
+
+        private TaskView taskView(UUID id) {
+            return new TaskView(id, "Title", "Description", TaskStatus.TODO, TaskPriority.MEDIUM,
+                    Instant.now(), Instant.now(), null, 0L, UUID.randomUUID(), "Backend", null, null, null);
         }
     }
 
@@ -417,20 +563,228 @@ class TaskRepositoryImplTest {
     class FindDetailsById {
 
         @Test
-        @DisplayName("Task found: Optional with projection")
-        void whenExists_returnsOptionalProjection() {
-            TaskInfoProjection proj = mock(TaskInfoProjection.class);
-            when(springDataTaskRepository.findProjectedById(TASK_ID)).thenReturn(Optional.of(proj));
+        @DisplayName("Task found: Optional with the view and its tags attached")
+        void whenExists_returnsViewWithTags() {
+            TaskView view = new TaskView(TASK_ID, "Title", "Description", TaskStatus.TODO, TaskPriority.MEDIUM,
+                    Instant.now(), Instant.now(), null, 0L, null, null, null, null, null);
+            TaskTagRow tag = new TaskTagRow(TASK_ID, UUID.randomUUID(), "urgent", "#FF0000");
+
+            when(springDataTaskRepository.findViewById(TASK_ID)).thenReturn(Optional.of(view));
+            when(springDataTaskRepository.findTagRowsByTaskIdIn(List.of(TASK_ID))).thenReturn(List.of(tag));
 
-            assertThat(repositoryImpl.findDetailsById(TASK_ID)).isPresent().contains(proj);
+            assertThat(repositoryImpl.findDetailsById(TASK_ID))
+                    .hasValueSatisfying(task -> assertThat(task.tags()).containsExactly(tag.toTagView()));
         }
 
         @Test
         @DisplayName("Task not found: Optional.empty()")
         void whenMissing_returnsEmptyOptional() {
-            when(springDataTaskRepository.findProjectedById(TASK_ID)).thenReturn(Optional.empty());
+            when(springDataTaskRepository.findViewById(TASK_ID)).thenReturn(Optional.empty());
 
             assertThat(repositoryImpl.findDetailsById(TASK_ID)).isEmpty();
+            verify(springDataTaskRepository, never()).findTagRowsByTaskIdIn(any());
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // forEachByTeamId()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("forEachByTeamId()")
+    class ForEachByTeamId {
+
+        @Test
+        @DisplayName("Rows beyond one fetch: tags loaded per chunk, tasks passed on in stream order")
+        void streamsInChunks() {
+            int chunkSize = SpringDataTaskRepository.EXPORT_FETCH_SIZE;
+            List<TaskView> rows = IntStream.range(0, chunkSize + 1)
+                    .mapToObj(i -> new TaskView(UUID.randomUUID(), "Task " + i, null, TaskStatus.TODO,
+                            TaskPriority.LOW, Instant.now(), Instant.now(), null, 0L, null, null, null, null, null))
+                    .toList();
+            TaskView last = rows.getLast();
+            TaskTagRow tag = new TaskTagRow(last.id(), UUID.randomUUID(), "urgent", "#FF0000");
+
+            when(springDataTaskRepository.streamByTeamId(TEAM_ID)).thenReturn(rows.stream());
+            when(springDataTaskRepository.findTagRowsByTaskIdIn(any())).thenReturn(List.of());
+            when(springDataTaskRepository.findTagRowsByTaskIdIn(List.of(last.id()))).thenReturn(List.of(tag));
+
+            List<TaskView> received = new ArrayList<>();
+            repositoryImpl.forEachByTeamId(TEAM_ID, received::add);
+
+            assertThat(received).extracting(TaskView::id).containsExactlyElementsOf(rows.stream().map(TaskView::id).toList());
+            assertThat(received.getLast().tags()).containsExactly(tag.toTagView());
+            verify(springDataTaskRepository, times(2)).findTagRowsByTaskIdIn(any());
+        }
+
+        @Test
+        @DisplayName("No tasks: action never called, no tag query")
+        void whenNoRows_doesNothing() {
+            when(springDataTaskRepository.streamByTeamId(TEAM_ID)).thenReturn(Stream.empty());
+
+            repositoryImpl.forEachByTeamId(TEAM_ID, task -> {
+                throw new AssertionError("unexpected task " + task);
+            });
+
+            verify(springDataTaskRepository, never()).findTagRowsByTaskIdIn(any());
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // search()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("search()")
+    class Search {
+
+        @Test
+        @DisplayName("Highlights: stored markup escaped, only the ts_headline delimiters become <mark> tags")
+        void escapesStoredMarkupAndMarksMatches() {
+            TaskView view = new TaskView(TASK_ID, "Render <mark> tags in a task", null, TaskStatus.TODO,
+                    TaskPriority.MEDIUM, Instant.now(), Instant.now(), null, 0L, null, null, null, null, null);
+            String titleHeadline = "Render <mark> tags in a " + SpringDataTaskRepository.HIGHLIGHT_START + "task"
+                                   + SpringDataTaskRepository.HIGHLIGHT_STOP;
+
+            when(springDataTaskRepository.searchFirstPage(TEAM_ID, "task", 20))
+                    .thenReturn(List.of(new SearchRow(TASK_ID, 0.5f, titleHeadline, "")));
+            when(springDataTaskRepository.findViewsByIdIn(List.of(TASK_ID))).thenReturn(List.of(view));
+            when(springDataTaskRepository.findTagRowsByTaskIdIn(List.of(TASK_ID))).thenReturn(List.of());
+
+            assertThat(repositoryImpl.search(TEAM_ID, "task", null, 20)).singleElement().satisfies(hit -> {
+                assertThat(hit.titleHighlight()).isEqualTo("Render &lt;mark&gt; tags in a <mark>task</mark>");
+                assertThat(hit.descriptionHighlight()).isNull();
+            });
+        }
+
+        private record SearchRow(UUID id, Float rank, String titleHighlight, String descriptionHighlight)
+                implements TaskSearchRowProjection {
+            @Override public UUID getId() { return id; }
+            @Override public Float getRank() { return rank; }
+            @Override public String getTitleHighlight() { return titleHighlight; }
+            @Override public String getDescriptionHighlight() { return descriptionHighlight; }
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // getDashboard()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("getDashboard()")
+    class GetDashboard {
+
+        private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+        @Test
+        @DisplayName("TOTAL/STATUS/PRIORITY rows: totals set, every status and priority present, missing ones 0")
+        void mapsCountsAndZeroFillsMissingGroups() {
+            when(springDataTaskRepository.findDashboardRows(TEAM_ID, NOW, 5)).thenReturn(List.of(
+                    new Row("TOTAL", null, null, null, 5L, 3L, 1L),
+                    new Row("STATUS", "TODO", null, null, 3L, 3L, 1L),
+                    new Row("STATUS", "DONE", null, null, 2L, 0L, 0L),
+                    new Row("PRIORITY", "HIGH", null, null, 4L, 2L, 1L),
+                    new Row("PRIORITY", "LOW", null, null, 1L, 1L, 0L)));
+
+            TeamDashboard dashboard = repositoryImpl.getDashboard(TEAM_ID, NOW, 5);
+
+            assertThat(dashboard.totalTasks()).isEqualTo(5);
+            assertThat(dashboard.openTasks()).isEqualTo(3);
+            assertThat(dashboard.overdueTasks()).isEqualTo(1);
+            assertThat(dashboard.tasksByStatus())
+                    .containsOnlyKeys(TaskStatus.values())
+                    .containsEntry(TaskStatus.TODO, 3L)
+                    .containsEntry(TaskStatus.DONE, 2L)
+                    .containsEntry(TaskStatus.IN_PROGRESS, 0L)
+                    .containsEntry(TaskStatus.DRAFT, 0L);
+            assertThat(dashboard.tasksByPriority())
+                    .containsOnlyKeys(TaskPriority.values())
+                    .containsEntry(TaskPriority.HIGH, 4L)
+                    .containsEntry(TaskPriority.LOW, 1L)
+                    .containsEntry(TaskPriority.MEDIUM, 0L);
+            assertThat(dashboard.workload()).isEmpty();
+            assertThat(dashboard.topTags()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("No rows: all counts 0, maps still complete")
+        void whenNoTasks_returnsZeroes() {
+            when(springDataTaskRepository.findDashboardRows(TEAM_ID, NOW, 5)).thenReturn(List.of());
+
+            TeamDashboard dashboard = repositoryImpl.getDashboard(TEAM_ID, NOW, 5);
+
+            assertThat(dashboard.totalTasks()).isZero();
+            assertThat(dashboard.tasksByStatus()).hasSize(TaskStatus.values().length).containsValues(0L);
+            assertThat(dashboard.tasksByPriority()).hasSize(TaskPriority.values().length).containsValues(0L);
+        }
+
+        @Test
+        @DisplayName("ASSIGNEE rows: null key is the unassigned bucket, no open tasks dropped, busiest first")
+        void mapsWorkloadBusiestFirst() {
+            UUID idle = UUID.randomUUID();
+            UUID bob = UUID.randomUUID();
+            UUID overdue = UUID.randomUUID();
+            when(springDataTaskRepository.findDashboardRows(TEAM_ID, NOW, 5)).thenReturn(List.of(
+                    new Row("ASSIGNEE", idle.toString(), "Idle", null, 4L, 0L, 0L),
+                    new Row("ASSIGNEE", null, null, null, 2L, 2L, 0L),
+                    new Row("ASSIGNEE", bob.toString(), "Bob", null, 3L, 3L, 0L),
+                    new Row("ASSIGNEE", overdue.toString(), "Carol", null, 2L, 2L, 1L)));
+
+            assertThat(repositoryImpl.getDashboard(TEAM_ID, NOW, 5).workload()).containsExactly(
+                    new TeamDashboard.AssigneeWorkload(bob, "Bob", 3, 0),
+                    new TeamDashboard.AssigneeWorkload(overdue, "Carol", 2, 1),
+                    new TeamDashboard.AssigneeWorkload(null, null, 2, 0));
+        }
+
+        @Test
+        @DisplayName("ASSIGNEE rows with equal counts: ordered by name, then id, unassigned last")
+        void breaksWorkloadTiesByNameThenId() {
+            UUID firstAlice = new UUID(0, 1);
+            UUID secondAlice = new UUID(0, 2);
+            UUID bob = new UUID(0, 3);
+            when(springDataTaskRepository.findDashboardRows(TEAM_ID, NOW, 5)).thenReturn(List.of(
+                    new Row("ASSIGNEE", null, null, null, 1L, 1L, 0L),
+                    new Row("ASSIGNEE", bob.toString(), "Bob", null, 1L, 1L, 0L),
+                    new Row("ASSIGNEE", secondAlice.toString(), "Alice", null, 1L, 1L, 0L),
+                    new Row("ASSIGNEE", firstAlice.toString(), "Alice", null, 1L, 1L, 0L)));
+
+            assertThat(repositoryImpl.getDashboard(TEAM_ID, NOW, 5).workload())
+                    .extracting(TeamDashboard.AssigneeWorkload::assigneeId)
+                    .containsExactly(firstAlice, secondAlice, bob, null);
+        }
+
+        @Test
+        @DisplayName("TAG rows: kept in query order, including tags without open tasks")
+        void mapsTagsInQueryOrder() {
+            when(springDataTaskRepository.findDashboardRows(TEAM_ID, NOW, 5)).thenReturn(List.of(
+                    new Row("TAG", TAG_ID_1.toString(), "backend", "#00FF00", 3L, 2L, null),
+                    new Row("TAG", TAG_ID_2.toString(), "archived", "#999999", 4L, 0L, null)));
+
+            assertThat(repositoryImpl.getDashboard(TEAM_ID, NOW, 5).topTags()).containsExactly(
+                    new TeamDashboard.TagUsage(TAG_ID_1, "backend", "#00FF00", 2, 3),
+                    new TeamDashboard.TagUsage(TAG_ID_2, "archived", "#999999", 0, 4));
+        }
+
+        @Test
+        @DisplayName("Unknown dimension: IllegalStateException")
+        void whenUnknownDimension_throws() {
+            when(springDataTaskRepository.findDashboardRows(TEAM_ID, NOW, 5)).thenReturn(List.of(
+                    new Row("CATEGORY", CATEGORY_ID.toString(), "Backend", null, 1L, 1L, 0L)));
+
+            assertThatThrownBy(() -> repositoryImpl.getDashboard(TEAM_ID, NOW, 5))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("CATEGORY");
+        }
+
+        private record Row(String dimension, String groupKey, String label, String color,
+                           Long tasks, Long openTasks, Long overdueTasks) implements DashboardRowProjection {
+            @Override public String getDimension() { return dimension; }
+            @Override public String getGroupKey() { return groupKey; }
+            @Override public String getLabel() { return label; }
+            @Override public String getColor() { return color; }
+            @Override public Long getTasks() { return tasks; }
+            @Override public Long getOpenTasks() { return openTasks; }
+            @Override public Long getOverdueTasks() { return overdueTasks; }
         }
     }
 
@@ -273,27 +273,13 @@ class TeamRepositoryImplTest {
     }
 
     // ═══════════════════════════════════════════════════════════════════════════
-    // isMember() / isOwner()
+    // isOwner() / member ids
     // ═══════════════════════════════════════════════════════════════════════════
 
     @Nested
-    @DisplayName("isMember() / isOwner()")
+    @DisplayName("isOwner() / member ids")
     class MembershipChecks {
 
-        @Test
-        @DisplayName("isMember - user is a member")
-        void isMember_true() {
-            when(springDataTeamRepository.isMember(TEAM_ID, USER_ID_1)).thenReturn(true);
-            assertThat(repositoryImpl.isMember(TEAM_ID, USER_ID_1)).isTrue();
-        }
-
-        @Test
-        @DisplayName("isMember - user is NOT a member")
-        void isMember_false() {
-            when(springDataTeamRepository.isMember(TEAM_ID, USER_ID_1)).thenReturn(false);
-            assertThat(repositoryImpl.isMember(TEAM_ID, USER_ID_1)).isFalse();
-        }
-
         @Test
         @DisplayName("isOwner - user is the owner")
         void isOwner_true() {
@@ -307,6 +293,20 @@ class TeamRepositoryImplTest {
             when(springDataTeamRepository.isOwner(TEAM_ID, USER_ID_1)).thenReturn(false);
             assertThat(repositoryImpl.isOwner(TEAM_ID, USER_ID_1)).isFalse();
         }
+
+        @Test
+        @DisplayName("findTeamIdsByMemberId - delegates to SpringData")
+        void findTeamIdsByMemberId_returnsIds() {
+            when(springDataTeamRepository.findTeamIdsByMemberId(USER_ID_1)).thenReturn(Set.of(TEAM_ID));
+            assertThat(repositoryImpl.findTeamIdsByMemberId(USER_ID_1)).containsExactly(TEAM_ID);
+        }
+
+        @Test
+        @DisplayName("findMemberIds - delegates to SpringData")
+        void findMemberIds_returnsIds() {
+            when(springDataTeamRepository.findMemberIdsByTeamId(TEAM_ID)).thenReturn(Set.of(USER_ID_1));
+            assertThat(repositoryImpl.findMemberIds(TEAM_ID)).containsExactly(USER_ID_1);
+        }
     }
 
     // ═══════════════════════════════════════════════════════════════════════════
@@ -380,6 +380,37 @@ class TeamRepositoryImplTest {
         }
     }
 
+    // ═══════════════════════════════════════════════════════════════════════════
+    // board version
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("findBoardVersion() / incrementBoardVersion()")
+    class BoardVersion {
+
+        @Test
+        @DisplayName("Reads the version with a scalar query, no entity loaded")
+        void readsScalarVersion() {
+            when(springDataTeamRepository.findBoardVersionById(TEAM_ID)).thenReturn(Optional.of(4L));
+
+            assertThat(repositoryImpl.findBoardVersion(TEAM_ID)).contains(4L);
+            verify(springDataTeamRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Increments per team and per user shown with bulk UPDATEs")
+        void incrementsWithBulkUpdates() {
+            UUID userId = UUID.randomUUID();
+
+            repositoryImpl.incrementBoardVersion(TEAM_ID);
+            repositoryImpl.incrementBoardVersionsShowingUser(userId);
+
+            verify(springDataTeamRepository).incrementBoardVersion(TEAM_ID);
+            verify(springDataTeamRepository).incrementBoardVersionsShowingUser(userId);
+            verify(springDataTeamRepository, never()).save(any());
+        }
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // getTeamDetailsById()
     // ═══════════════════════════════════════════════════════════════════════════
@@ -218,4 +218,21 @@ class UserRepositoryImplTest {
             verify(springDataUserRepository, never()).save(any());
         }
     }
-}
\ No newline at end of file
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // incrementMembershipVersion()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("incrementMembershipVersion()")
+    class IncrementMembershipVersion {
+
+        @Test
+        @DisplayName("Delegates bulk update to SpringData")
+        void delegatesToSpringDataRepository() {
+            repositoryImpl.incrementMembershipVersion(USER_ID);
+
+            verify(springDataUserRepository).incrementMembershipVersion(USER_ID);
+        }
+    }
+}
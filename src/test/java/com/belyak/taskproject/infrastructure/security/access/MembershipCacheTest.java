@@ -0,0 +1,152 @@
+package com.belyak.taskproject.infrastructure.security.access;
+
+import com.belyak.taskproject.domain.port.repository.CategoryRepository;
+import com.belyak.taskproject.domain.port.repository.TagRepository;
+import com.belyak.taskproject.domain.port.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MembershipCache Unit Tests")
+class MembershipCacheTest {
+
+    // ── SUT ─────────────────────────────────────────────────────────────────
+    private MembershipCache membershipCache;
+
+    // ── Collaborators ────────────────────────────────────────────────────────
+    @Mock private TeamRepository teamRepository;
+    @Mock private TagRepository tagRepository;
+    @Mock private CategoryRepository categoryRepository;
+
+    // ── Fixtures ─────────────────────────────────────────────────────────────
+    private static final UUID TEAM_ID     = UUID.randomUUID();
+    private static final UUID MEMBER_ID   = UUID.randomUUID();
+    private static final UUID OUTSIDER_ID = UUID.randomUUID();
+    private static final UUID TAG_ID      = UUID.randomUUID();
+    private static final UUID CATEGORY_ID = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        MembershipCacheProperties properties = new MembershipCacheProperties();
+        properties.setMaxTeams(100);
+        properties.setMaxResources(100);
+        properties.setTtl(Duration.ofMinutes(1));
+
+        membershipCache = new MembershipCache(teamRepository, tagRepository, categoryRepository, properties);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // isMember()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("isMember()")
+    class IsMember {
+
+        @Test
+        @DisplayName("Member set is loaded once per team")
+        void loadsMemberSetOnce() {
+            when(teamRepository.findMemberIds(TEAM_ID)).thenReturn(Set.of(MEMBER_ID));
+
+            assertThat(membershipCache.isMember(TEAM_ID, MEMBER_ID)).isTrue();
+            assertThat(membershipCache.isMember(TEAM_ID, OUTSIDER_ID)).isFalse();
+            assertThat(membershipCache.isMember(TEAM_ID, MEMBER_ID)).isTrue();
+
+            verify(teamRepository, times(1)).findMemberIds(TEAM_ID);
+        }
+
+        @Test
+        @DisplayName("evictTeam(): next check reloads the member set")
+        void reloadsAfterEviction() {
+            when(teamRepository.findMemberIds(TEAM_ID))
+                    .thenReturn(Set.of(MEMBER_ID))
+                    .thenReturn(Set.of());
+
+            assertThat(membershipCache.isMember(TEAM_ID, MEMBER_ID)).isTrue();
+            membershipCache.evictTeam(TEAM_ID);
+            assertThat(membershipCache.isMember(TEAM_ID, MEMBER_ID)).isFalse();
+
+            verify(teamRepository, times(2)).findMemberIds(TEAM_ID);
+        }
+
+        @Test
+        @DisplayName("Null ids: denied without a lookup")
+        void nullIdsAreDenied() {
+            assertThat(membershipCache.isMember(null, MEMBER_ID)).isFalse();
+            assertThat(membershipCache.isMember(TEAM_ID, null)).isFalse();
+
+            verifyNoInteractions(teamRepository);
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // canAccessTag() / canAccessCategory()
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    @Nested
+    @DisplayName("canAccessTag() / canAccessCategory()")
+    class ResourceAccess {
+
+        @Test
+        @DisplayName("Tag: owning team is resolved once, membership decides")
+        void tagAccessUsesOwningTeam() {
+            when(tagRepository.findTeamIdById(TAG_ID)).thenReturn(Optional.of(TEAM_ID));
+            when(teamRepository.findMemberIds(TEAM_ID)).thenReturn(Set.of(MEMBER_ID));
+
+            assertThat(membershipCache.canAccessTag(TAG_ID, MEMBER_ID)).isTrue();
+            assertThat(membershipCache.canAccessTag(TAG_ID, OUTSIDER_ID)).isFalse();
+
+            verify(tagRepository, times(1)).findTeamIdById(TAG_ID);
+        }
+
+        @Test
+        @DisplayName("Unknown tag: denied and not cached")
+        void unknownTagIsNotCached() {
+            when(tagRepository.findTeamIdById(TAG_ID)).thenReturn(Optional.empty());
+
+            assertThat(membershipCache.canAccessTag(TAG_ID, MEMBER_ID)).isFalse();
+            assertThat(membershipCache.canAccessTag(TAG_ID, MEMBER_ID)).isFalse();
+
+            verify(tagRepository, times(2)).findTeamIdById(TAG_ID);
+            verifyNoInteractions(teamRepository);
+        }
+
+        @Test
+        @DisplayName("registerTags(): no lookup of the owning team")
+        void registeredTagSkipsLookup() {
+            when(teamRepository.findMemberIds(TEAM_ID)).thenReturn(Set.of(MEMBER_ID));
+
+            membershipCache.registerTags(TEAM_ID, List.of(TAG_ID));
+
+            assertThat(membershipCache.canAccessTag(TAG_ID, MEMBER_ID)).isTrue();
+            verifyNoInteractions(tagRepository);
+        }
+
+        @Test
+        @DisplayName("evictCategory(): deleted category is resolved again")
+        void evictedCategoryIsReloaded() {
+            when(teamRepository.findMemberIds(TEAM_ID)).thenReturn(Set.of(MEMBER_ID));
+            when(categoryRepository.findTeamIdById(CATEGORY_ID)).thenReturn(Optional.empty());
+
+            membershipCache.registerCategory(TEAM_ID, CATEGORY_ID);
+            assertThat(membershipCache.canAccessCategory(CATEGORY_ID, MEMBER_ID)).isTrue();
+
+            membershipCache.evictCategory(CATEGORY_ID);
+            assertThat(membershipCache.canAccessCategory(CATEGORY_ID, MEMBER_ID)).isFalse();
+        }
+    }
+}
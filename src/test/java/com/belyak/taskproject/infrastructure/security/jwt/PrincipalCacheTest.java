@@ -0,0 +1,90 @@
+package com.belyak.taskproject.infrastructure.security.jwt;
+
+import com.belyak.taskproject.domain.model.Role;
+import com.belyak.taskproject.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrincipalCache Unit Tests")
+class PrincipalCacheTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final String EMAIL = "john@example.com";
+
+    private PrincipalCache principalCache;
+    private AtomicInteger loads;
+    private TaskUserDetails details;
+
+    @BeforeEach
+    void setUp() {
+        PrincipalCacheProperties properties = new PrincipalCacheProperties();
+        properties.setMaxSize(100);
+        properties.setTtl(Duration.ofMinutes(1));
+
+        principalCache = new PrincipalCache(properties);
+        loads = new AtomicInteger();
+        details = new TaskUserDetails(User.restore(USER_ID, "John", EMAIL, "hash", Role.USER));
+    }
+
+    @Test
+    @DisplayName("Second lookup is served from cache")
+    void shouldLoadOnce() {
+        principalCache.get(EMAIL, email -> { loads.incrementAndGet(); return details; });
+        principalCache.get(EMAIL, email -> { loads.incrementAndGet(); return details; });
+
+        assertThat(loads).hasValue(1);
+        assertThat(principalCache.stats().hitCount()).isEqualTo(1);
+        assertThat(principalCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Unknown user: loader result null is not cached")
+    void shouldNotCacheMissingUser() {
+        assertThat(principalCache.get(EMAIL, email -> { loads.incrementAndGet(); return null; })).isEmpty();
+        assertThat(principalCache.get(EMAIL, email -> { loads.incrementAndGet(); return null; })).isEmpty();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("evict() and evictById() force a reload")
+    void shouldReloadAfterEviction() {
+        principalCache.get(EMAIL, email -> { loads.incrementAndGet(); return details; });
+        principalCache.evict(EMAIL);
+        principalCache.get(EMAIL, email -> { loads.incrementAndGet(); return details; });
+        principalCache.evictById(USER_ID);
+        principalCache.get(EMAIL, email -> { loads.incrementAndGet(); return details; });
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Eviction inside a transaction is repeated after commit: a reload meanwhile is dropped")
+    void shouldEvictAgainAfterCommit() {
+        principalCache.get(EMAIL, email -> { loads.incrementAndGet(); return details; });
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            principalCache.evict(EMAIL);
+            principalCache.evictById(USER_ID);
+            // A concurrent request re-caches the user before the writing transaction commits
+            principalCache.get(EMAIL, email -> { loads.incrementAndGet(); return details; });
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        principalCache.get(EMAIL, email -> { loads.incrementAndGet(); return details; });
+
+        assertThat(loads).hasValue(3);
+    }
+}
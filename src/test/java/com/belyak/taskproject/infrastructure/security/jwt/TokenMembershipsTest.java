@@ -0,0 +1,49 @@
+package com.belyak.taskproject.infrastructure.security.jwt;
+
+import com.belyak.taskproject.domain.model.Role;
+import com.belyak.taskproject.domain.model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenMemberships Unit Tests")
+class TokenMembershipsTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID TEAM_ID = UUID.randomUUID();
+    private static final String EMAIL = "john@example.com";
+
+    @Test
+    @DisplayName("Same user at the same membership version: current")
+    void currentForSameUserAndVersion() {
+        TokenMemberships memberships = new TokenMemberships(USER_ID, 3, Set.of(TEAM_ID));
+
+        assertThat(memberships.isCurrentFor(principal(USER_ID, 3))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Membership version changed since issue: stale")
+    void staleAfterVersionChange() {
+        TokenMemberships memberships = new TokenMemberships(USER_ID, 3, Set.of(TEAM_ID));
+
+        assertThat(memberships.isCurrentFor(principal(USER_ID, 4))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Principal with the same email and version but another id: not current")
+    void notCurrentForAnotherUser() {
+        TokenMemberships memberships = new TokenMemberships(USER_ID, 3, Set.of(TEAM_ID));
+
+        assertThat(memberships.isCurrentFor(principal(UUID.randomUUID(), 3))).isFalse();
+    }
+
+    private static TaskUserDetails principal(UUID id, long membershipVersion) {
+        return new TaskUserDetails(User.restore(id, "John", EMAIL, "hash", Role.USER).toBuilder()
+                .membershipVersion(membershipVersion)
+                .build());
+    }
+}
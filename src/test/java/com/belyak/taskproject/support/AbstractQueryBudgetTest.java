@@ -0,0 +1,154 @@
+package com.belyak.taskproject.support;
+
+import com.belyak.taskproject.AbstractIntegrationTest;
+import com.belyak.taskproject.common.util.UuidV7;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Base of the query budget suites: runs an operation against PostgreSQL and fails when it issues more SQL
+ * statements than its budget, or the same statement more than {@value #REPEATED_STATEMENT_LIMIT} times (the
+ * usual shape of an N+1 load). Every checked operation lands in the suite's {@link QueryBudgetReport}.
+ * <p>
+ * Each test seeds its own team with {@link #seedTeam()}, so the caches in front of the database start cold and
+ * budgets cover the uncached path.
+ */
+@SpringBootTest(properties = {
+        "application.security.jwt.secret-key=404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970",
+        "spring.datasource.username=test",
+        "spring.datasource.password=test",
+        "management.server.port="
+})
+@AutoConfigureMockMvc
+@Import(QueryCountingConfiguration.class)
+@ExtendWith(QueryBudgetReport.class)
+public abstract class AbstractQueryBudgetTest extends AbstractIntegrationTest {
+
+    private static final int REPEATED_STATEMENT_LIMIT = 3;
+
+    protected static final String PASSWORD = "secret123";
+    private static String encodedPassword;
+
+    @Autowired private StatementRecorder statementRecorder;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired protected PasswordEncoder passwordEncoder;
+    @Autowired protected JdbcTemplate jdbc;
+
+    /**
+     * A team with its owner and one more member, one category, two tags and three tasks assigned to the member,
+     * each with both tags.
+     */
+    protected record TeamFixture(UUID teamId, String joinCode, UUID ownerId, String ownerEmail,
+                                 UUID memberId, String memberEmail,
+                                 UUID categoryId, List<UUID> tagIds, List<UUID> taskIds) {
+    }
+
+    protected <T> T expectStatements(String operation, int budget, ThrowingSupplier<T> call) throws Throwable {
+        statementRecorder.start();
+        T result;
+        try {
+            result = call.get();
+        } finally {
+            check(operation, budget, statementRecorder.stop());
+        }
+        return result;
+    }
+
+    protected void expectStatements(String operation, int budget, Executable call) throws Throwable {
+        expectStatements(operation, budget, () -> {
+            call.execute();
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code call} in a read-write transaction, as the services call the repositories.
+     */
+    protected <T> T inTransaction(Supplier<T> call) {
+        return new TransactionTemplate(transactionManager).execute(status -> call.get());
+    }
+
+    protected void inTransaction(Runnable call) {
+        inTransaction(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    protected TeamFixture seedTeam() {
+        if (encodedPassword == null) {
+            encodedPassword = passwordEncoder.encode(PASSWORD);
+        }
+        UUID ownerId = UuidV7.next();
+        UUID memberId = UuidV7.next();
+        UUID teamId = UuidV7.next();
+        UUID categoryId = UuidV7.next();
+        List<UUID> tagIds = List.of(UuidV7.next(), UuidV7.next());
+        List<UUID> taskIds = List.of(UuidV7.next(), UuidV7.next(), UuidV7.next());
+        String ownerEmail = "owner-" + ownerId + "@example.com";
+        String memberEmail = "member-" + memberId + "@example.com";
+        String joinCode = teamId.toString().substring(28);
+
+        for (Map.Entry<UUID, String> user : Map.of(ownerId, ownerEmail, memberId, memberEmail).entrySet()) {
+            jdbc.update("INSERT INTO users (id, email, name, password, role, created_at, updated_at) " +
+                        "VALUES (?, ?, 'Budget', ?, 'USER', now(), now())", user.getKey(), user.getValue(), encodedPassword);
+        }
+        jdbc.update("INSERT INTO teams (id, name, join_code, password, status, owner_id, created_at, updated_at) " +
+                    "VALUES (?, 'Budget', ?, ?, 'ACTIVE', ?, now(), now())", teamId, joinCode, encodedPassword, ownerId);
+        jdbc.update("INSERT INTO team_members (team_id, user_id) VALUES (?, ?), (?, ?)", teamId, ownerId, teamId, memberId);
+        jdbc.update("INSERT INTO categories (id, name, is_system, team_id, created_at, updated_at) " +
+                    "VALUES (?, 'Backend', false, ?, now(), now())", categoryId, teamId);
+        for (int i = 0; i < tagIds.size(); i++) {
+            jdbc.update("INSERT INTO tags (id, name, color, team_id, created_at, updated_at) " +
+                        "VALUES (?, ?, '#336699', ?, now(), now())", tagIds.get(i), "tag-" + i, teamId);
+        }
+        for (int i = 0; i < taskIds.size(); i++) {
+            jdbc.update("INSERT INTO tasks (id, title, description, status, priority, assignee_id, category_id, " +
+                        "team_id, created_at, updated_at) VALUES (?, ?, 'Seeded', 'IN_PROGRESS', 'MEDIUM', ?, ?, ?, " +
+                        "now() - ? * interval '1 second', now())", taskIds.get(i), "Task " + i, memberId, categoryId,
+                    teamId, i);
+            for (UUID tagId : tagIds) {
+                jdbc.update("INSERT INTO task_tags (task_id, tag_id) VALUES (?, ?)", taskIds.get(i), tagId);
+            }
+        }
+        jdbc.update("INSERT INTO category_task_counts (category_id, status, task_count) VALUES (?, 'IN_PROGRESS', ?)",
+                categoryId, taskIds.size());
+        for (UUID tagId : tagIds) {
+            jdbc.update("INSERT INTO tag_task_counts (tag_id, status, task_count) VALUES (?, 'IN_PROGRESS', ?)",
+                    tagId, taskIds.size());
+        }
+        return new TeamFixture(teamId, joinCode, ownerId, ownerEmail, memberId, memberEmail, categoryId, tagIds, taskIds);
+    }
+
+    private void check(String operation, int budget, List<String> statements) {
+        QueryBudgetReport.record(getClass(), operation, statements.size(), budget);
+
+        String listing = statements.stream().map(sql -> "  " + sql).collect(Collectors.joining("\n"));
+        assertThat(statements.size())
+                .as("%s issued %d statements, budget is %d:%n%s", operation, statements.size(), budget, listing)
+                .isLessThanOrEqualTo(budget);
+        statements.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .forEach((sql, times) -> assertThat(times)
+                        .as("%s repeated a statement %d times, likely an N+1 load:%n  %s", operation, times, sql)
+                        .isLessThanOrEqualTo(REPEATED_STATEMENT_LIMIT));
+    }
+}
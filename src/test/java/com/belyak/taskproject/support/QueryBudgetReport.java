@@ -0,0 +1,65 @@
+package com.belyak.taskproject.support;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the statement count of every operation checked by a {@link AbstractQueryBudgetTest} suite and writes
+ * them as a Markdown table to {@code target/query-budgets/<suite>.md} once the suite has finished.
+ */
+public class QueryBudgetReport implements AfterAllCallback {
+
+    private static final Path DIRECTORY = Path.of("target", "query-budgets");
+    private static final Map<String, List<Entry>> ENTRIES = new ConcurrentHashMap<>();
+
+    record Entry(String operation, int statements, int budget) {
+    }
+
+    static void record(Class<?> testClass, String operation, int statements, int budget) {
+        ENTRIES.computeIfAbsent(suiteName(testClass), key -> new CopyOnWriteArrayList<>())
+                .add(new Entry(operation, statements, budget));
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        Class<?> testClass = context.getRequiredTestClass();
+        if (testClass.getEnclosingClass() != null) {
+            return; // @Nested classes report with their suite
+        }
+        List<Entry> entries = ENTRIES.remove(suiteName(testClass));
+        if (entries == null) {
+            return;
+        }
+
+        String table = entries.stream()
+                .sorted((a, b) -> a.operation().compareTo(b.operation()))
+                .map(entry -> "| %s | %d | %d |".formatted(entry.operation(), entry.statements(), entry.budget()))
+                .collect(Collectors.joining("\n",
+                        "# " + testClass.getSimpleName() + "\n\n| operation | statements | budget |\n|---|---:|---:|\n",
+                        "\n"));
+        try {
+            Files.createDirectories(DIRECTORY);
+            Files.writeString(DIRECTORY.resolve(testClass.getSimpleName() + ".md"), table);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String suiteName(Class<?> testClass) {
+        Class<?> suite = testClass;
+        while (suite.getEnclosingClass() != null) {
+            suite = suite.getEnclosingClass();
+        }
+        return suite.getName();
+    }
+}
@@ -0,0 +1,16 @@
+package com.belyak.taskproject.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Adds a {@link StatementRecorder} to the data source proxy of the application context.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountingConfiguration {
+
+    @Bean
+    StatementRecorder statementRecorder() {
+        return new StatementRecorder();
+    }
+}
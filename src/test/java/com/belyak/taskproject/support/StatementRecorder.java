@@ -0,0 +1,46 @@
+package com.belyak.taskproject.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Records the SQL of every statement execution between {@link #start()} and {@link #stop()}.
+ * A JDBC batch is one execution, i.e. one round trip, however many rows it carries.
+ */
+public class StatementRecorder implements QueryExecutionListener {
+
+    private final List<String> statements = new ArrayList<>();
+    private volatile boolean recording;
+
+    public synchronized void start() {
+        statements.clear();
+        recording = true;
+    }
+
+    public synchronized List<String> stop() {
+        recording = false;
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!recording) {
+            return;
+        }
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        synchronized (this) {
+            if (recording) {
+                statements.add(sql);
+            }
+        }
+    }
+}
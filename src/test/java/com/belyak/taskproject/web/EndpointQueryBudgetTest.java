@@ -0,0 +1,310 @@
+package com.belyak.taskproject.web;
+
+import com.belyak.taskproject.domain.model.Role;
+import com.belyak.taskproject.domain.model.User;
+import com.belyak.taskproject.infrastructure.security.jwt.JwtService;
+import com.belyak.taskproject.infrastructure.security.jwt.TaskUserDetails;
+import com.belyak.taskproject.support.AbstractQueryBudgetTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets of every REST endpoint, security checks included, for a caller whose principal and
+ * memberships are not cached yet. The SSE stream is left out: it holds no connection once subscribed.
+ */
+@DisplayName("Endpoint query budgets")
+class EndpointQueryBudgetTest extends AbstractQueryBudgetTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JwtService jwtService;
+
+    private TeamFixture team;
+    private String tasksUrl;
+
+    @BeforeEach
+    void setUp() {
+        team = seedTeam();
+        tasksUrl = "/api/v1/teams/" + team.teamId() + "/tasks";
+    }
+
+    private ResultActions call(MockHttpServletRequestBuilder request, UUID userId, String email, Object body) throws Exception {
+        authorize(request, userId, email);
+        if (body != null) {
+            request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body));
+        }
+        return mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+    }
+
+    private MockHttpServletRequestBuilder authorize(MockHttpServletRequestBuilder request, UUID userId, String email) {
+        String token = jwtService.generateToken(new TaskUserDetails(User.restore(userId, "Budget", email, "hash", Role.USER)));
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private ResultActions asOwner(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        return call(request, team.ownerId(), team.ownerEmail(), body);
+    }
+
+    private ResultActions asOwner(MockHttpServletRequestBuilder request) throws Exception {
+        return asOwner(request, null);
+    }
+
+    private Map<String, Object> taskBody(String title) {
+        return Map.of("title", title, "description", "Budget", "priority", "HIGH", "assigneeId", team.memberId(),
+                "categoryId", team.categoryId(), "tagIds", team.tagIds());
+    }
+
+    // ════════════════════════════════════════════════════════════════════════
+    @Nested
+    @DisplayName("Tasks")
+    class Tasks {
+
+        @Test
+        void list() throws Throwable {
+            expectStatements("GET /teams/{teamId}/tasks", 5, () -> asOwner(get(tasksUrl)));
+        }
+
+        @Test
+        void listFiltered() throws Throwable {
+            expectStatements("GET /teams/{teamId}/tasks (every filter)", 4, () -> asOwner(get(tasksUrl)
+                    .param("status", "TODO", "IN_PROGRESS")
+                    .param("priority", "MEDIUM")
+                    .param("assigneeId", team.memberId().toString())
+                    .param("categoryId", team.categoryId().toString())
+                    .param("tagId", team.tagIds().stream().map(UUID::toString).toArray(String[]::new))
+                    .param("tagMatch", "ALL")
+                    .param("dueTo", "2100-01-01T00:00:00Z")
+                    .param("text", "seeded")));
+        }
+
+        @Test
+        void export() throws Throwable {
+            expectStatements("GET /teams/{teamId}/tasks/export", 4, () -> {
+                MvcResult started = asOwner(get(tasksUrl + "/export")).andExpect(request().asyncStarted()).andReturn();
+                mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+            });
+        }
+
+        @Test
+        void search() throws Throwable {
+            expectStatements("GET /teams/{teamId}/tasks/search", 5,
+                    () -> asOwner(get(tasksUrl + "/search").param("q", "seeded task")));
+        }
+
+        @Test
+        void dashboard() throws Throwable {
+            expectStatements("GET /teams/{teamId}/dashboard", 4,
+                    () -> asOwner(get("/api/v1/teams/" + team.teamId() + "/dashboard")));
+        }
+
+        @Test
+        void dashboardNotModified() throws Throwable {
+            String url = "/api/v1/teams/" + team.teamId() + "/dashboard";
+            // The ETag changes every minute: keep both requests within the same one
+            long secondOfMinute = Instant.now().getEpochSecond() % 60;
+            if (secondOfMinute >= 55) {
+                Thread.sleep((60 - secondOfMinute) * 1000);
+            }
+            String eTag = asOwner(get(url)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(eTag).isNotBlank();
+
+            expectStatements("GET /teams/{teamId}/dashboard (If-None-Match)", 1, () -> mockMvc
+                    .perform(authorize(get(url), team.ownerId(), team.ownerEmail()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                    .andExpect(content().bytes(new byte[0])));
+        }
+
+        @Test
+        void details() throws Throwable {
+            expectStatements("GET /teams/{teamId}/tasks/{taskId}", 4,
+                    () -> asOwner(get(tasksUrl + "/" + team.taskIds().getFirst())));
+        }
+
+        @Test
+        void create() throws Throwable {
+            expectStatements("POST /teams/{teamId}/tasks", 7, () -> asOwner(post(tasksUrl), taskBody("Budget task")));
+        }
+
+        @Test
+        void createBatch() throws Throwable {
+            List<Map<String, Object>> tasks = IntStream.range(0, 20).mapToObj(i -> taskBody("Bulk " + i)).toList();
+
+            expectStatements("POST /teams/{teamId}/tasks/batch (20 tasks)", 9,
+                    () -> asOwner(post(tasksUrl + "/batch"), Map.of("tasks", tasks)));
+        }
+
+        @Test
+        void update() throws Throwable {
+            expectStatements("PUT /teams/{teamId}/tasks/{taskId}", 6,
+                    () -> asOwner(put(tasksUrl + "/" + team.taskIds().getFirst()), taskBody("Renamed task")));
+        }
+
+        @Test
+        void changeStatus() throws Throwable {
+            expectStatements("PATCH /teams/{teamId}/tasks/{taskId}/status", 6,
+                    () -> asOwner(patch(tasksUrl + "/" + team.taskIds().getFirst() + "/status"), Map.of("status", "DONE")));
+        }
+
+        @Test
+        void assign() throws Throwable {
+            expectStatements("PATCH /teams/{teamId}/tasks/{taskId}/assign", 4,
+                    () -> asOwner(patch(tasksUrl + "/" + team.taskIds().getFirst() + "/assign"),
+                            Map.of("assigneeId", team.ownerId())));
+        }
+
+        @Test
+        void delete() throws Throwable {
+            expectStatements("DELETE /teams/{teamId}/tasks/{taskId}", 9,
+                    () -> asOwner(MockMvcRequestBuilders.delete(tasksUrl + "/" + team.taskIds().getFirst())));
+        }
+    }
+
+    // ════════════════════════════════════════════════════════════════════════
+    @Nested
+    @DisplayName("Teams")
+    class Teams {
+
+        @Test
+        void list() throws Throwable {
+            expectStatements("GET /teams", 2, () -> asOwner(get("/api/v1/teams")));
+        }
+
+        @Test
+        void create() throws Throwable {
+            expectStatements("POST /teams", 5,
+                    () -> asOwner(post("/api/v1/teams"), Map.of("name", "Budget team", "password", "pass1234")));
+        }
+
+        @Test
+        void join() throws Throwable {
+            TeamFixture other = seedTeam();
+
+            expectStatements("POST /teams/join", 8, () -> call(post("/api/v1/teams/join"), other.ownerId(), other.ownerEmail(),
+                    Map.of("joinCode", team.joinCode(), "password", PASSWORD)));
+        }
+
+        @Test
+        void details() throws Throwable {
+            expectStatements("GET /teams/{teamId}", 3, () -> asOwner(get("/api/v1/teams/" + team.teamId())));
+        }
+
+        @Test
+        void members() throws Throwable {
+            expectStatements("GET /teams/{teamId}/members", 3,
+                    () -> asOwner(get("/api/v1/teams/" + team.teamId() + "/members")));
+        }
+
+        @Test
+        void kick() throws Throwable {
+            expectStatements("DELETE /teams/{teamId}/members/{memberId}", 8,
+                    () -> asOwner(MockMvcRequestBuilders.delete("/api/v1/teams/" + team.teamId() + "/members/" + team.memberId())));
+        }
+    }
+
+    // ════════════════════════════════════════════════════════════════════════
+    @Nested
+    @DisplayName("Tags and categories")
+    class Sidebar {
+
+        @Test
+        void listTags() throws Throwable {
+            expectStatements("GET /teams/{teamId}/tags", 3, () -> asOwner(get("/api/v1/teams/" + team.teamId() + "/tags")));
+        }
+
+        @Test
+        void createTags() throws Throwable {
+            expectStatements("POST /teams/{teamId}/tags", 6, () -> asOwner(post("/api/v1/teams/" + team.teamId() + "/tags"),
+                    Map.of("tags", List.of(Map.of("name", "red", "color", "#FF0000")))));
+        }
+
+        @Test
+        void deleteTag() throws Throwable {
+            jdbc.update("DELETE FROM task_tags WHERE tag_id = ?", team.tagIds().getFirst());
+
+            expectStatements("DELETE /tags/{tagId}", 8,
+                    () -> asOwner(MockMvcRequestBuilders.delete("/api/v1/tags/" + team.tagIds().getFirst())));
+        }
+
+        @Test
+        void listCategories() throws Throwable {
+            expectStatements("GET /teams/{teamId}/categories", 3,
+                    () -> asOwner(get("/api/v1/teams/" + team.teamId() + "/categories")));
+        }
+
+        @Test
+        void createCategory() throws Throwable {
+            expectStatements("POST /teams/{teamId}/categories", 5,
+                    () -> asOwner(post("/api/v1/teams/" + team.teamId() + "/categories"), Map.of("name", "Frontend")));
+        }
+
+        @Test
+        void deleteCategory() throws Throwable {
+            jdbc.update("DELETE FROM task_tags WHERE task_id IN (SELECT id FROM tasks WHERE team_id = ?)", team.teamId());
+            jdbc.update("DELETE FROM tasks WHERE team_id = ?", team.teamId());
+
+            expectStatements("DELETE /categories/{categoryId}", 8,
+                    () -> asOwner(MockMvcRequestBuilders.delete("/api/v1/categories/" + team.categoryId())));
+        }
+    }
+
+    // ════════════════════════════════════════════════════════════════════════
+    @Nested
+    @DisplayName("Users and authentication")
+    class Users {
+
+        @Test
+        void me() throws Throwable {
+            expectStatements("GET /users/me", 2, () -> asOwner(get("/api/v1/users/me")));
+        }
+
+        @Test
+        void updateMe() throws Throwable {
+            expectStatements("PUT /users/me", 4, () -> asOwner(put("/api/v1/users/me"), Map.of("name", "Renamed")));
+        }
+
+        @Test
+        void register() throws Throwable {
+            expectStatements("POST /auth/register", 2, () -> mockMvc.perform(post("/api/v1/auth/register")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of("name", "Budget",
+                                    "email", "new-" + UUID.randomUUID() + "@example.com", "password", PASSWORD))))
+                    .andExpect(status().is2xxSuccessful()));
+        }
+
+        @Test
+        void login() throws Throwable {
+            // authenticate() currently checks the email as the credentials, see AuthenticationServiceImplTest
+            jdbc.update("UPDATE users SET password = ? WHERE id = ?", passwordEncoder.encode(team.memberEmail()), team.memberId());
+
+            expectStatements("POST /auth/login", 2, () -> mockMvc.perform(post("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of("email", team.memberEmail(), "password", PASSWORD))))
+                    .andExpect(status().isOk()));
+        }
+    }
+}